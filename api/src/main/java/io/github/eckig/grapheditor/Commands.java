@@ -4,14 +4,20 @@
 package io.github.eckig.grapheditor;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.eclipse.emf.common.command.AbstractCommand;
 import org.eclipse.emf.common.command.Command;
 import org.eclipse.emf.common.command.CompoundCommand;
-import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.edit.command.AddCommand;
 import org.eclipse.emf.edit.command.RemoveCommand;
 import org.eclipse.emf.edit.command.SetCommand;
@@ -57,17 +63,10 @@ public class Commands
     private static final EReference NODES = GraphPackage.Literals.GMODEL__NODES;
     private static final EReference CONNECTIONS = GraphPackage.Literals.GMODEL__CONNECTIONS;
 
-    private static final EAttribute NODE_X = GraphPackage.Literals.GNODE__X;
-    private static final EAttribute NODE_Y = GraphPackage.Literals.GNODE__Y;
-    private static final EAttribute NODE_WIDTH = GraphPackage.Literals.GNODE__WIDTH;
-    private static final EAttribute NODE_HEIGHT = GraphPackage.Literals.GNODE__HEIGHT;
     private static final EReference NODE_CONNECTORS = GraphPackage.Literals.GNODE__CONNECTORS;
 
     private static final EReference CONNECTOR_CONNECTIONS = GraphPackage.Literals.GCONNECTOR__CONNECTIONS;
 
-    private static final EAttribute JOINT_X = GraphPackage.Literals.GJOINT__X;
-    private static final EAttribute JOINT_Y = GraphPackage.Literals.GJOINT__Y;
-
     /**
      * Static class, not to be instantiated.
      */
@@ -237,7 +236,8 @@ public class Commands
      * Updates the model's layout values to match those in the skin instances.
      *
      * <p>
-     * This method adds set operations to the given compound command but does <b>not</b> execute it.
+     * This method adds a single {@link MoveResizeCommand} for all changed layout values to the given compound command
+     * but does <b>not</b> execute it.
      * </p>
      *
      * @param command a {@link CompoundCommand} to which the set commands will be added
@@ -251,43 +251,108 @@ public class Commands
 
         if (editingDomain != null)
         {
+            final MoveResizeCommand moveResize = new MoveResizeCommand();
             for (final GNode node : model.getNodes())
             {
-                final GNodeSkin nodeSkin = skinLookup.lookupNode(node);
-                if (nodeSkin != null && checkNodeChanged(node, nodeSkin))
-                {
-                    final Region nodeRegion = nodeSkin.getRoot();
-                    command.append(SetCommand.create(editingDomain, node, NODE_X, nodeRegion.getLayoutX()));
-                    command.append(SetCommand.create(editingDomain, node, NODE_Y, nodeRegion.getLayoutY()));
-                    command.append(SetCommand.create(editingDomain, node, NODE_WIDTH, nodeRegion.getWidth()));
-                    command.append(SetCommand.create(editingDomain, node, NODE_HEIGHT, nodeRegion.getHeight()));
-                }
+                updateNode(node, moveResize, skinLookup);
             }
 
             for (final GConnection connection : model.getConnections())
             {
-                updateConnector(connection.getSource(), command, editingDomain, skinLookup);
-                updateConnector(connection.getTarget(), command, editingDomain, skinLookup);
+                updateConnector(connection.getSource(), moveResize, skinLookup);
+                updateConnector(connection.getTarget(), moveResize, skinLookup);
 
                 for (final GJoint joint : connection.getJoints())
                 {
-                    final GJointSkin jointSkin = skinLookup.lookupJoint(joint);
-                    if (jointSkin != null && checkJointChanged(joint, jointSkin))
-                    {
-                        final Region jointRegion = jointSkin.getRoot();
-                        final double x = jointRegion.getLayoutX() + jointSkin.getWidth() / 2;
-                        final double y = jointRegion.getLayoutY() + jointSkin.getHeight() / 2;
+                    updateJoint(joint, moveResize, skinLookup);
+                }
+            }
+            appendIfNotEmpty(command, moveResize);
+        }
+    }
+
+    /**
+     * Updates the layout values of the given nodes and joints, and of the connected connectors of the given nodes, to
+     * match those in the skin instances.
+     *
+     * <p>
+     * Unlike {@link #updateLayoutValues(CompoundCommand, GModel, SkinLookup)} only the given elements are checked, e.g.
+     * the ones whose skins have been moved or resized, instead of the whole model. Elements that are not part of the
+     * given model are ignored. This method adds a single {@link MoveResizeCommand} for all changed layout values to the
+     * given compound command but does <b>not</b> execute it.
+     * </p>
+     *
+     * @param command a {@link CompoundCommand} to which the set commands will be added
+     * @param model the {@link GModel} whose layout values should be updated
+     * @param skinLookup the {@link SkinLookup} in use for this graph editor instance
+     * @param changed the {@link GNode} and {@link GJoint} instances whose skins might have changed
+     * @since 17.10.2026
+     */
+    public static void updateLayoutValues(final CompoundCommand command, final GModel model,
+            final SkinLookup skinLookup, final Collection<? extends EObject> changed)
+    {
+        final EditingDomain editingDomain = getEditingDomain(model);
 
-                        command.append(SetCommand.create(editingDomain, joint, JOINT_X, x));
-                        command.append(SetCommand.create(editingDomain, joint, JOINT_Y, y));
+        if (editingDomain != null)
+        {
+            final MoveResizeCommand moveResize = new MoveResizeCommand();
+            for (final EObject element : changed)
+            {
+                if (element instanceof GNode node && node.eContainer() == model)
+                {
+                    updateNode(node, moveResize, skinLookup);
+                    for (final GConnector connector : node.getConnectors())
+                    {
+                        if (!connector.getConnections().isEmpty())
+                        {
+                            updateConnector(connector, moveResize, skinLookup);
+                        }
                     }
                 }
+                else if (element instanceof GJoint joint && joint.getConnection() != null
+                        && joint.getConnection().eContainer() == model)
+                {
+                    updateJoint(joint, moveResize, skinLookup);
+                }
             }
+            appendIfNotEmpty(command, moveResize);
+        }
+    }
+
+    private static void appendIfNotEmpty(final CompoundCommand command, final MoveResizeCommand moveResize)
+    {
+        if (!moveResize.isEmpty())
+        {
+            command.append(moveResize);
+        }
+    }
+
+    private static void updateNode(final GNode node, final MoveResizeCommand command, final SkinLookup skinLookup)
+    {
+        final GNodeSkin nodeSkin = skinLookup.lookupNode(node);
+        if (nodeSkin != null && checkNodeChanged(node, nodeSkin))
+        {
+            final Region nodeRegion = nodeSkin.getRoot();
+            command.addNode(node, nodeRegion.getLayoutX(), nodeRegion.getLayoutY(), nodeRegion.getWidth(),
+                    nodeRegion.getHeight());
+        }
+    }
+
+    private static void updateJoint(final GJoint joint, final MoveResizeCommand command, final SkinLookup skinLookup)
+    {
+        final GJointSkin jointSkin = skinLookup.lookupJoint(joint);
+        if (jointSkin != null && checkJointChanged(joint, jointSkin))
+        {
+            final Region jointRegion = jointSkin.getRoot();
+            final double x = jointRegion.getLayoutX() + jointSkin.getWidth() / 2;
+            final double y = jointRegion.getLayoutY() + jointSkin.getHeight() / 2;
+
+            command.addJoint(joint, x, y);
         }
     }
 
-    private static void updateConnector(final GConnector connector, final CompoundCommand command,
-            final EditingDomain editingDomain, final SkinLookup skinLookup)
+    private static void updateConnector(final GConnector connector, final MoveResizeCommand command,
+            final SkinLookup skinLookup)
     {
         final GNode node = connector.getParent();
         final GConnectorSkin connectorSkin = skinLookup.lookupConnector(connector);
@@ -297,10 +362,7 @@ public class Commands
             final Point2D connectorPosition = nodeSkin.getConnectorPosition(connectorSkin);
             if (checkConnectorChanged(connector, connectorPosition))
             {
-                command.append(SetCommand.create(editingDomain, connector, GraphPackage.Literals.GCONNECTOR__X,
-                        connectorPosition.getX()));
-                command.append(SetCommand.create(editingDomain, connector, GraphPackage.Literals.GCONNECTOR__Y,
-                        connectorPosition.getY()));
+                command.addConnector(connector, connectorPosition.getX(), connectorPosition.getY());
             }
         }
     }
@@ -439,4 +501,289 @@ public class Commands
 
         return editingDomain;
     }
+
+    /**
+     * Command moving and resizing many nodes, joints and connectors at once.
+     *
+     * <p>
+     * Unlike one {@link SetCommand} per changed value, the geometry of all elements is stored in primitive arrays, so
+     * that moving large selections keeps the undo stack small. The old geometry is read from the elements when the
+     * command is executed for the first time. Undoing restores it in reverse order, redoing applies the new geometry
+     * again.
+     * </p>
+     *
+     * <p>
+     * The values are set on the elements directly, bypassing the {@link SetCommand SetCommands} of the
+     * {@link EditingDomain}, so customizations of these by item providers do not apply. Like a {@link SetCommand}, the
+     * command can not be executed if any of its elements is contained in a
+     * {@link EditingDomain#isReadOnly(Resource) read-only} resource.
+     * </p>
+     *
+     * @since 17.10.2026
+     */
+    public static final class MoveResizeCommand extends AbstractCommand
+    {
+
+        private static final String LABEL = "Move / Resize"; //$NON-NLS-1$
+
+        // x, y, width, height per element (width and height are not used for joints and connectors):
+        private static final int STRIDE = 4;
+        private static final int INITIAL_CAPACITY = 16;
+
+        private EObject[] elements = new EObject[INITIAL_CAPACITY];
+        private double[] oldGeometry;
+        private double[] newGeometry = new double[INITIAL_CAPACITY * STRIDE];
+        private int size;
+
+        /**
+         * Creates a new, empty command.
+         */
+        public MoveResizeCommand()
+        {
+            super(LABEL);
+        }
+
+        /**
+         * Adds a node to be moved to the given position and resized to the given size.
+         *
+         * @param node the {@link GNode} to move and resize
+         * @param x the new x position
+         * @param y the new y position
+         * @param width the new width
+         * @param height the new height
+         */
+        public void addNode(final GNode node, final double x, final double y, final double width,
+                final double height)
+        {
+            add(node, x, y, width, height);
+        }
+
+        /**
+         * Adds a joint to be moved to the given position.
+         *
+         * @param joint the {@link GJoint} to move
+         * @param x the new x position
+         * @param y the new y position
+         */
+        public void addJoint(final GJoint joint, final double x, final double y)
+        {
+            add(joint, x, y, 0, 0);
+        }
+
+        /**
+         * Adds a connector to be moved to the given position, relative to its node.
+         *
+         * @param connector the {@link GConnector} to move
+         * @param x the new x position
+         * @param y the new y position
+         */
+        public void addConnector(final GConnector connector, final double x, final double y)
+        {
+            add(connector, x, y, 0, 0);
+        }
+
+        /**
+         * @return the number of elements moved or resized by this command
+         */
+        public int size()
+        {
+            return size;
+        }
+
+        /**
+         * @return {@code true} if this command does not move or resize any element
+         */
+        public boolean isEmpty()
+        {
+            return size == 0;
+        }
+
+        private void add(final EObject element, final double x, final double y, final double width,
+                final double height)
+        {
+            if (oldGeometry != null)
+            {
+                throw new IllegalStateException("Elements can not be added after the command has been executed."); //$NON-NLS-1$
+            }
+            if (size == elements.length)
+            {
+                elements = Arrays.copyOf(elements, 2 * size);
+                newGeometry = Arrays.copyOf(newGeometry, 2 * size * STRIDE);
+            }
+
+            elements[size] = element;
+            final int offset = size * STRIDE;
+            newGeometry[offset] = x;
+            newGeometry[offset + 1] = y;
+            newGeometry[offset + 2] = width;
+            newGeometry[offset + 3] = height;
+            size++;
+        }
+
+        @Override
+        protected boolean prepare()
+        {
+            if (size == 0)
+            {
+                return false;
+            }
+
+            // the elements are mostly contained in the same resource, check each resource only once in a row:
+            Resource checked = null;
+            for (int i = 0; i < size; i++)
+            {
+                final Resource resource = elements[i].eResource();
+                if (resource != null && resource != checked)
+                {
+                    final EditingDomain domain = AdapterFactoryEditingDomain.getEditingDomainFor(elements[i]);
+                    if (domain != null && domain.isReadOnly(resource))
+                    {
+                        return false;
+                    }
+                    checked = resource;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Merges the given, later command into this one, so that undoing this command restores the geometry from
+         * before this command and redoing it applies the geometry of the given command.
+         *
+         * <p>
+         * Both commands have to be executed and have to move or resize the same elements.
+         * </p>
+         *
+         * @param next the command executed after this one
+         * @return {@code true} if the given command was merged, {@code false} if the commands do not affect the same
+         *         elements
+         * @since 17.10.2026
+         */
+        public boolean coalesce(final MoveResizeCommand next)
+        {
+            if (oldGeometry == null || next.oldGeometry == null || next.size != size)
+            {
+                return false;
+            }
+
+            if (Arrays.equals(elements, 0, size, next.elements, 0, size))
+            {
+                System.arraycopy(next.newGeometry, 0, newGeometry, 0, size * STRIDE);
+                return true;
+            }
+
+            final Map<EObject, Integer> indices = new IdentityHashMap<>(size);
+            for (int i = 0; i < size; i++)
+            {
+                indices.put(elements[i], i);
+            }
+            if (indices.size() != size)
+            {
+                // elements occurring more than once can only be merged in the same order:
+                return false;
+            }
+
+            final int[] mapping = new int[size];
+            for (int i = 0; i < size; i++)
+            {
+                final Integer index = indices.remove(next.elements[i]);
+                if (index == null)
+                {
+                    return false;
+                }
+                mapping[i] = index;
+            }
+            for (int i = 0; i < size; i++)
+            {
+                System.arraycopy(next.newGeometry, i * STRIDE, newGeometry, mapping[i] * STRIDE, STRIDE);
+            }
+            return true;
+        }
+
+        @Override
+        public void execute()
+        {
+            // no more elements can be added, release the unused capacity:
+            elements = Arrays.copyOf(elements, size);
+            newGeometry = Arrays.copyOf(newGeometry, size * STRIDE);
+            oldGeometry = new double[size * STRIDE];
+            for (int i = 0; i < size; i++)
+            {
+                read(elements[i], oldGeometry, i * STRIDE);
+                apply(elements[i], newGeometry, i * STRIDE);
+            }
+        }
+
+        @Override
+        public boolean canUndo()
+        {
+            return oldGeometry != null;
+        }
+
+        @Override
+        public void undo()
+        {
+            for (int i = size - 1; i >= 0; i--)
+            {
+                apply(elements[i], oldGeometry, i * STRIDE);
+            }
+        }
+
+        @Override
+        public void redo()
+        {
+            for (int i = 0; i < size; i++)
+            {
+                apply(elements[i], newGeometry, i * STRIDE);
+            }
+        }
+
+        @Override
+        public Collection<?> getAffectedObjects()
+        {
+            return List.of(Arrays.copyOf(elements, size));
+        }
+
+        private static void read(final EObject element, final double[] geometry, final int offset)
+        {
+            if (element instanceof GNode node)
+            {
+                geometry[offset] = node.getX();
+                geometry[offset + 1] = node.getY();
+                geometry[offset + 2] = node.getWidth();
+                geometry[offset + 3] = node.getHeight();
+            }
+            else if (element instanceof GJoint joint)
+            {
+                geometry[offset] = joint.getX();
+                geometry[offset + 1] = joint.getY();
+            }
+            else if (element instanceof GConnector connector)
+            {
+                geometry[offset] = connector.getX();
+                geometry[offset + 1] = connector.getY();
+            }
+        }
+
+        private static void apply(final EObject element, final double[] geometry, final int offset)
+        {
+            if (element instanceof GNode node)
+            {
+                node.setX(geometry[offset]);
+                node.setY(geometry[offset + 1]);
+                node.setWidth(geometry[offset + 2]);
+                node.setHeight(geometry[offset + 3]);
+            }
+            else if (element instanceof GJoint joint)
+            {
+                joint.setX(geometry[offset]);
+                joint.setY(geometry[offset + 1]);
+            }
+            else if (element instanceof GConnector connector)
+            {
+                connector.setX(geometry[offset]);
+                connector.setY(geometry[offset + 1]);
+            }
+        }
+    }
 }
@@ -3,12 +3,19 @@
  */
 package io.github.eckig.grapheditor;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import io.github.eckig.grapheditor.model.GNode;
 import io.github.eckig.grapheditor.utils.DraggableBox;
 import io.github.eckig.grapheditor.utils.ResizableBox;
+import javafx.beans.value.ChangeListener;
 import javafx.geometry.Point2D;
+import javafx.scene.Node;
 
 /**
  * The skin class for a {@link GNode}. Responsible for visualizing nodes in the graph editor.
@@ -31,6 +38,13 @@ public abstract class GNodeSkin extends GSkin<GNode>
 
     private final DraggableBox root;
 
+    // positions of the connector centers relative to the node region, valid until the node or a connector is moved,
+    // resized or relayed out:
+    private final Map<GConnectorSkin, double[]> connectorPositions = new IdentityHashMap<>();
+    private final Set<GConnectorSkin> observedConnectors = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final ChangeListener<Object> boundsListener = (_, _, _) -> invalidateConnectorPositions();
+    private boolean connectorPositionsValid;
+
     /**
      * Creates a new {@link GNodeSkin}.
      *
@@ -41,6 +55,7 @@ public abstract class GNodeSkin extends GSkin<GNode>
     {
         super(node);
         root = createContainer();
+        root.layoutBoundsProperty().addListener(boundsListener);
     }
 
     /**
@@ -100,6 +115,103 @@ public abstract class GNodeSkin extends GSkin<GNode>
      */
     public abstract Point2D getConnectorPosition(GConnectorSkin connectorSkin);
 
+    /**
+     * Writes the cached position of the <b>center</b> of a connector relative to the node region into the given array.
+     *
+     * <p>
+     * The connectors are only laid out and their positions only queried via
+     * {@link #getConnectorPosition(GConnectorSkin)} after the cache has been
+     * {@link #invalidateConnectorPositions() invalidated}.
+     * </p>
+     *
+     * @param connectorSkin
+     *         a {@link GConnectorSkin} instance
+     * @param target
+     *         the array to write the x and y coordinates to
+     * @param offset
+     *         the index of the x coordinate in the target array
+     * @since 17.10.2026
+     */
+    public final void fillConnectorPosition(final GConnectorSkin connectorSkin, final double[] target, final int offset)
+    {
+        if (!connectorPositionsValid)
+        {
+            connectorPositions.clear();
+            releaseDetachedConnectors();
+            layoutConnectors();
+            connectorPositionsValid = true;
+        }
+
+        double[] position = connectorPositions.get(connectorSkin);
+        if (position == null)
+        {
+            observeConnector(connectorSkin);
+            final Point2D point = getConnectorPosition(connectorSkin);
+            position = new double[] { point.getX(), point.getY() };
+            connectorPositions.put(connectorSkin, position);
+        }
+        target[offset] = position[0];
+        target[offset + 1] = position[1];
+    }
+
+    /**
+     * Invalidates the cached connector positions.
+     *
+     * <p>
+     * This happens automatically if the layout bounds of the node region
+     * change, if the bounds of a connector's root change within its parent, or
+     * if the connector skins are set by the graph editor. Skins that move their
+     * connectors on other occasions, e.g. by moving a container in between the
+     * node region and the connectors, should call this method.
+     * </p>
+     *
+     * @since 17.10.2026
+     */
+    public void invalidateConnectorPositions()
+    {
+        connectorPositionsValid = false;
+    }
+
+    private void observeConnector(final GConnectorSkin pConnectorSkin)
+    {
+        final Node connectorRoot = pConnectorSkin.getRoot();
+        if (connectorRoot != null && observedConnectors.add(pConnectorSkin))
+        {
+            connectorRoot.boundsInParentProperty().addListener(boundsListener);
+        }
+    }
+
+    /**
+     * Stops observing the connectors that were removed from this node since the cache was filled.
+     */
+    private void releaseDetachedConnectors()
+    {
+        for (final Iterator<GConnectorSkin> iter = observedConnectors.iterator(); iter.hasNext();)
+        {
+            final Node connectorRoot = iter.next().getRoot();
+            if (connectorRoot == null || !isInside(connectorRoot))
+            {
+                if (connectorRoot != null)
+                {
+                    connectorRoot.boundsInParentProperty().removeListener(boundsListener);
+                }
+                iter.remove();
+            }
+        }
+    }
+
+    private boolean isInside(final Node pNode)
+    {
+        for (Node parent = pNode.getParent(); parent != null; parent = parent.getParent())
+        {
+            if (parent == root)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Creates and returns the {@link DraggableBox} that serves as the root for this node skin.<br> By default a
      * {@link ResizableBox} will be created and return as most nodes will be both draggable and resizable.
@@ -116,6 +228,7 @@ public abstract class GNodeSkin extends GSkin<GNode>
             {
                 super.layoutChildren();
                 layoutConnectors();
+                invalidateConnectorPositions();
             }
         };
     }
@@ -47,7 +47,7 @@ public abstract class GSkin<T extends EObject>
     };
 
     private GraphEditor graphEditor;
-    private final T item;
+    private T item;
 
     /**
      * Constructor
@@ -156,6 +156,42 @@ public abstract class GSkin<T extends EObject>
         graphEditor = null;
     }
 
+    /**
+     * Rebinds this previously {@link #dispose() disposed} skin to another item,
+     * so that it can be reused instead of creating a new skin.
+     *
+     * <p>
+     * The new item has the same type as the previous one and is handed out by
+     * the same skin factory. Implementations should call
+     * {@link #setItem(EObject)} and reset all state derived from the previous
+     * item. The framework will then initialize the skin as if it had just been
+     * created. The default implementation does not support rebinding.
+     * </p>
+     *
+     * @param pItem
+     *            new item represented by this skin
+     * @return {@code true} if this skin now represents the given item,
+     *         {@code false} if it cannot be reused
+     * @since 17.10.2026
+     */
+    public boolean rebind(final T pItem)
+    {
+        return false;
+    }
+
+    /**
+     * Sets the item represented by this skin. Should only be called when
+     * {@link #rebind(EObject) rebinding}.
+     *
+     * @param pItem
+     *            item represented by this skin
+     * @since 17.10.2026
+     */
+    protected final void setItem(final T pItem)
+    {
+        item = pItem;
+    }
+
     /**
      * Gets the root JavaFX node of the skin.
      *
@@ -4,6 +4,7 @@
 package io.github.eckig.grapheditor;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -17,6 +18,7 @@ import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.model.GModel;
 import io.github.eckig.grapheditor.model.GNode;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.scene.layout.Region;
 
 
@@ -82,6 +84,37 @@ public interface GraphEditor extends GraphEditorSkins
      */
     void setModel(final GModel model);
 
+    /**
+     * Sets the graph model to be edited asynchronously.
+     *
+     * <p>
+     * The model is validated on a background thread, while the current model stays interactive. Once the model has
+     * been swapped in, its skins are added to the view in chunks of one pulse each. Must be called on the JavaFX
+     * application thread.
+     * </p>
+     *
+     * <p>
+     * If {@link io.github.eckig.grapheditor.utils.GraphEditorProperties#setBackgroundSkinCreation(boolean) background
+     * skin creation} is enabled, the node and connector skins are created on the background thread as well, see
+     * {@link #setNodeSkinFactory(javafx.util.Callback)}.
+     * </p>
+     *
+     * @param model the {@link GModel} to be edited
+     * @return a {@link CompletableFuture} completed once the model is fully displayed, cancelled if another model is
+     *         set before
+     * @see #modelLoadProgressProperty()
+     * @since 17.10.2026
+     */
+    CompletableFuture<Void> setModelAsync(final GModel model);
+
+    /**
+     * The progress of the last model set with {@link #setModelAsync(GModel)}.
+     *
+     * @return the load progress from {@code 0} to {@code 1}, {@code 1} if no model is being loaded
+     * @since 17.10.2026
+     */
+    ReadOnlyDoubleProperty modelLoadProgressProperty();
+
     /**
      * Gets the graph model that is currently being edited.
      *
@@ -99,6 +132,80 @@ public interface GraphEditor extends GraphEditorSkins
      */
     void flush();
 
+    /**
+     * Begins a batch of model changes.
+     *
+     * <p>
+     * Until the matching {@link #endBatch()}, changes of the model are not
+     * processed by the editor: no skins are created or removed, the bounds
+     * are not recalculated and the connections are not redrawn. Commands
+     * executed on the command stack of an editing domain created by the
+     * editor are undone and redone as one.
+     * </p>
+     *
+     * <p>
+     * Batches can be nested, only the outermost batch has an effect.
+     * </p>
+     *
+     * @since 17.10.2026
+     */
+    void beginBatch();
+
+    /**
+     * Ends a batch of model changes begun with {@link #beginBatch()} and
+     * processes all changes made during the batch at once.
+     *
+     * @since 17.10.2026
+     */
+    void endBatch();
+
+    /**
+     * Gets the estimated memory in bytes used by the undo history of an
+     * editing domain created by the editor.
+     *
+     * @return the estimated memory in bytes, {@code -1} if unknown
+     * @see GraphEditorProperties#setUndoMemoryBudget(long)
+     * @since 17.10.2026
+     */
+    default long getUndoMemoryUsage()
+    {
+        return -1;
+    }
+
+    /**
+     * Gets the number of commands that can be undone on the command stack of
+     * an editing domain created by the editor.
+     *
+     * @return the undo depth, {@code -1} if unknown
+     * @see GraphEditorProperties#setUndoDepthLimit(int)
+     * @since 17.10.2026
+     */
+    default int getUndoDepth()
+    {
+        return -1;
+    }
+
+    /**
+     * Runs the given model changes as one batch.
+     *
+     * @param pBatch
+     *            the {@link Runnable} changing the model
+     * @see #beginBatch()
+     * @since 17.10.2026
+     */
+    default void runBatch(final Runnable pBatch)
+    {
+        beginBatch();
+        try
+        {
+            pBatch.run();
+        }
+        finally
+        {
+            endBatch();
+        }
+    }
+
     /**
      * The property containing the graph model being edited.
      *
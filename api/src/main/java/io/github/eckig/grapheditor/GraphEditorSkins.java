@@ -21,6 +21,13 @@ public interface GraphEditorSkins
     /**
      * Sets the custom node skin factory.
      *
+     * <p>
+     * If {@link io.github.eckig.grapheditor.utils.GraphEditorProperties#setBackgroundSkinCreation(boolean) background
+     * skin creation} is enabled, the factory and {@link GSkin#initialize()} of the created skins are called on a
+     * background thread while a model is {@link GraphEditor#setModelAsync(io.github.eckig.grapheditor.model.GModel)
+     * set asynchronously}. All other calls happen on the JavaFX application thread.
+     * </p>
+     *
      * @param nodeSkinFactory factory for creating the skins
      */
     void setNodeSkinFactory(final Callback<GNode, GNodeSkin> nodeSkinFactory);
@@ -28,6 +35,13 @@ public interface GraphEditorSkins
     /**
      * Sets the custom connector skin factory.
      *
+     * <p>
+     * If {@link io.github.eckig.grapheditor.utils.GraphEditorProperties#setBackgroundSkinCreation(boolean) background
+     * skin creation} is enabled, the factory is called on a background thread while a model is
+     * {@link GraphEditor#setModelAsync(io.github.eckig.grapheditor.model.GModel) set asynchronously}. All other calls
+     * happen on the JavaFX application thread.
+     * </p>
+     *
      * @param connectorSkinFactory factory for creating the skins
      */
     void setConnectorSkinFactory(final Callback<GConnector, GConnectorSkin> connectorSkinFactory);
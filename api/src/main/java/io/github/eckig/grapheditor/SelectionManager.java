@@ -3,13 +3,18 @@
  */
 package io.github.eckig.grapheditor;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.emf.ecore.EObject;
 
 import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.model.GJoint;
 import io.github.eckig.grapheditor.model.GNode;
+import javafx.beans.binding.Bindings;
+import javafx.beans.value.ObservableIntegerValue;
 import javafx.collections.ObservableSet;
 
 /**
@@ -50,6 +55,43 @@ public interface SelectionManager
      * @return the unmodifiable list of currently selected joints
      */
     List<GJoint> getSelectedJoints();
+
+    /**
+     * Gets the number of currently selected nodes, e.g. to bind UI controls to
+     * it.
+     *
+     * @return {@link ObservableIntegerValue} of the number of selected nodes
+     * @since 17.10.2026
+     */
+    default ObservableIntegerValue selectedNodeCountProperty()
+    {
+        return Bindings.createIntegerBinding(() -> getSelectedNodes().size(), getSelectedItems());
+    }
+
+    /**
+     * Gets the number of currently selected connections, e.g. to bind UI
+     * controls to it.
+     *
+     * @return {@link ObservableIntegerValue} of the number of selected
+     *         connections
+     * @since 17.10.2026
+     */
+    default ObservableIntegerValue selectedConnectionCountProperty()
+    {
+        return Bindings.createIntegerBinding(() -> getSelectedConnections().size(), getSelectedItems());
+    }
+
+    /**
+     * Gets the number of currently selected joints, e.g. to bind UI controls
+     * to it.
+     *
+     * @return {@link ObservableIntegerValue} of the number of selected joints
+     * @since 17.10.2026
+     */
+    default ObservableIntegerValue selectedJointCountProperty()
+    {
+        return Bindings.createIntegerBinding(() -> getSelectedJoints().size(), getSelectedItems());
+    }
     
     /**
      * Convenience method to inform if the given object is currently selected. Is
@@ -96,4 +138,61 @@ public interface SelectionManager
      * Clears the selection, i.e. de-selects all elements.
      */
     void clearSelection();
+
+    /**
+     * Selects all given objects as one change: implementations should inform
+     * invalidation listeners of the {@link #getSelectedItems() selected items}
+     * only once.
+     *
+     * @param objects
+     *            the objects to select
+     * @since 17.10.2026
+     */
+    default void selectAll(final Collection<? extends EObject> objects)
+    {
+        for (final EObject object : objects)
+        {
+            select(object);
+        }
+    }
+
+    /**
+     * De-selects all given objects as one change: implementations should
+     * inform invalidation listeners of the {@link #getSelectedItems() selected
+     * items} only once.
+     *
+     * @param objects
+     *            the objects to de-select
+     * @since 17.10.2026
+     */
+    default void deselectAll(final Collection<? extends EObject> objects)
+    {
+        for (final EObject object : objects)
+        {
+            clearSelection(object);
+        }
+    }
+
+    /**
+     * Replaces the current selection with the given objects as one change:
+     * implementations should inform invalidation listeners of the
+     * {@link #getSelectedItems() selected items} only once. Objects that are
+     * already selected stay selected.
+     *
+     * @param objects
+     *            the objects to select
+     * @since 17.10.2026
+     */
+    default void replaceSelection(final Collection<? extends EObject> objects)
+    {
+        final Collection<? extends EObject> selected = objects instanceof Set<?> ? objects : new HashSet<>(objects);
+        for (final EObject object : getSelectedItems().toArray(new EObject[0]))
+        {
+            if (!selected.contains(object))
+            {
+                clearSelection(object);
+            }
+        }
+        selectAll(objects);
+    }
 }
@@ -7,9 +7,20 @@ import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.model.GConnector;
 import io.github.eckig.grapheditor.model.GJoint;
 import io.github.eckig.grapheditor.model.GNode;
+import javafx.scene.Node;
 
 /**
  * Provides lookup methods to connect each model instance to its skin instance.
+ *
+ * <p>
+ * Skins may not exist for every model instance: If the editor is
+ * {@link io.github.eckig.grapheditor.utils.GraphEditorProperties#setVirtualized(boolean)
+ * virtualized}, skins are only materialized for elements inside (or close to)
+ * the visible area, and all lookup methods except {@link #lookupTail(GConnector)}
+ * return {@code null} for elements that are currently not materialized. Code
+ * that needs positions of such elements should fall back to the model values,
+ * as the methods of {@link io.github.eckig.grapheditor.utils.GeometryUtils} do.
+ * </p>
  */
 public interface SkinLookup
 {
@@ -19,7 +30,7 @@ public interface SkinLookup
      *
      * @param node a {@link GNode} instance
      *
-     * @return the associated {@link GNodeSkin} instance
+     * @return the associated {@link GNodeSkin} instance or {@code null} if no skin is materialized
      */
     GNodeSkin lookupNode(final GNode node);
 
@@ -28,7 +39,7 @@ public interface SkinLookup
      *
      * @param connector a {@link GConnector} instance
      *
-     * @return the associated {@link GConnectorSkin} instance
+     * @return the associated {@link GConnectorSkin} instance or {@code null} if no skin is materialized
      */
     GConnectorSkin lookupConnector(final GConnector connector);
 
@@ -37,7 +48,7 @@ public interface SkinLookup
      *
      * @param connection a {@link GConnection} instance
      *
-     * @return the associated {@link GConnectionSkin} instance
+     * @return the associated {@link GConnectionSkin} instance or {@code null} if no skin is materialized
      */
     GConnectionSkin lookupConnection(final GConnection connection);
 
@@ -46,7 +57,7 @@ public interface SkinLookup
      *
      * @param joint a {@link GJoint} instance
      *
-     * @return the associated {@link GJointSkin} instance
+     * @return the associated {@link GJointSkin} instance or {@code null} if no skin is materialized
      */
     GJointSkin lookupJoint(final GJoint joint);
 
@@ -58,4 +69,18 @@ public interface SkinLookup
      * @return the associated {@link GTailSkin} instance
      */
     GTailSkin lookupTail(final GConnector connector);
+
+    /**
+     * Gets the node, connector, connection or joint skin with the given root.
+     *
+     * @param root the root JavaFX node of a skin
+     *
+     * @return the associated {@link GSkin} instance or {@code null} if the given node is not the root of a
+     *         materialized skin or if this lookup does not support this
+     * @since 17.10.2026
+     */
+    default GSkin<?> lookupSkin(final Node root)
+    {
+        return null;
+    }
 }
@@ -33,7 +33,8 @@ public class GeometryUtils
      * Gets the position of the <b>center</b> of a connector in the coordinate system of the view.
      *
      * <p>
-     * Only works for connectors that are attached to nodes.
+     * Only works for connectors that are attached to nodes. If the node has no skin (e.g. because it is currently not
+     * materialized), the position is calculated from the model values.
      * <p>
      *
      * @param connector
@@ -44,26 +45,59 @@ public class GeometryUtils
      */
     public static Point2D getConnectorPosition(final GConnector connector, final SkinLookup skinLookup)
     {
-        final GConnectorSkin connectorSkin = skinLookup.lookupConnector(connector);
-        final GNode parent = connector.getParent();
+        final double[] position = new double[2];
+        fillConnectorPosition(connector, skinLookup, position, 0);
+        return new Point2D(position[0], position[1]);
+    }
 
+    /**
+     * Writes the position of the <b>center</b> of a connector in the coordinate system of the view into the given
+     * array, without allocating any objects as long as the {@link GNodeSkin#fillConnectorPosition cached connector
+     * positions} of its node are valid.
+     *
+     * <p>
+     * Only works for connectors that are attached to nodes. If the node has no skin (e.g. because it is currently not
+     * materialized), the position is calculated from the model values. If the connector isn't attached to a node,
+     * {@code 0} is written.
+     * <p>
+     *
+     * @param connector
+     *         the {@link GConnector} whose position is desired
+     * @param skinLookup
+     *         the {@link SkinLookup} instance for this graph editor
+     * @param pTarget
+     *         the array to write the x and y coordinates to
+     * @param pOffset
+     *         the index of the x coordinate in the target array
+     * @since 17.10.2026
+     */
+    public static void fillConnectorPosition(final GConnector connector, final SkinLookup skinLookup,
+            final double[] pTarget, final int pOffset)
+    {
+        final GNode parent = connector.getParent();
         final GNodeSkin nodeSkin = skinLookup.lookupNode(parent);
-        if (nodeSkin == null)
+        final GConnectorSkin connectorSkin = nodeSkin == null ? null : skinLookup.lookupConnector(connector);
+        if (nodeSkin == null || connectorSkin == null)
         {
-            return Point2D.ZERO;
+            if (parent == null)
+            {
+                pTarget[pOffset] = 0;
+                pTarget[pOffset + 1] = 0;
+            }
+            else
+            {
+                pTarget[pOffset] = moveOnPixel(parent.getX() + connector.getX());
+                pTarget[pOffset + 1] = moveOnPixel(parent.getY() + connector.getY());
+            }
+            return;
         }
 
-        nodeSkin.layoutConnectors();
-
-        final double nodeX = nodeSkin.getRoot().getLayoutX();
-        final double nodeY = nodeSkin.getRoot().getLayoutY();
-
-        final Point2D connectorPosition = nodeSkin.getConnectorPosition(connectorSkin);
-
-        final double connectorX = connectorPosition.getX();
-        final double connectorY = connectorPosition.getY();
+        nodeSkin.fillConnectorPosition(connectorSkin, pTarget, pOffset);
 
-        return new Point2D(moveOnPixel(nodeX + connectorX), moveOnPixel(nodeY + connectorY));
+        // the translation is only used temporarily, e.g. while dragging many nodes as a group:
+        final var root = nodeSkin.getRoot();
+        pTarget[pOffset] = moveOnPixel(root.getLayoutX() + root.getTranslateX() + pTarget[pOffset]);
+        pTarget[pOffset + 1] = moveOnPixel(root.getLayoutY() + root.getTranslateY() + pTarget[pOffset + 1]);
     }
 
     /**
@@ -133,6 +167,34 @@ public class GeometryUtils
         }
     }
 
+    /**
+     * Writes the layout x and y values of all joints within a connection into the given array, without allocating any
+     * objects.
+     *
+     * <p>
+     * Uses the JavaFX properties of the skins, not the model values. Is therefore always up-to-date, even during a drag
+     * gesture where the model is not necessarily updated.
+     * <p>
+     *
+     * @param connection
+     *         the {@link GConnection} for which the positions are desired
+     * @param skinLookup
+     *         the {@link SkinLookup} instance for this graph editor
+     * @param pTarget
+     *         the array to write the x and y coordinates to, one pair per joint
+     * @param pOffset
+     *         the index of the x coordinate of the first joint in the target array
+     * @since 17.10.2026
+     */
+    public static void fillJointPositions(final GConnection connection, final SkinLookup skinLookup,
+            final double[] pTarget, final int pOffset)
+    {
+        for (int i = 0; i < connection.getJoints().size(); i++)
+        {
+            fillJointPosition(connection.getJoints().get(i), skinLookup, pTarget, pOffset + 2 * i);
+        }
+    }
+
     /**
      * Gets the layout x and y values from all joints within a connection.
      *
@@ -162,7 +224,8 @@ public class GeometryUtils
      *
      * <p>
      * Uses the JavaFX properties of the skins, not the model values. Is therefore always up-to-date, even during a drag
-     * gesture where the model is not necessarily updated.
+     * gesture where the model is not necessarily updated. Falls back to the model values if the joint has no skin
+     * (e.g. because it is currently not materialized).
      * <p>
      *
      * @param joint
@@ -172,23 +235,51 @@ public class GeometryUtils
      * @return {@link Point2D} object containing joint x and y values
      */
     public static Point2D getJointPosition(final GJoint joint, final SkinLookup skinLookup)
+    {
+        final double[] position = new double[2];
+        fillJointPosition(joint, skinLookup, position, 0);
+        return new Point2D(position[0], position[1]);
+    }
+
+    /**
+     * Writes the layout x and y values of a joint into the given array, without allocating any objects.
+     *
+     * <p>
+     * Uses the JavaFX properties of the skin, not the model values. Falls back to the model values if the joint has no
+     * skin (e.g. because it is currently not materialized).
+     * <p>
+     *
+     * @param joint
+     *         the {@link GJoint} for which the position is desired
+     * @param skinLookup
+     *         the {@link SkinLookup} instance for this graph editor
+     * @param pTarget
+     *         the array to write the x and y coordinates to
+     * @param pOffset
+     *         the index of the x coordinate in the target array
+     * @since 17.10.2026
+     */
+    public static void fillJointPosition(final GJoint joint, final SkinLookup skinLookup, final double[] pTarget,
+            final int pOffset)
     {
         final var jointSkin = skinLookup.lookupJoint(joint);
         if (jointSkin == null)
         {
-            return Point2D.ZERO;
+            pTarget[pOffset] = joint.getX();
+            pTarget[pOffset + 1] = joint.getY();
+            return;
         }
 
         final var region = jointSkin.getRoot();
         if (region == null)
         {
-            return Point2D.ZERO;
+            pTarget[pOffset] = 0;
+            pTarget[pOffset + 1] = 0;
+            return;
         }
 
-        final var x = region.getLayoutX() + jointSkin.getWidth() / 2;
-        final var y = region.getLayoutY() + jointSkin.getHeight() / 2;
-
-        return new Point2D(x, y);
+        pTarget[pOffset] = region.getLayoutX() + region.getTranslateX() + jointSkin.getWidth() / 2;
+        pTarget[pOffset + 1] = region.getLayoutY() + region.getTranslateY() + jointSkin.getHeight() / 2;
     }
 
     /**
@@ -3,6 +3,7 @@
  */
 package io.github.eckig.grapheditor.utils;
 
+import java.time.Duration;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
@@ -58,6 +59,55 @@ public class GraphEditorProperties implements GraphEventManager
     public static final double DEFAULT_BOUND_VALUE = 15;
     public static final double DEFAULT_GRID_SPACING = 12;
 
+    /**
+     * The default maximum time the editor waits before finishing a chunk of
+     * changes that has been split across several pulses.
+     *
+     * @since 17.10.2026
+     */
+    public static final Duration DEFAULT_MAX_PULSE_LATENCY = Duration.ofMillis(250);
+
+    /**
+     * The default distance around the visible area in which skins are
+     * materialized if the editor is virtualized.
+     *
+     * @since 17.10.2026
+     */
+    public static final double DEFAULT_VIRTUALIZATION_MARGIN = 300;
+
+    /**
+     * The default number of removed skins kept for reuse per skin class and
+     * element type.
+     *
+     * @since 17.10.2026
+     */
+    public static final int DEFAULT_SKIN_POOL_SIZE = 512;
+
+    /**
+     * The default number of selected nodes and joints from which on they are
+     * dragged as a group.
+     *
+     * @since 17.10.2026
+     */
+    public static final int DEFAULT_GROUP_DRAG_THRESHOLD = 50;
+
+    /**
+     * The default estimated memory in bytes the undo history may use,
+     * {@code 0}: the undo history is not limited.
+     *
+     * @since 17.10.2026
+     */
+    public static final long DEFAULT_UNDO_MEMORY_BUDGET = 0;
+
+    /**
+     * The default time window in which consecutive moves or resizes of the
+     * same elements are merged into a single undo step,
+     * {@link Duration#ZERO}: every move or resize is an undo step of its own.
+     *
+     * @since 17.10.2026
+     */
+    public static final Duration DEFAULT_UNDO_COALESCING_WINDOW = Duration.ZERO;
+
     // The distance from the editor edge at which the objects should stop when dragged / resized.
     private double northBoundValue = DEFAULT_BOUND_VALUE;
     private double southBoundValue = DEFAULT_BOUND_VALUE;
@@ -68,6 +118,27 @@ public class GraphEditorProperties implements GraphEventManager
     private final BooleanProperty gridVisible = new SimpleBooleanProperty(this, "gridVisible"); //$NON-NLS-1$
     private final BooleanProperty snapToGrid = new SimpleBooleanProperty(this, "snapToGrid"); //$NON-NLS-1$
     private final DoubleProperty gridSpacing = new SimpleDoubleProperty(this, "gridSpacing", DEFAULT_GRID_SPACING); //$NON-NLS-1$
+    private final BooleanProperty virtualized = new SimpleBooleanProperty(this, "virtualized"); //$NON-NLS-1$
+    private double virtualizationMargin = DEFAULT_VIRTUALIZATION_MARGIN;
+
+    // Off by default: all model changes are processed within a single pulse.
+    private Duration pulseBudget;
+    private Duration maxPulseLatency = DEFAULT_MAX_PULSE_LATENCY;
+    private boolean notificationCoalescing;
+
+    private int skinPoolSize = DEFAULT_SKIN_POOL_SIZE;
+
+    private boolean canvasConnectionRendering;
+
+    private boolean backgroundSkinCreation;
+
+    private int groupDragThreshold = DEFAULT_GROUP_DRAG_THRESHOLD;
+
+    private boolean delegatedEventRouting;
+
+    private long undoMemoryBudget = DEFAULT_UNDO_MEMORY_BUDGET;
+    private int undoDepthLimit;
+    private Duration undoCoalescingWindow = DEFAULT_UNDO_COALESCING_WINDOW;
 
     private final Map<EditorElement, BooleanProperty> readOnly = new EnumMap<>(EditorElement.class);
 
@@ -105,6 +176,26 @@ public class GraphEditorProperties implements GraphEventManager
         snapToGrid.set(editorProperties.isSnapToGridOn());
         gridSpacing.set(editorProperties.getGridSpacing());
 
+        virtualized.set(editorProperties.isVirtualized());
+        virtualizationMargin = editorProperties.getVirtualizationMargin();
+
+        pulseBudget = editorProperties.getPulseBudget();
+        maxPulseLatency = editorProperties.getMaxPulseLatency();
+        notificationCoalescing = editorProperties.isNotificationCoalescing();
+
+        skinPoolSize = editorProperties.getSkinPoolSize();
+
+        canvasConnectionRendering = editorProperties.isCanvasConnectionRendering();
+        backgroundSkinCreation = editorProperties.isBackgroundSkinCreation();
+
+        groupDragThreshold = editorProperties.getGroupDragThreshold();
+
+        delegatedEventRouting = editorProperties.isDelegatedEventRouting();
+
+        undoMemoryBudget = editorProperties.getUndoMemoryBudget();
+        undoDepthLimit = editorProperties.getUndoDepthLimit();
+        undoCoalescingWindow = editorProperties.getUndoCoalescingWindow();
+
         for (final Map.Entry<EditorElement, BooleanProperty> entry : editorProperties.readOnly.entrySet())
         {
             readOnly.computeIfAbsent(entry.getKey(), _ -> new SimpleBooleanProperty()).set(entry.getValue().get());
@@ -300,6 +391,427 @@ public class GraphEditorProperties implements GraphEventManager
         return gridSpacing;
     }
 
+    /**
+     * Checks if the editor is virtualized.
+     *
+     * @return {@code true} if skins are only materialized for visible elements
+     * @since 17.10.2026
+     */
+    public boolean isVirtualized()
+    {
+        return virtualized.get();
+    }
+
+    /**
+     * Sets whether the editor should be virtualized.
+     *
+     * <p>
+     * A virtualized editor only materializes skins for the elements inside the
+     * visible area of its {@link io.github.eckig.grapheditor.window.PanningWindow
+     * panning window} plus the {@link #getVirtualizationMargin() margin}, and
+     * disposes them again when they leave it. Selected elements are always
+     * materialized.
+     * </p>
+     *
+     * @param pVirtualized
+     *            {@code true} to only materialize skins for visible elements,
+     *            {@code false} (default) to materialize all skins
+     * @since 17.10.2026
+     */
+    public void setVirtualized(final boolean pVirtualized)
+    {
+        virtualized.set(pVirtualized);
+    }
+
+    /**
+     * Gets the virtualized property.
+     *
+     * @return a {@link BooleanProperty} tracking whether the editor is
+     *         virtualized or not
+     * @since 17.10.2026
+     */
+    public BooleanProperty virtualizedProperty()
+    {
+        return virtualized;
+    }
+
+    /**
+     * Gets the distance around the visible area in which skins are
+     * materialized if the editor is virtualized.
+     *
+     * @return the virtualization margin
+     * @since 17.10.2026
+     */
+    public double getVirtualizationMargin()
+    {
+        return virtualizationMargin;
+    }
+
+    /**
+     * Sets the distance around the visible area in which skins are
+     * materialized if the editor is virtualized.
+     *
+     * @param pVirtualizationMargin
+     *         the virtualization margin
+     * @since 17.10.2026
+     */
+    public void setVirtualizationMargin(final double pVirtualizationMargin)
+    {
+        virtualizationMargin = pVirtualizationMargin;
+    }
+
+    /**
+     * Gets the time the editor may spend per pulse to process model changes.
+     *
+     * @return the pulse budget or {@code null} if all changes are processed
+     *         within a single pulse
+     * @since 17.10.2026
+     */
+    public Duration getPulseBudget()
+    {
+        return pulseBudget;
+    }
+
+    /**
+     * Sets the time the editor may spend per pulse to process model changes.
+     *
+     * <p>
+     * Changes that could not be processed within the budget are carried over
+     * to the next pulse, which keeps the UI responsive while large amounts of
+     * elements are added or removed. Bounds and connections are updated once
+     * all changes have been processed or the {@link #getMaxPulseLatency()
+     * maximum latency} has elapsed.
+     * </p>
+     *
+     * @param pPulseBudget
+     *         the pulse budget or {@code null} (default) to process all changes
+     *         within a single pulse
+     * @since 17.10.2026
+     */
+    public void setPulseBudget(final Duration pPulseBudget)
+    {
+        pulseBudget = pPulseBudget;
+    }
+
+    /**
+     * Gets the maximum time after which bounds and connections are updated
+     * while changes are carried over from pulse to pulse.
+     *
+     * @return the maximum latency
+     * @since 17.10.2026
+     */
+    public Duration getMaxPulseLatency()
+    {
+        return maxPulseLatency;
+    }
+
+    /**
+     * Sets the maximum time after which bounds and connections are updated
+     * while changes are carried over from pulse to pulse.
+     *
+     * @param pMaxPulseLatency
+     *         the maximum latency, {@code null} resets it to the
+     *         {@link #DEFAULT_MAX_PULSE_LATENCY default}
+     * @since 17.10.2026
+     */
+    public void setMaxPulseLatency(final Duration pMaxPulseLatency)
+    {
+        maxPulseLatency = pMaxPulseLatency == null ? DEFAULT_MAX_PULSE_LATENCY : pMaxPulseLatency;
+    }
+
+    /**
+     * Checks if queued model notifications are coalesced before they are
+     * dispatched.
+     *
+     * @return {@code true} if notifications are coalesced
+     * @since 17.10.2026
+     */
+    public boolean isNotificationCoalescing()
+    {
+        return notificationCoalescing;
+    }
+
+    /**
+     * Sets whether queued model notifications are coalesced before they are
+     * dispatched to the registered change handlers.
+     *
+     * <p>
+     * Coalescing merges runs of SETs of the same feature, cancels ADDs that
+     * are followed by a REMOVE of the same value and groups adjacent ADDs into
+     * one ADD_MANY. This changes what handlers registered for a notification
+     * type receive: for example, a handler registered for
+     * {@link org.eclipse.emf.common.notify.Notification#ADD ADD} does not
+     * see grouped ADDs.
+     * </p>
+     *
+     * @param pNotificationCoalescing
+     *         {@code true} to coalesce notifications, {@code false} (default)
+     *         to dispatch every notification as received
+     * @since 17.10.2026
+     */
+    public void setNotificationCoalescing(final boolean pNotificationCoalescing)
+    {
+        notificationCoalescing = pNotificationCoalescing;
+    }
+
+    /**
+     * Gets the number of removed skins that are kept for reuse per skin class
+     * and element type.
+     *
+     * @return the skin pool size
+     * @since 17.10.2026
+     */
+    public int getSkinPoolSize()
+    {
+        return skinPoolSize;
+    }
+
+    /**
+     * Sets the number of removed skins that are kept for reuse per skin class
+     * and element type.
+     *
+     * <p>
+     * Only skins supporting {@link io.github.eckig.grapheditor.GSkin#rebind(org.eclipse.emf.ecore.EObject)
+     * rebinding} are kept.
+     * </p>
+     *
+     * @param pSkinPoolSize
+     *         the skin pool size, {@code 0} disables the reuse of skins
+     * @since 17.10.2026
+     */
+    public void setSkinPoolSize(final int pSkinPoolSize)
+    {
+        skinPoolSize = Math.max(0, pSkinPoolSize);
+    }
+
+    /**
+     * Gets whether connections are painted into a few canvases instead of
+     * being shown as individual nodes.
+     *
+     * @return {@code true} if connections are rendered into canvases
+     * @since 17.10.2026
+     */
+    public boolean isCanvasConnectionRendering()
+    {
+        return canvasConnectionRendering;
+    }
+
+    /**
+     * Sets whether connections are painted into a few canvases instead of
+     * being shown as individual nodes. This greatly reduces the size of the
+     * scene graph for large models: only selected or hovered connections are
+     * shown as individual nodes.
+     *
+     * <p>
+     * Takes effect when the next model is set, as it determines the connection
+     * layout created for the model.
+     * </p>
+     *
+     * @param pCanvasConnectionRendering
+     *         {@code true} to render connections into canvases
+     * @since 17.10.2026
+     */
+    public void setCanvasConnectionRendering(final boolean pCanvasConnectionRendering)
+    {
+        canvasConnectionRendering = pCanvasConnectionRendering;
+    }
+
+    /**
+     * Checks if the node and connector skins of a model set with
+     * {@link io.github.eckig.grapheditor.GraphEditor#setModelAsync(io.github.eckig.grapheditor.model.GModel)
+     * setModelAsync} are created on a background thread.
+     *
+     * @return {@code true} if skins are created on a background thread
+     * @since 17.10.2026
+     */
+    public boolean isBackgroundSkinCreation()
+    {
+        return backgroundSkinCreation;
+    }
+
+    /**
+     * Sets whether the node and connector skins of a model set with
+     * {@link io.github.eckig.grapheditor.GraphEditor#setModelAsync(io.github.eckig.grapheditor.model.GModel)
+     * setModelAsync} are created on a background thread.
+     *
+     * <p>
+     * If enabled, the node and connector skin factories and
+     * {@link io.github.eckig.grapheditor.GSkin#initialize() initialize()} of
+     * the node skins are called on a background thread. This is only safe if
+     * the skins do not access the scene graph or other state confined to the
+     * JavaFX application thread while being created. If the creation fails,
+     * the skins are created on the JavaFX application thread instead.
+     * </p>
+     *
+     * @param pBackgroundSkinCreation
+     *         {@code true} to create skins on a background thread,
+     *         {@code false} (default) to create them on the JavaFX
+     *         application thread
+     * @since 17.10.2026
+     */
+    public void setBackgroundSkinCreation(final boolean pBackgroundSkinCreation)
+    {
+        backgroundSkinCreation = pBackgroundSkinCreation;
+    }
+
+    /**
+     * Gets the number of selected nodes and joints from which on they are
+     * dragged as a group.
+     *
+     * @return the group drag threshold
+     * @since 17.10.2026
+     */
+    public int getGroupDragThreshold()
+    {
+        return groupDragThreshold;
+    }
+
+    /**
+     * Sets the number of selected nodes and joints from which on they are
+     * dragged as a group.
+     *
+     * <p>
+     * During a group drag the selected nodes and joints, as well as the
+     * connections between them, are only translated. Their layout values are
+     * updated once when the drag gesture is finished, so that only the
+     * connections leaving the selection have to be redrawn while dragging.
+     * </p>
+     *
+     * @param pGroupDragThreshold
+     *         the group drag threshold, {@link Integer#MAX_VALUE} to never
+     *         drag as a group
+     * @since 17.10.2026
+     */
+    public void setGroupDragThreshold(final int pGroupDragThreshold)
+    {
+        groupDragThreshold = Math.max(1, pGroupDragThreshold);
+    }
+
+    /**
+     * Gets whether the mouse events of nodes, connectors, connections and
+     * joints are handled by a few handlers on the view instead of handlers on
+     * every single skin.
+     *
+     * @return {@code true} if mouse events are routed through the view
+     * @since 17.10.2026
+     */
+    public boolean isDelegatedEventRouting()
+    {
+        return delegatedEventRouting;
+    }
+
+    /**
+     * Sets whether the mouse events of nodes, connectors, connections and
+     * joints are handled by a few handlers on the view instead of handlers on
+     * every single skin. The skin an event belongs to is then looked up from
+     * the event target via {@link io.github.eckig.grapheditor.SkinLookup#lookupSkin(javafx.scene.Node)}.
+     * This saves the memory of the handlers and the work of (un)registering
+     * them for large models.
+     *
+     * <p>
+     * Must be set before the graph editor is created.
+     * </p>
+     *
+     * @param pDelegatedEventRouting
+     *         {@code true} to route mouse events through the view
+     * @since 17.10.2026
+     */
+    public void setDelegatedEventRouting(final boolean pDelegatedEventRouting)
+    {
+        delegatedEventRouting = pDelegatedEventRouting;
+    }
+
+    /**
+     * Gets the estimated memory in bytes the undo history may use.
+     *
+     * @return the undo memory budget in bytes, {@code 0} if unlimited
+     * @since 17.10.2026
+     */
+    public long getUndoMemoryBudget()
+    {
+        return undoMemoryBudget;
+    }
+
+    /**
+     * Sets the estimated memory in bytes the undo history may use. When the
+     * budget is exceeded, the oldest commands are discarded. The most recent
+     * command is always kept.
+     *
+     * <p>
+     * Only applies to editing domains created by the graph editor, and must be
+     * set before the model is set.
+     * </p>
+     *
+     * @param pUndoMemoryBudget
+     *         the undo memory budget in bytes, {@code 0} (default) for no
+     *         limit
+     * @since 17.10.2026
+     */
+    public void setUndoMemoryBudget(final long pUndoMemoryBudget)
+    {
+        undoMemoryBudget = Math.max(0, pUndoMemoryBudget);
+    }
+
+    /**
+     * Gets the maximum number of commands kept in the undo history.
+     *
+     * @return the undo depth limit, {@code 0} if unlimited
+     * @since 17.10.2026
+     */
+    public int getUndoDepthLimit()
+    {
+        return undoDepthLimit;
+    }
+
+    /**
+     * Sets the maximum number of commands kept in the undo history. When the
+     * limit is exceeded, the oldest commands are discarded.
+     *
+     * <p>
+     * Only applies to editing domains created by the graph editor, and must be
+     * set before the model is set.
+     * </p>
+     *
+     * @param pUndoDepthLimit
+     *         the undo depth limit, {@code 0} for no limit
+     * @since 17.10.2026
+     */
+    public void setUndoDepthLimit(final int pUndoDepthLimit)
+    {
+        undoDepthLimit = Math.max(0, pUndoDepthLimit);
+    }
+
+    /**
+     * Gets the time window in which consecutive moves or resizes of the same
+     * elements are merged into a single undo step.
+     *
+     * @return the undo coalescing window, {@link Duration#ZERO} if disabled
+     * @since 17.10.2026
+     */
+    public Duration getUndoCoalescingWindow()
+    {
+        return undoCoalescingWindow;
+    }
+
+    /**
+     * Sets the time window in which consecutive moves or resizes of the same
+     * elements are merged into a single undo step.
+     *
+     * <p>
+     * Only applies to editing domains created by the graph editor, and must be
+     * set before the model is set.
+     * </p>
+     *
+     * @param pUndoCoalescingWindow
+     *         the undo coalescing window, {@code null} or {@link Duration#ZERO}
+     *         (default) to disable coalescing
+     * @since 17.10.2026
+     */
+    public void setUndoCoalescingWindow(final Duration pUndoCoalescingWindow)
+    {
+        undoCoalescingWindow = pUndoCoalescingWindow == null ? Duration.ZERO : pUndoCoalescingWindow;
+    }
+
     /**
      * Gets the read only property
      *
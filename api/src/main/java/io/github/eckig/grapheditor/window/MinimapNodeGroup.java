@@ -10,15 +10,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
+import org.eclipse.emf.ecore.EObject;
+
 import io.github.eckig.grapheditor.SelectionManager;
 import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.model.GConnector;
 import io.github.eckig.grapheditor.model.GJoint;
 import io.github.eckig.grapheditor.model.GModel;
 import io.github.eckig.grapheditor.model.GNode;
-import javafx.beans.InvalidationListener;
-import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.ObjectProperty;
+import javafx.collections.SetChangeListener;
+import javafx.collections.WeakSetChangeListener;
 import javafx.css.CssMetaData;
 import javafx.css.PseudoClass;
 import javafx.css.StyleConverter;
@@ -46,8 +48,8 @@ class MinimapNodeGroup extends Parent
 
     private static final PseudoClass PSEUDO_CLASS_SELECTED = PseudoClass.getPseudoClass("selected"); //$NON-NLS-1$
 
-    private final InvalidationListener checkSelectionListener = obs -> checkSelection();
-    private final InvalidationListener checkSelectionWeakListener = new WeakInvalidationListener(checkSelectionListener);
+    private final SetChangeListener<EObject> checkSelectionListener = this::checkSelection;
+    private final SetChangeListener<EObject> checkSelectionWeakListener = new WeakSetChangeListener<>(checkSelectionListener);
 
     private SelectionManager selectionManager;
     private GModel model;
@@ -138,6 +140,30 @@ class MinimapNodeGroup extends Parent
         }
     }
 
+    /**
+     * Only updates the minimap nodes of the changed elements.
+     */
+    private void checkSelection(final SetChangeListener.Change<? extends EObject> change)
+    {
+        if (change.wasRemoved())
+        {
+            checkSelection(change.getElementRemoved());
+        }
+        if (change.wasAdded())
+        {
+            checkSelection(change.getElementAdded());
+        }
+    }
+
+    private void checkSelection(final EObject element)
+    {
+        final Node minimapNode = element instanceof GNode node ? nodes.get(node) : null;
+        if (minimapNode != null)
+        {
+            minimapNode.pseudoClassStateChanged(PSEUDO_CLASS_SELECTED, isSelected((GNode) element));
+        }
+    }
+
     private boolean isSelected(final GNode node)
     {
         return selectionManager != null && selectionManager.isSelected(node);
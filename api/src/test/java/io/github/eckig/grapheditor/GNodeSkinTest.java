@@ -0,0 +1,183 @@
+package io.github.eckig.grapheditor;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.model.GraphFactory;
+import io.github.eckig.grapheditor.utils.DraggableBox;
+import io.github.eckig.grapheditor.utils.JavaFXThreadingRule;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Checks that the connector positions cached by {@link GNodeSkin#fillConnectorPosition(GConnectorSkin, double[], int)}
+ * follow the node and its connectors for a skin with a custom container, which does not lay out its connectors itself.
+ */
+public class GNodeSkinTest {
+
+    @ClassRule
+    public static JavaFXThreadingRule javaFXThreadingRule = new JavaFXThreadingRule();
+
+    private final double[] position = new double[2];
+
+    private CustomContainerSkin nodeSkin;
+    private RectangleConnectorSkin connectorSkin;
+
+    @Before
+    public void setUp() {
+        final GNode node = GraphFactory.eINSTANCE.createGNode();
+        final GConnector connector = GraphFactory.eINSTANCE.createGConnector();
+        node.getConnectors().add(connector);
+
+        nodeSkin = new CustomContainerSkin(node);
+        connectorSkin = new RectangleConnectorSkin(connector);
+        nodeSkin.setConnectorSkins(List.of(connectorSkin));
+        nodeSkin.getRoot().resize(100, 50);
+    }
+
+    @Test
+    public void positionFollowsMovedConnector() {
+        assertPosition(5, 5);
+
+        // the node keeps its size:
+        connectorSkin.getRoot().relocate(40, 20);
+        assertPosition(45, 25);
+    }
+
+    @Test
+    public void positionFollowsResizedConnector() {
+        assertPosition(5, 5);
+
+        connectorSkin.getRoot().resize(30, 20);
+        assertPosition(15, 10);
+    }
+
+    @Test
+    public void positionFollowsResizedNode() {
+        nodeSkin.alignRight = true;
+        assertPosition(95, 5);
+
+        nodeSkin.getRoot().resize(200, 50);
+        assertPosition(195, 5);
+    }
+
+    @Test
+    public void removedConnectorIsNoLongerObserved() {
+        assertPosition(5, 5);
+
+        final GConnector connector = GraphFactory.eINSTANCE.createGConnector();
+        nodeSkin.getItem().getConnectors().add(connector);
+        final RectangleConnectorSkin other = new RectangleConnectorSkin(connector);
+        nodeSkin.setConnectorSkins(List.of(other));
+        nodeSkin.invalidateConnectorPositions();
+        nodeSkin.fillConnectorPosition(other, position, 0);
+
+        // the cache of the node is kept while the removed connector moves:
+        nodeSkin.layouts = 0;
+        connectorSkin.getRoot().relocate(40, 20);
+        nodeSkin.fillConnectorPosition(other, position, 0);
+        assertEquals(0, nodeSkin.layouts);
+    }
+
+    private void assertPosition(final double x, final double y) {
+        nodeSkin.fillConnectorPosition(connectorSkin, position, 0);
+        assertEquals(x, position[0], 0);
+        assertEquals(y, position[1], 0);
+    }
+
+    /**
+     * Places its connectors in a {@link DraggableBox} without laying them out on layout passes of the container.
+     */
+    private static final class CustomContainerSkin extends GNodeSkin {
+
+        private List<GConnectorSkin> connectorSkins = List.of();
+        private boolean alignRight;
+        private int layouts;
+
+        CustomContainerSkin(final GNode node) {
+            super(node);
+        }
+
+        @Override
+        protected DraggableBox createContainer() {
+            return new DraggableBox(EditorElement.NODE);
+        }
+
+        @Override
+        public void setConnectorSkins(final List<GConnectorSkin> connectorSkins) {
+            for (final GConnectorSkin skin : this.connectorSkins) {
+                getRoot().getChildren().remove(skin.getRoot());
+            }
+            this.connectorSkins = connectorSkins;
+            for (final GConnectorSkin skin : connectorSkins) {
+                getRoot().getChildren().add(skin.getRoot());
+            }
+        }
+
+        @Override
+        public void layoutConnectors() {
+            layouts++;
+            if (alignRight) {
+                for (final GConnectorSkin skin : connectorSkins) {
+                    skin.getRoot().setLayoutX(getRoot().getWidth() - skin.getWidth());
+                }
+            }
+        }
+
+        @Override
+        public Point2D getConnectorPosition(final GConnectorSkin connectorSkin) {
+            final Node connectorRoot = connectorSkin.getRoot();
+            return new Point2D(connectorRoot.getLayoutX() + connectorSkin.getWidth() / 2,
+                    connectorRoot.getLayoutY() + connectorSkin.getHeight() / 2);
+        }
+
+        @Override
+        protected void selectionChanged(final boolean isSelected) {
+            // not needed
+        }
+    }
+
+    private static final class RectangleConnectorSkin extends GConnectorSkin {
+
+        private final Pane root = new Pane(new Rectangle(10, 10));
+
+        RectangleConnectorSkin(final GConnector connector) {
+            super(connector);
+            root.resize(10, 10);
+        }
+
+        @Override
+        public Pane getRoot() {
+            return root;
+        }
+
+        @Override
+        public double getWidth() {
+            return root.getWidth();
+        }
+
+        @Override
+        public double getHeight() {
+            return root.getHeight();
+        }
+
+        @Override
+        public void applyStyle(final GConnectorStyle style) {
+            // not needed
+        }
+
+        @Override
+        protected void selectionChanged(final boolean isSelected) {
+            // not needed
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.eckig.grapheditor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.edit.command.SetCommand;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.github.eckig.grapheditor.Commands.MoveResizeCommand;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.model.GraphFactory;
+import io.github.eckig.grapheditor.model.GraphPackage;
+
+public class MoveResizeCommandTest {
+
+    private AdapterFactoryEditingDomain domain;
+    private Resource resource;
+    private GNode node;
+
+    @Before
+    public void setUp() {
+        domain = new AdapterFactoryEditingDomain(
+                new ComposedAdapterFactory(ComposedAdapterFactory.Descriptor.Registry.INSTANCE), new BasicCommandStack());
+        resource = new ResourceImpl(URI.createURI("model"));
+        domain.getResourceSet().getResources().add(resource);
+
+        final GModel model = GraphFactory.eINSTANCE.createGModel();
+        node = GraphFactory.eINSTANCE.createGNode();
+        model.getNodes().add(node);
+        resource.getContents().add(model);
+    }
+
+    @Test
+    public void movesAndResizesNodes() {
+
+        final MoveResizeCommand command = move();
+        assertTrue(command.canExecute());
+        domain.getCommandStack().execute(command);
+
+        assertEquals(10, node.getX(), 0);
+        assertEquals(100, node.getWidth(), 0);
+
+        domain.getCommandStack().undo();
+        assertEquals(0, node.getX(), 0);
+    }
+
+    @Test
+    public void elementsOfReadOnlyResourcesAreNotMoved() {
+
+        final Map<Resource, Boolean> readOnly = new HashMap<>();
+        readOnly.put(resource, Boolean.TRUE);
+        domain.setResourceToReadOnlyMap(readOnly);
+
+        // like a set command:
+        assertFalse(SetCommand.create(domain, node, GraphPackage.Literals.GNODE__X, 10.0).canExecute());
+
+        final MoveResizeCommand command = move();
+        assertFalse(command.canExecute());
+        domain.getCommandStack().execute(command);
+        assertEquals(0, node.getX(), 0);
+    }
+
+    @Test
+    public void elementsWithoutResourceAreMoved() {
+
+        resource.getContents().clear();
+
+        final MoveResizeCommand command = move();
+        assertTrue(command.canExecute());
+        command.execute();
+        assertEquals(10, node.getX(), 0);
+    }
+
+    private MoveResizeCommand move() {
+        final MoveResizeCommand command = new MoveResizeCommand();
+        command.addNode(node, 10, 20, 100, 50);
+        return command;
+    }
+}
@@ -4,6 +4,7 @@
 package io.github.eckig.grapheditor.core;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -31,6 +32,7 @@ import io.github.eckig.grapheditor.model.GModel;
 import io.github.eckig.grapheditor.model.GNode;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.scene.layout.Region;
 import javafx.util.Callback;
 
@@ -129,12 +131,48 @@ public class DefaultGraphEditor implements GraphEditor
         return mModelProperty.get();
     }
 
+    @Override
+    public CompletableFuture<Void> setModelAsync(final GModel pModel)
+    {
+        return mController.setModelAsync(pModel);
+    }
+
+    @Override
+    public ReadOnlyDoubleProperty modelLoadProgressProperty()
+    {
+        return mController.modelLoadProgressProperty();
+    }
+
     @Override
     public void flush()
     {
         mController.flush();
     }
 
+    @Override
+    public void beginBatch()
+    {
+        mController.beginBatch();
+    }
+
+    @Override
+    public void endBatch()
+    {
+        mController.endBatch();
+    }
+
+    @Override
+    public long getUndoMemoryUsage()
+    {
+        return getModelEditingManager().getUndoMemoryUsage();
+    }
+
+    @Override
+    public int getUndoDepth()
+    {
+        return getModelEditingManager().getUndoDepth();
+    }
+
     @Override
     public ObjectProperty<GModel> modelProperty()
     {
@@ -1,11 +1,20 @@
 package io.github.eckig.grapheditor.core;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import io.github.eckig.grapheditor.core.connections.ConnectionEventManager;
@@ -13,13 +22,16 @@ import io.github.eckig.grapheditor.core.connections.ConnectorDragManager;
 import io.github.eckig.grapheditor.core.model.DefaultModelEditingManager;
 import io.github.eckig.grapheditor.core.model.ModelLayoutUpdater;
 import io.github.eckig.grapheditor.core.model.ModelSanityChecker;
+import io.github.eckig.grapheditor.core.model.NotificationCoalescer;
 import io.github.eckig.grapheditor.core.selections.DefaultSelectionManager;
 import io.github.eckig.grapheditor.core.skins.GraphEditorSkinManager;
 import io.github.eckig.grapheditor.core.skins.SkinManager;
+import io.github.eckig.grapheditor.core.skins.SkinVirtualizer;
+import io.github.eckig.grapheditor.core.utils.ModelBoundsIndex;
 import io.github.eckig.grapheditor.core.view.ConnectionLayout;
 import io.github.eckig.grapheditor.core.view.GraphEditorView;
+import io.github.eckig.grapheditor.core.view.impl.CanvasConnectionLayout;
 import io.github.eckig.grapheditor.core.view.impl.DefaultConnectionLayout;
-import io.github.eckig.grapheditor.utils.GeometryUtils;
 import io.github.eckig.grapheditor.utils.GraphEditorProperties;
 
 import javafx.geometry.Rectangle2D;
@@ -28,6 +40,7 @@ import javafx.scene.Scene;
 import org.eclipse.emf.common.command.CommandStackListener;
 import org.eclipse.emf.common.command.CompoundCommand;
 import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
@@ -38,6 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.github.eckig.grapheditor.Commands;
+import io.github.eckig.grapheditor.GConnectorSkin;
 import io.github.eckig.grapheditor.GConnectorValidator;
 import io.github.eckig.grapheditor.GJointSkin;
 import io.github.eckig.grapheditor.GNodeSkin;
@@ -52,9 +66,15 @@ import io.github.eckig.grapheditor.model.GraphPackage;
 import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.beans.value.WeakChangeListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.WeakMapChangeListener;
 
 
 /**
@@ -72,18 +92,38 @@ import javafx.beans.value.WeakChangeListener;
  * </p>
  *
  * <p>
- * The process of synchronizing is rather complicated in case more than one
- * model is part of the resource set:
+ * The process of synchronizing is rather complicated:
  * <ol>
- * <li>register listener on every model in the resource set (with an
- * {@link EContentAdapter}</li>
+ * <li>register listener on every element contained in the model (with an
+ * {@link EContentAdapter}), other contents of the resource set are not
+ * observed</li>
  * <li>receive notifications</li>
- * <li>put notification into queue</li>
- * <li>{@link #process() process queue} before scene pulse</li>
+ * <li>put notification into queue, if a handler is
+ * {@link #registerChangeListener(EStructuralFeature, Consumer) registered}
+ * for its feature or type</li>
+ * <li>{@link #process() process queue} before scene pulse: if
+ * {@link GraphEditorProperties#setNotificationCoalescing(boolean) enabled},
+ * the queued notifications are {@link NotificationCoalescer coalesced} first,
+ * so that the handlers see one consolidated change per element and pulse</li>
  * </ol>
  * </p>
  *
  * <p>
+ * If a {@link GraphEditorProperties#setPulseBudget(Duration) pulse budget} is
+ * configured, processing stops once the budget is spent and the remaining
+ * notifications are carried over to the next pulse. {@link #flush()} always
+ * processes everything.
+ * </p>
+ *
+ * <p>
+ * A model set with {@link #setModelAsync(GModel)} is validated and, if
+ * {@link GraphEditorProperties#isBackgroundSkinCreation() enabled}, its skins
+ * are created on a background thread, while the current model stays
+ * interactive. After the model has been swapped, its elements are added in
+ * time slices of one pulse each.
+ * </p>
+ *
+ * <p>
  * This implementation is thread safe: It is able to process notifications in
  * parallel and processes them in chunks on the FX Thread.
  * </p>
@@ -93,25 +133,66 @@ public class GraphEditorController<E extends GraphEditor>
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GraphEditorController.class);
 
+    /**
+     * Changes of the model bounds up to this size do not resize the view, it
+     * is padded by far more anyway.
+     */
+    private static final double BOUNDS_HYSTERESIS = 50;
+
+    /**
+     * Time per pulse spent on adding the elements of an asynchronously set
+     * model, if no {@link GraphEditorProperties#getPulseBudget() pulse budget}
+     * is configured.
+     */
+    private static final long LOAD_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+
+    /**
+     * Share of the {@link #modelLoadProgressProperty() load progress} covered
+     * by the preparation on the background thread.
+     */
+    private static final double PREPARATION_SHARE = 0.5;
+
+    private static final Executor LOADER = r -> Thread.ofVirtual().name("graph-editor-loader").start(r); //$NON-NLS-1$
+
     private final GraphEditorEContentAdapter mContentAdapter = new GraphEditorEContentAdapter();
 
-    private final Map<EStructuralFeature, Consumer<Notification>> mHandlersByFeature = new HashMap<>();
-    private final Map<Integer, Consumer<Notification>> mHandlersByType = new HashMap<>();
+    private final NotificationDispatcher mDispatcher = new NotificationDispatcher();
 
     private final CommandStackListener mCommandStackListener = _ -> process();
 
-    private final ModelEditingManager mModelEditingManager = new DefaultModelEditingManager(mCommandStackListener);
+    private final ModelEditingManager mModelEditingManager;
     private final ModelLayoutUpdater mModelLayoutUpdater;
+    private final GraphEditorProperties mProperties;
     private ConnectionLayout mConnectionLayouter;
     private final ConnectorDragManager mConnectorDragManager;
     private final DefaultSelectionManager mSelectionManager;
     private final GraphEditorSkinManager mSkinManager;
+    private final SkinVirtualizer mSkinVirtualizer;
 
     private final E mEditor;
     private final GraphEditorView mGraphEditorView;
     private final ChangeListener<GModel> mModelChangeListener = (_, o, n) -> modelChanged(o, n);
     private final ChangeListener<Scene> mViewSceneChangeListener = (_, oldScene, newScene) -> sceneChanged(oldScene, newScene);
-    private final Runnable mOnScenePulse = this::process;
+    private final MapChangeListener<String, String> mCustomPropertiesListener = _ -> getConnectionLayout().markAllDirty();
+    private final Runnable mOnScenePulse = this::onScenePulse;
+
+    private final Deque<Notification> mPending = new ArrayDeque<>();
+    private boolean mUnfinished;
+
+    private final ModelBoundsIndex mBoundsIndex = new ModelBoundsIndex();
+    private Rectangle2D mLastModelBounds;
+    private int mBatchDepth;
+    private long mUnfinishedSince;
+
+    private final ReadOnlyIntegerWrapper mQueueDepth = new ReadOnlyIntegerWrapper(this, "queueDepth"); //$NON-NLS-1$
+    private final ReadOnlyDoubleWrapper mCoalescingRatio = new ReadOnlyDoubleWrapper(this, "coalescingRatio", 1); //$NON-NLS-1$
+    private final ReadOnlyDoubleWrapper mLoadProgress = new ReadOnlyDoubleWrapper(this, "modelLoadProgress", 1); //$NON-NLS-1$
+
+    private CompletableFuture<Void> mLoading;
+    private PreparedModel mPrepared;
+    private final Deque<EObject> mToAttach = new ArrayDeque<>();
+    private int mAttachTotal;
+    private int mAttached;
 
     /**
      * Creates a new controller instance. Only one instance should exist per
@@ -129,10 +210,14 @@ public class GraphEditorController<E extends GraphEditor>
     {
         mEditor = Objects.requireNonNull(pEditor, "GraphEditor instance may not be null!");
         mGraphEditorView = Objects.requireNonNull(pView, "GraphEditorView instance may not be null!");
+        mProperties = pProperties;
+        mModelEditingManager = new DefaultModelEditingManager(mCommandStackListener, pProperties);
         mSkinManager = new GraphEditorSkinManager(pEditor, mGraphEditorView);
-        mModelLayoutUpdater = new ModelLayoutUpdater(mSkinManager, mModelEditingManager, pProperties);
         mConnectorDragManager = new ConnectorDragManager(mSkinManager, pConnectionEventManager, mGraphEditorView);
         mSelectionManager = new DefaultSelectionManager(mSkinManager, mGraphEditorView);
+        // after the selection manager, whose mouse-released filter has to finish a group drag first:
+        mModelLayoutUpdater = new ModelLayoutUpdater(mSkinManager, mModelEditingManager, pProperties, mGraphEditorView);
+        mSkinVirtualizer = new SkinVirtualizer(mGraphEditorView, pProperties, mSkinManager, mSelectionManager);
 
         initDefaultListeners();
 
@@ -141,10 +226,27 @@ public class GraphEditorController<E extends GraphEditor>
         pEditor.getView().sceneProperty().addListener(new WeakChangeListener<>(mViewSceneChangeListener));
         sceneChanged(null,pEditor.getView().getScene());
 
+        if (pProperties != null)
+        {
+            // custom properties may change the appearance of the connections:
+            pProperties.getCustomProperties().addListener(new WeakMapChangeListener<>(mCustomPropertiesListener));
+        }
+
         mSkinManager.setOnNodeCreated(this::onNodeCreated);
         mSkinManager.setOnConnectorCreated(this::onConnectorCreated);
         mSkinManager.setOnConnectionCreated(this::onConnectionCreated);
         mSkinManager.setOnJointCreated(this::onJointCreated);
+
+        mSkinVirtualizer.setOnMaterializeNode(this::addNode);
+        mSkinVirtualizer.setOnDematerializeNode(this::disposeNode);
+        mSkinVirtualizer.setOnMaterializeConnection(this::addConnection);
+        mSkinVirtualizer.setOnDematerializeConnection(this::disposeConnection);
+    }
+
+    private void onScenePulse()
+    {
+        process();
+        mSkinVirtualizer.update(getEditor().getModel());
     }
 
     private void sceneChanged(final Scene pOldScene, final Scene pNewScene)
@@ -212,7 +314,8 @@ public class GraphEditorController<E extends GraphEditor>
     {
         Objects.requireNonNull(pFeature, "EStructuralFeature may not be null!");
         Objects.requireNonNull(pHandler, "Notification Consumer may not be null!");
-        mHandlersByFeature.merge(pFeature, pHandler, Consumer::andThen);
+        mDispatcher.register(pFeature, pHandler);
+        mContentAdapter.observeFeature(pFeature);
     }
 
     /**
@@ -227,15 +330,28 @@ public class GraphEditorController<E extends GraphEditor>
     public final void registerChangeListener(final int pNotificationType, final Consumer<Notification> pHandler)
     {
         Objects.requireNonNull(pHandler, "Notification Consumer may not be null!");
-        mHandlersByType.merge(pNotificationType, pHandler, Consumer::andThen);
+        mDispatcher.register(pNotificationType, pHandler);
+        mContentAdapter.observeType(pNotificationType);
     }
 
     private void modelChanged(final GModel pOldModel, final GModel pNewModel)
     {
+        final PreparedModel prepared = mPrepared != null && mPrepared.model() == pNewModel ? mPrepared : null;
+        if (prepared == null)
+        {
+            // the model was set directly, a running asynchronous load is obsolete:
+            cancelLoading();
+        }
+        mPrepared = null;
+        mToAttach.clear();
+
         if (pOldModel != null)
         {
-            final EditingDomain editingDomain = AdapterFactoryEditingDomain.getEditingDomainFor(pOldModel);
-            editingDomain.getResourceSet().eAdapters().remove(mContentAdapter);
+            pOldModel.eAdapters().remove(mContentAdapter);
+
+            // changes carried over from previous pulses are obsolete:
+            mPending.clear();
+            mUnfinished = false;
 
             for (int i = 0; i < pOldModel.getNodes().size(); i++)
             {
@@ -249,18 +365,38 @@ public class GraphEditorController<E extends GraphEditor>
 
         // remove any remaining skins that might have been left over:
         mSkinManager.clear();
+        mBoundsIndex.clear();
+        mSkinVirtualizer.reset();
+        mLastModelBounds = null;
+
+        // a new layout for the new model, so that changes of the editor properties take effect:
+        disposeConnectionLayout();
 
         if (pNewModel != null)
         {
-            ModelSanityChecker.validate(pNewModel);
-            calculateBounds();
+            mSkinVirtualizer.invalidate();
+            if (prepared == null)
+            {
+                ModelSanityChecker.validate(pNewModel);
+            }
+            else
+            {
+                mSkinManager.addPreparedSkins(prepared.nodeSkins(), prepared.connectorSkins());
+            }
 
             mModelEditingManager.initialize(pNewModel);
 
-            final EditingDomain editingDomain = AdapterFactoryEditingDomain.getEditingDomainFor(pNewModel);
-            editingDomain.getResourceSet().eAdapters().add(mContentAdapter);
+            pNewModel.eAdapters().add(mContentAdapter);
 
-            if(pNewModel instanceof InternalEObject ieo)
+            if (prepared != null)
+            {
+                // added in time slices while processing, nodes first as connections need their connectors:
+                mToAttach.addAll(pNewModel.getNodes());
+                mToAttach.addAll(pNewModel.getConnections());
+                mAttachTotal = mToAttach.size();
+                mAttached = 0;
+            }
+            else if(pNewModel instanceof InternalEObject ieo)
             {
                 // add existing nodes through the registered change handlers:
                 processFeatureChanged(new ENotificationImpl(ieo, Notification.ADD_MANY,
@@ -282,18 +418,272 @@ public class GraphEditorController<E extends GraphEditor>
                     addConnection(connection);
                 }
             }
+            calculateBounds();
 
-            process();
+            process(0);
 
             mSelectionManager.initialize(pNewModel);
             getConnectionLayout().initialize(pNewModel);
             mConnectorDragManager.initialize(pNewModel);
 
-            // 1) wait until the graph editor is registered in a visible view (scene != null)
-            // 2) wait a little bit with Platform.runLater() so the UI has a chance to "settle down"
-            // 3) update layout values
-            executeOnceWhenPropertyIsNonNull(mEditor.getView().sceneProperty(),
-                    _ -> Platform.runLater(() -> updateLayoutValues(pNewModel)));
+            if (prepared == null)
+            {
+                scheduleLayoutValuesUpdate(pNewModel);
+            }
+        }
+
+        if (prepared != null && mToAttach.isEmpty())
+        {
+            loadingDone();
+        }
+    }
+
+    private void scheduleLayoutValuesUpdate(final GModel pModel)
+    {
+        // 1) wait until the graph editor is registered in a visible view (scene != null)
+        // 2) wait a little bit with Platform.runLater() so the UI has a chance to "settle down"
+        // 3) update layout values
+        executeOnceWhenPropertyIsNonNull(mEditor.getView().sceneProperty(),
+                _ -> Platform.runLater(() -> updateLayoutValues(pModel)));
+    }
+
+    /**
+     * Sets the model to be edited asynchronously:
+     * <ol>
+     * <li>the model is validated on a background thread, the current model
+     * stays interactive. If {@link GraphEditorProperties#isBackgroundSkinCreation()
+     * background skin creation} is enabled, the skins of its nodes and
+     * connectors are created there as well. Should that fail, they are
+     * created on the JavaFX application thread while adding the elements.</li>
+     * <li>the model is swapped on the JavaFX application thread</li>
+     * <li>the elements of the model are added to the view in time slices of
+     * one pulse each, limited by the {@link GraphEditorProperties#getPulseBudget()
+     * pulse budget}</li>
+     * </ol>
+     * If {@link GraphEditorProperties#isVirtualized() virtualization} is
+     * enabled, skins are not created in advance, as only the visible ones are
+     * needed.
+     *
+     * <p>
+     * Must be called on the JavaFX application thread. The given model must
+     * not be modified until it has been swapped in. Setting another model
+     * before the returned future completes cancels it.
+     * </p>
+     *
+     * @param pModel
+     *            the {@link GModel} to be edited
+     * @return a {@link CompletableFuture} completed once all elements of the
+     *         model have been added
+     * @see #modelLoadProgressProperty()
+     * @since 17.10.2026
+     */
+    public CompletableFuture<Void> setModelAsync(final GModel pModel)
+    {
+        cancelLoading();
+        if (pModel == mEditor.getModel())
+        {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final CompletableFuture<Void> loading = new CompletableFuture<>();
+        mLoading = loading;
+        mLoadProgress.set(0);
+
+        final boolean prepareSkins = mProperties != null && mProperties.isBackgroundSkinCreation()
+                && !mSkinVirtualizer.isVirtualized();
+        CompletableFuture.supplyAsync(() -> prepareModel(pModel, prepareSkins, loading), LOADER)
+                .whenCompleteAsync((prepared, error) -> modelPrepared(prepared, error, loading), Platform::runLater);
+        return loading;
+    }
+
+    /**
+     * The progress of the last {@link #setModelAsync(GModel) asynchronously
+     * set model}, from {@code 0} to {@code 1}. The first half covers the
+     * preparation on the background thread, the second half adding the
+     * elements to the view.
+     *
+     * @return the load progress, {@code 1} if no model is being loaded
+     * @since 17.10.2026
+     */
+    public final ReadOnlyDoubleProperty modelLoadProgressProperty()
+    {
+        return mLoadProgress.getReadOnlyProperty();
+    }
+
+    /**
+     * Validates the model and optionally creates its skins, called on a
+     * background thread.
+     */
+    private PreparedModel prepareModel(final GModel pModel, final boolean pPrepareSkins,
+            final CompletableFuture<Void> pLoading)
+    {
+        final Map<GNode, GNodeSkin> nodeSkins = new HashMap<>();
+        final Map<GConnector, GConnectorSkin> connectorSkins = new HashMap<>();
+        if (pModel != null)
+        {
+            ModelSanityChecker.validate(pModel);
+            if (pPrepareSkins)
+            {
+                try
+                {
+                    prepareSkins(pModel, nodeSkins, connectorSkins, pLoading);
+                }
+                catch (Exception e)
+                {
+                    // the skins are created on the FX thread while attaching instead:
+                    LOGGER.warn("Could not create skins on a background thread: ", e); //$NON-NLS-1$
+                    nodeSkins.clear();
+                    connectorSkins.clear();
+                }
+            }
+        }
+        return new PreparedModel(pModel, nodeSkins, connectorSkins);
+    }
+
+    private void prepareSkins(final GModel pModel, final Map<GNode, GNodeSkin> pNodeSkins,
+            final Map<GConnector, GConnectorSkin> pConnectorSkins, final CompletableFuture<Void> pLoading)
+    {
+        final List<GNode> nodes = pModel.getNodes();
+        int reported = 0;
+        for (int i = 0; i < nodes.size() && !pLoading.isDone(); i++)
+        {
+            final GNode node = nodes.get(i);
+            pNodeSkins.put(node, mSkinManager.prepareNodeSkin(node));
+            for (final GConnector connector : node.getConnectors())
+            {
+                pConnectorSkins.put(connector, mSkinManager.prepareConnectorSkin(connector));
+            }
+
+            // report every percent only:
+            final int percent = (i + 1) * 100 / nodes.size();
+            if (percent > reported)
+            {
+                reported = percent;
+                final double progress = PREPARATION_SHARE * (i + 1) / nodes.size();
+                Platform.runLater(() -> setLoadProgress(pLoading, progress));
+            }
+        }
+    }
+
+    private void modelPrepared(final PreparedModel pPrepared, final Throwable pError,
+            final CompletableFuture<Void> pLoading)
+    {
+        if (mLoading != pLoading)
+        {
+            // cancelled in the meantime:
+            return;
+        }
+        if (pError != null)
+        {
+            mLoading = null;
+            mLoadProgress.set(1);
+            pLoading.completeExceptionally(pError);
+        }
+        else if (mEditor.getModel() == pPrepared.model())
+        {
+            loadingDone();
+        }
+        else
+        {
+            mLoadProgress.set(PREPARATION_SHARE);
+            mPrepared = pPrepared;
+            mEditor.setModel(pPrepared.model());
+        }
+    }
+
+    private void setLoadProgress(final CompletableFuture<Void> pLoading, final double pProgress)
+    {
+        if (mLoading == pLoading && mPrepared == null && mToAttach.isEmpty())
+        {
+            mLoadProgress.set(pProgress);
+        }
+    }
+
+    /**
+     * Adds the elements of an asynchronously set model to the view until the
+     * given time slice is spent.
+     *
+     * @param pStart
+     *            start of the current processing run
+     * @param pSliceNanos
+     *            the time slice, {@code 0} to add all elements
+     * @return {@code true} if elements have been added
+     */
+    private boolean attach(final long pStart, final long pSliceNanos)
+    {
+        if (mToAttach.isEmpty())
+        {
+            return false;
+        }
+
+        final GModel model = mEditor.getModel();
+        EObject element;
+        while ((element = mToAttach.poll()) != null)
+        {
+            // elements removed in the meantime are skipped, elements added in the meantime are handled by their notification:
+            if (element.eContainer() == model)
+            {
+                if (element instanceof GNode node)
+                {
+                    addNode(node);
+                }
+                else if (element instanceof GConnection connection)
+                {
+                    addConnection(connection);
+                }
+            }
+            mAttached++;
+
+            if (pSliceNanos > 0 && System.nanoTime() - pStart >= pSliceNanos)
+            {
+                break;
+            }
+        }
+
+        if (mToAttach.isEmpty())
+        {
+            loadingDone();
+        }
+        else
+        {
+            mLoadProgress.set(PREPARATION_SHARE + (1 - PREPARATION_SHARE) * mAttached / mAttachTotal);
+        }
+        return true;
+    }
+
+    private long getLoadSliceNanos()
+    {
+        final Duration budget = mProperties == null ? null : mProperties.getPulseBudget();
+        return budget == null || budget.isNegative() || budget.isZero() ? LOAD_SLICE_NANOS : budget.toNanos();
+    }
+
+    private void loadingDone()
+    {
+        final CompletableFuture<Void> loading = mLoading;
+        mLoading = null;
+        mLoadProgress.set(1);
+        final GModel model = mEditor.getModel();
+        if (model != null)
+        {
+            scheduleLayoutValuesUpdate(model);
+        }
+        if (loading != null)
+        {
+            // not within the processing of the controller:
+            Platform.runLater(() -> loading.complete(null));
+        }
+    }
+
+    private void cancelLoading()
+    {
+        final CompletableFuture<Void> loading = mLoading;
+        mLoading = null;
+        mPrepared = null;
+        mToAttach.clear();
+        mLoadProgress.set(1);
+        if (loading != null)
+        {
+            loading.cancel(false);
         }
     }
 
@@ -324,42 +714,253 @@ public class GraphEditorController<E extends GraphEditor>
     }
 
     /**
-     * flush all queued changes
+     * flush all queued changes, regardless of the
+     * {@link GraphEditorProperties#getPulseBudget() pulse budget}, unless a
+     * batch is running
      */
     public void flush()
     {
-        if (Platform.isFxApplicationThread())
+        if (Platform.isFxApplicationThread() && mBatchDepth == 0)
         {
-            process();
+            process(0, 0);
+            mGraphEditorView.getDrawScheduler().flush();
         }
     }
 
+    /**
+     * Begins a batch of model changes: until the matching {@link #endBatch()}
+     * the queued notifications are not processed and the commands executed
+     * are combined into one undoable command.
+     *
+     * <p>
+     * Must be called on the JavaFX application thread.
+     * </p>
+     *
+     * @see GraphEditor#beginBatch()
+     * @since 17.10.2026
+     */
+    public void beginBatch()
+    {
+        mBatchDepth++;
+        mModelEditingManager.beginBatch();
+    }
 
     /**
-     * process the currently queued commands and process them by delegating to the registered handlers
+     * Ends a batch of model changes begun with {@link #beginBatch()}. Ending
+     * the outermost batch processes all changes made during the batch at
+     * once.
+     *
+     * @see GraphEditor#endBatch()
+     * @since 17.10.2026
+     */
+    public void endBatch()
+    {
+        if (mBatchDepth == 0)
+        {
+            throw new IllegalStateException("No batch to end."); //$NON-NLS-1$
+        }
+        mModelEditingManager.endBatch();
+        if (--mBatchDepth == 0)
+        {
+            process(0);
+        }
+    }
+
+
+    /**
+     * process the currently queued commands and process them by delegating to
+     * the registered handlers within the configured pulse budget
      */
     private void process()
     {
+        if (mBatchDepth > 0)
+        {
+            // processed at the end of the batch:
+            return;
+        }
+
+        final Duration budget = mProperties == null ? null : mProperties.getPulseBudget();
+        process(budget == null || budget.isNegative() ? 0 : budget.toNanos());
+    }
+
+    /**
+     * process the currently queued commands and process them by delegating to the registered handlers
+     *
+     * @param pBudgetNanos
+     *            time in nanoseconds after which the remaining notifications
+     *            are carried over to the next pulse, {@code 0} to process all
+     */
+    private void process(final long pBudgetNanos)
+    {
+        process(pBudgetNanos, getLoadSliceNanos());
+    }
+
+    /**
+     * process the currently queued commands and process them by delegating to the registered handlers
+     *
+     * @param pBudgetNanos
+     *            time in nanoseconds after which the remaining notifications
+     *            are carried over to the next pulse, {@code 0} to process all
+     * @param pLoadSliceNanos
+     *            time in nanoseconds spent on adding the elements of an
+     *            {@link #setModelAsync(GModel) asynchronously set model},
+     *            {@code 0} to add all
+     */
+    private void process(final long pBudgetNanos, final long pLoadSliceNanos)
+    {
+        final long start = System.nanoTime();
+        final List<Notification> received = new ArrayList<>();
         Notification n;
-        boolean changes = false;
         while ((n = mContentAdapter.getQueue().poll()) != null)
         {
-            changes = true;
-            try
-            {
-                processFeatureChanged(n);
-            }
-            catch (Exception e)
+            received.add(n);
+        }
+
+        if (!received.isEmpty())
+        {
+            final List<Notification> coalesced = mProperties != null && mProperties.isNotificationCoalescing()
+                    ? NotificationCoalescer.coalesce(received) : received;
+            mCoalescingRatio.set(coalesced.isEmpty() ? received.size() : (double) received.size() / coalesced.size());
+            mPending.addAll(coalesced);
+            mQueueDepth.set(received.size() + mPending.size() - coalesced.size());
+        }
+
+        final boolean attached = attach(start, pLoadSliceNanos);
+        if (mPending.isEmpty() && !attached)
+        {
+            return;
+        }
+
+        if (!mUnfinished)
+        {
+            mUnfinished = true;
+            mUnfinishedSince = start;
+        }
+
+        // removed skins are taken out of the view at once, instead of searching the view for each:
+        mGraphEditorView.beginUpdate();
+        try
+        {
+            Notification notification;
+            while ((notification = mPending.poll()) != null)
             {
-                LOGGER.error("Could not process update notification '{}': ", n, e); //$NON-NLS-1$
+                try
+                {
+                    processFeatureChanged(notification);
+                }
+                catch (Exception e)
+                {
+                    LOGGER.error("Could not process update notification '{}': ", notification, e); //$NON-NLS-1$
+                }
+
+                if (pBudgetNanos > 0 && System.nanoTime() - start >= pBudgetNanos)
+                {
+                    break;
+                }
             }
         }
+        finally
+        {
+            mGraphEditorView.endUpdate();
+        }
 
-        if (changes)
+        if (mPending.isEmpty() || System.nanoTime() - mUnfinishedSince >= getMaxPulseLatencyNanos())
         {
+            mUnfinished = false;
+            mSkinVirtualizer.invalidate();
             calculateBounds();
             processingDone();
         }
+
+        if (!mPending.isEmpty() || !mToAttach.isEmpty())
+        {
+            // carry the remaining notifications and elements over to the next pulse:
+            Platform.requestNextPulse();
+        }
+    }
+
+    private long getMaxPulseLatencyNanos()
+    {
+        return mProperties == null ? GraphEditorProperties.DEFAULT_MAX_PULSE_LATENCY.toNanos()
+                : mProperties.getMaxPulseLatency().toNanos();
+    }
+
+    /**
+     * The number of {@link Notification notifications} that were queued when
+     * the queue was processed the last time, including the notifications
+     * carried over from previous pulses.
+     *
+     * @return the queue depth of the last processing run
+     * @since 17.10.2026
+     */
+    public final ReadOnlyIntegerProperty queueDepthProperty()
+    {
+        return mQueueDepth.getReadOnlyProperty();
+    }
+
+    /**
+     * The ratio of received to dispatched {@link Notification notifications}
+     * of the last processing run. A value of {@code 1} means that nothing could
+     * be coalesced, a value of {@code 4} means that on average four received
+     * notifications have been consolidated into one.
+     *
+     * @return the coalescing ratio of the last processing run
+     * @since 17.10.2026
+     */
+    public final ReadOnlyDoubleProperty coalescingRatioProperty()
+    {
+        return mCoalescingRatio.getReadOnlyProperty();
+    }
+
+    /**
+     * Enables or disables measuring the invocations of the registered change
+     * handlers. Disabled by default, as it adds two calls to
+     * {@link System#nanoTime()} per handler invocation.
+     *
+     * @param pEnabled
+     *            {@code true} to count the invocations of each handler and
+     *            the time spent in it
+     * @see #getHandlerStatistics()
+     * @since 17.10.2026
+     */
+    public final void setHandlerInstrumentationEnabled(final boolean pEnabled)
+    {
+        mDispatcher.setInstrumentationEnabled(pEnabled);
+    }
+
+    /**
+     * @return {@code true} if the invocations of the change handlers are
+     *         measured
+     * @since 17.10.2026
+     */
+    public final boolean isHandlerInstrumentationEnabled()
+    {
+        return mDispatcher.isInstrumentationEnabled();
+    }
+
+    /**
+     * The invocation counts and cumulative time of all registered change
+     * handlers, measured while
+     * {@link #setHandlerInstrumentationEnabled(boolean) instrumentation} was
+     * enabled.
+     *
+     * @return a snapshot of the statistics of all handlers, in the order of
+     *         their registration
+     * @since 17.10.2026
+     */
+    public final List<HandlerStatistics> getHandlerStatistics()
+    {
+        return mDispatcher.getStatistics();
+    }
+
+    /**
+     * Resets the statistics of all registered change handlers.
+     *
+     * @since 17.10.2026
+     */
+    public final void resetHandlerStatistics()
+    {
+        mDispatcher.resetStatistics();
     }
 
     private void onNodeCreated(final GNode pNode)
@@ -380,6 +981,7 @@ public class GraphEditorController<E extends GraphEditor>
     {
         mSelectionManager.addConnection(pConnection);
         mSkinManager.updateJoints(pConnection);
+        getConnectionLayout().markAllDirty();
     }
 
     private void onJointCreated(final GJoint pJoint)
@@ -391,19 +993,7 @@ public class GraphEditorController<E extends GraphEditor>
 
     private void processFeatureChanged(final Notification pNotification)
     {
-        // call every registered consumer, registered for the feature
-        final Consumer<Notification> consumerForFeature;
-        if ((consumerForFeature = mHandlersByFeature.get(pNotification.getFeature())) != null)
-        {
-            consumerForFeature.accept(pNotification);
-        }
-
-        // call every registered consumer, registered for the feature
-        final Consumer<Notification> consumerForType;
-        if ((consumerForType = mHandlersByType.get(pNotification.getEventType())) != null)
-        {
-            consumerForType.accept(pNotification);
-        }
+        mDispatcher.dispatch(pNotification);
     }
 
     /**
@@ -413,7 +1003,9 @@ public class GraphEditorController<E extends GraphEditor>
      */
     protected void processingDone()
     {
-        getConnectionLayout().draw();
+        // makes sure the connection layout has been created and set on the view:
+        getConnectionLayout();
+        mGraphEditorView.getDrawScheduler().requestDraw();
     }
 
     private void nodePositionChanged(final Notification pChange)
@@ -421,11 +1013,13 @@ public class GraphEditorController<E extends GraphEditor>
         final GNode node = (GNode) pChange.getNotifier();
         if (node != null)
         {
+            updateBounds(node);
             final GNodeSkin skin = mSkinManager.lookupNode(node);
             if (skin != null)
             {
                 skin.getRoot().relocate(node.getX(), node.getY());
             }
+            markConnectionsDirty(node);
         }
     }
 
@@ -434,11 +1028,13 @@ public class GraphEditorController<E extends GraphEditor>
         final GNode node = (GNode) pChange.getNotifier();
         if (node != null)
         {
+            updateBounds(node);
             final GNodeSkin skin = mSkinManager.lookupNode(node);
             if (skin != null)
             {
                 skin.getRoot().resize(node.getWidth(), node.getHeight());
             }
+            markConnectionsDirty(node);
         }
     }
 
@@ -447,23 +1043,32 @@ public class GraphEditorController<E extends GraphEditor>
         final GJoint joint = (GJoint) pChange.getNotifier();
         if (joint != null)
         {
+            updateBounds(joint);
             final GJointSkin skin = mSkinManager.lookupJoint(joint);
             if (skin != null)
             {
                 skin.initialize();
             }
+            getConnectionLayout().markDirty(joint.getConnection());
         }
     }
 
     private void addJoint(final GJoint pJoint, final Object pNotifier)
     {
+        updateBounds(pJoint);
         updateConnectionAfterJointChange(pJoint, pNotifier);
     }
 
     private void removeJoint(final GJoint pJoint)
     {
-        mSelectionManager.removeJoint(pJoint);
+        disposeJoint(pJoint);
         mSelectionManager.clearSelection(pJoint);
+        removeBounds(pJoint);
+    }
+
+    private void disposeJoint(final GJoint pJoint)
+    {
+        mSelectionManager.removeJoint(pJoint);
         mModelLayoutUpdater.removeJoint(pJoint);
         mSkinManager.removeJoint(pJoint);
     }
@@ -479,10 +1084,12 @@ public class GraphEditorController<E extends GraphEditor>
         if (pJoint.getConnection() != null)
         {
             mSkinManager.updateJoints(pJoint.getConnection());
+            getConnectionLayout().markDirty(pJoint.getConnection());
         }
         else if(pNotifier instanceof GConnection c)
         {
             mSkinManager.updateJoints(c);
+            getConnectionLayout().markDirty(c);
         }
     }
 
@@ -495,27 +1102,76 @@ public class GraphEditorController<E extends GraphEditor>
     protected final void markConnectorsDirty(final GNode pNode)
     {
         mSkinManager.updateConnectors(pNode);
+        markConnectionsDirty(pNode);
+    }
+
+    private void markConnectionsDirty(final GNode pNode)
+    {
+        if (pNode == null)
+        {
+            return;
+        }
+        final var connectionLayout = getConnectionLayout();
+        for (int i = 0; i < pNode.getConnectors().size(); i++)
+        {
+            final var connections = pNode.getConnectors().get(i).getConnections();
+            for (int j = 0; j < connections.size(); j++)
+            {
+                connectionLayout.markDirty(connections.get(j));
+            }
+        }
     }
 
     private void addConnection(final GConnection pConnection)
     {
-        mSkinManager.lookupOrCreateConnection(pConnection); // implicit create
+        for (int i = 0; i < pConnection.getJoints().size(); i++)
+        {
+            updateBounds(pConnection.getJoints().get(i));
+        }
+        mSkinVirtualizer.updateBounds(pConnection);
+
+        if (mSkinVirtualizer.shouldMaterialize(pConnection))
+        {
+            mSkinManager.lookupOrCreateConnection(pConnection); // implicit create
+        }
     }
 
     private void removeConnection(final GConnection pConnection)
     {
-        mSelectionManager.removeConnection(pConnection);
+        disposeConnection(pConnection);
         mSelectionManager.clearSelection(pConnection);
+
+        for (final GJoint joint : pConnection.getJoints())
+        {
+            mSelectionManager.clearSelection(joint);
+            removeBounds(joint);
+        }
+        mSkinVirtualizer.removeBounds(pConnection);
+    }
+
+    /**
+     * Removes the skins of the given connection and its joints, but keeps their selection state
+     */
+    private void disposeConnection(final GConnection pConnection)
+    {
+        getConnectionLayout().markAllDirty();
+        mSelectionManager.removeConnection(pConnection);
         mSkinManager.removeConnection(pConnection);
 
         for (final GJoint joint : pConnection.getJoints())
         {
-            removeJoint(joint);
+            disposeJoint(joint);
         }
     }
 
     private void addNode(final GNode pNode)
     {
+        updateBounds(pNode);
+        if (!mSkinVirtualizer.shouldMaterialize(pNode))
+        {
+            return;
+        }
+
         mSkinManager.lookupOrCreateNode(pNode); // implicit create
 
         for (int i = 0; i < pNode.getConnectors().size(); i++)
@@ -525,6 +1181,16 @@ public class GraphEditorController<E extends GraphEditor>
     }
 
     private void removeNode(final GNode pNode)
+    {
+        disposeNode(pNode);
+        mSelectionManager.clearSelection(pNode);
+        removeBounds(pNode);
+    }
+
+    /**
+     * Removes the skins of the given node and its connectors, but keeps their selection state
+     */
+    private void disposeNode(final GNode pNode)
     {
         for (int i = 0; i < pNode.getConnectors().size(); i++)
         {
@@ -532,13 +1198,17 @@ public class GraphEditorController<E extends GraphEditor>
         }
 
         mSelectionManager.removeNode(pNode);
-        mSelectionManager.clearSelection(pNode);
         mModelLayoutUpdater.removeNode(pNode);
         mSkinManager.removeNode(pNode);
     }
 
     private void addConnector(final GConnector pConnector)
     {
+        if (mSkinVirtualizer.isVirtualized() && mSkinManager.lookupNode(pConnector.getParent()) == null)
+        {
+            // the node is not materialized:
+            return;
+        }
         mSkinManager.lookupOrCreateConnector(pConnector); // implicit create
     }
 
@@ -550,10 +1220,17 @@ public class GraphEditorController<E extends GraphEditor>
     }
 
     /**
-     * @return creates the default {@link ConnectionLayout}
+     * @return creates the default {@link ConnectionLayout}, a
+     *         {@link CanvasConnectionLayout} if
+     *         {@link GraphEditorProperties#isCanvasConnectionRendering() canvas
+     *         connection rendering} is enabled
      */
     protected ConnectionLayout createConnectionLayout()
     {
+        if (mProperties != null && mProperties.isCanvasConnectionRendering())
+        {
+            return new CanvasConnectionLayout(mSkinManager, mGraphEditorView);
+        }
         return new DefaultConnectionLayout(mSkinManager);
     }
 
@@ -570,6 +1247,16 @@ public class GraphEditorController<E extends GraphEditor>
         return mConnectionLayouter;
     }
 
+    private void disposeConnectionLayout()
+    {
+        if (mConnectionLayouter != null)
+        {
+            mConnectionLayouter.dispose();
+            mConnectionLayouter = null;
+            mGraphEditorView.setConnectionLayout(null);
+        }
+    }
+
     /**
      * @return {@link GraphEditor} instance
      */
@@ -667,11 +1354,34 @@ public class GraphEditorController<E extends GraphEditor>
         }
     }
 
+    private void updateBounds(final EObject pItem)
+    {
+        mSelectionManager.updateBounds(pItem);
+        mBoundsIndex.update(pItem);
+        mSkinVirtualizer.updateBounds(pItem);
+    }
+
+    private void removeBounds(final EObject pItem)
+    {
+        mSelectionManager.removeBounds(pItem);
+        mBoundsIndex.remove(pItem);
+        mSkinVirtualizer.removeBounds(pItem);
+    }
+
+    /**
+     * Resizes the view to the bounds of the model, unless they changed by no
+     * more than {@link #BOUNDS_HYSTERESIS} since the last resize.
+     */
     private void calculateBounds()
     {
         final var model = getEditor().getModel();
-        final var viewport = model == null ? Rectangle2D.EMPTY : GeometryUtils.getBounds(model);
-        mGraphEditorView.setModelBounds(viewport);
+        final var bounds = model == null ? Rectangle2D.EMPTY : mBoundsIndex.getBounds();
+        if (mLastModelBounds == null || Math.abs(bounds.getWidth() - mLastModelBounds.getWidth()) > BOUNDS_HYSTERESIS
+                || Math.abs(bounds.getHeight() - mLastModelBounds.getHeight()) > BOUNDS_HYSTERESIS)
+        {
+            mLastModelBounds = bounds;
+            mGraphEditorView.setModelBounds(bounds);
+        }
     }
 
     /**
@@ -727,24 +1437,56 @@ public class GraphEditorController<E extends GraphEditor>
         }
     }
 
+    /**
+     * Observes the containment tree of the model and queues the notifications
+     * for which a handler is registered, all other notifications are dropped
+     * right away.
+     */
     private static class GraphEditorEContentAdapter extends EContentAdapter
     {
 
         private final Queue<Notification> imQueue = new ConcurrentLinkedQueue<>();
+        private final Set<Object> imFeatures = ConcurrentHashMap.newKeySet();
+        private final Set<Integer> imTypes = ConcurrentHashMap.newKeySet();
 
         @Override
         public final void notifyChanged(final Notification pNotification)
         {
+            // keeps the adapter attached to added and removed contents:
             super.notifyChanged(pNotification);
-            if (pNotification.getEventType() != Notification.REMOVING_ADAPTER)
+            if (pNotification.getEventType() != Notification.REMOVING_ADAPTER && isObserved(pNotification))
             {
                 imQueue.add(pNotification);
             }
         }
 
+        void observeFeature(final EStructuralFeature pFeature)
+        {
+            imFeatures.add(pFeature);
+        }
+
+        void observeType(final int pNotificationType)
+        {
+            imTypes.add(pNotificationType);
+        }
+
+        private boolean isObserved(final Notification pNotification)
+        {
+            final Object feature = pNotification.getFeature();
+            return feature != null && imFeatures.contains(feature) || imTypes.contains(pNotification.getEventType());
+        }
+
         Queue<Notification> getQueue()
         {
             return imQueue;
         }
     }
+
+    /**
+     * A model validated and with skins created on a background thread.
+     */
+    private record PreparedModel(GModel model, Map<GNode, GNodeSkin> nodeSkins,
+            Map<GConnector, GConnectorSkin> connectorSkins)
+    {
+    }
 }
@@ -0,0 +1,30 @@
+package io.github.eckig.grapheditor.core;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import org.eclipse.emf.common.notify.Notification;
+
+
+/**
+ * Invocation statistics of a change handler registered with
+ * {@link GraphEditorController#registerChangeListener(org.eclipse.emf.ecore.EStructuralFeature, Consumer)}.
+ *
+ * @param key
+ *            the {@link org.eclipse.emf.ecore.EStructuralFeature feature} or
+ *            the {@link Integer notification type} the handler is registered
+ *            for
+ * @param handler
+ *            the registered handler
+ * @param invocationCount
+ *            the number of invocations while instrumentation was enabled
+ * @param cumulativeTime
+ *            the total time spent in the handler while instrumentation was
+ *            enabled
+ * @see GraphEditorController#setHandlerInstrumentationEnabled(boolean)
+ * @since 17.10.2026
+ */
+public record HandlerStatistics(Object key, Consumer<Notification> handler, long invocationCount,
+        Duration cumulativeTime)
+{
+}
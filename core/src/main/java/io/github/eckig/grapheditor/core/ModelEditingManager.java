@@ -67,6 +67,70 @@ public interface ModelEditingManager
      */
     void updateLayoutValues(final SkinLookup skinLookup);
 
+    /**
+     * Silently updates the layout values of the given nodes and joints to
+     * match those in the skin instances. Unlike
+     * {@link #updateLayoutValues(SkinLookup)} only the given elements are
+     * checked instead of the whole model.
+     *
+     * @param skinLookup
+     *            the {@link SkinLookup} used to lookup skin instances
+     * @param changed
+     *            the nodes and joints whose skins might have been moved or
+     *            resized
+     * @since 17.10.2026
+     */
+    default void updateLayoutValues(final SkinLookup skinLookup, final Collection<? extends EObject> changed)
+    {
+        updateLayoutValues(skinLookup);
+    }
+
+    /**
+     * Begins a batch: until the matching {@link #endBatch()}, all commands
+     * executed on the command stack are combined into one undoable command,
+     * if the command stack supports it.
+     *
+     * @since 17.10.2026
+     */
+    default void beginBatch()
+    {
+    }
+
+    /**
+     * Ends a batch begun with {@link #beginBatch()}.
+     *
+     * @since 17.10.2026
+     */
+    default void endBatch()
+    {
+    }
+
+    /**
+     * Gets the estimated memory in bytes used by the undo history of the
+     * command stack.
+     *
+     * @return the estimated memory in bytes, {@code -1} if the command stack
+     *         does not track it
+     * @see io.github.eckig.grapheditor.utils.GraphEditorProperties#setUndoMemoryBudget(long)
+     * @since 17.10.2026
+     */
+    default long getUndoMemoryUsage()
+    {
+        return -1;
+    }
+
+    /**
+     * Gets the number of commands that can be undone.
+     *
+     * @return the undo depth, {@code -1} if the command stack does not track
+     *         it
+     * @see io.github.eckig.grapheditor.utils.GraphEditorProperties#setUndoDepthLimit(int)
+     * @since 17.10.2026
+     */
+    default int getUndoDepth()
+    {
+        return -1;
+    }
 
     /**
      * Removes the given elements from the graph editor
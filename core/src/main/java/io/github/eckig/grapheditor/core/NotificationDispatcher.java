@@ -0,0 +1,262 @@
+package io.github.eckig.grapheditor.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+import io.github.eckig.grapheditor.model.GraphPackage;
+
+
+/**
+ * Dispatches {@link Notification notifications} to the change handlers
+ * registered for their feature and event type.
+ *
+ * <p>
+ * The registered handlers are compiled into dense lookup tables on first use
+ * after a registration: features of the {@link GraphPackage} are looked up by
+ * classifier ID and feature ID, event types by their value. All handlers
+ * registered for the same key are stored as one flat array. Features of other
+ * packages and unusual event types fall back to a map.
+ * </p>
+ */
+final class NotificationDispatcher
+{
+
+    // event types beyond this are looked up in a map instead of the table:
+    private static final int MAX_TABLE_TYPE = 255;
+
+    private static final Handler[] NO_HANDLERS = new Handler[0];
+
+    /**
+     * Offset of the first feature of each class of the {@link GraphPackage},
+     * indexed by classifier ID.
+     */
+    private static final int[] FEATURE_OFFSETS;
+    private static final int FEATURE_COUNT;
+
+    static
+    {
+        final List<EClassifier> classifiers = GraphPackage.eINSTANCE.getEClassifiers();
+        FEATURE_OFFSETS = new int[classifiers.size()];
+        int count = 0;
+        for (final EClassifier classifier : classifiers)
+        {
+            FEATURE_OFFSETS[classifier.getClassifierID()] = count;
+            if (classifier instanceof EClass eClass)
+            {
+                count += eClass.getFeatureCount();
+            }
+        }
+        FEATURE_COUNT = count;
+    }
+
+    private final Map<EStructuralFeature, List<Handler>> mHandlersByFeature = new LinkedHashMap<>();
+    private final Map<Integer, List<Handler>> mHandlersByType = new LinkedHashMap<>();
+
+    private Handler[][] mFeatureTable;
+    private Handler[][] mTypeTable;
+    private final Map<EStructuralFeature, Handler[]> mOtherFeatures = new HashMap<>();
+    private final Map<Integer, Handler[]> mOtherTypes = new HashMap<>();
+    private boolean mCompiled;
+
+    private boolean mInstrumentationEnabled;
+
+    /**
+     * Registers a handler for the given feature.
+     */
+    void register(final EStructuralFeature pFeature, final Consumer<Notification> pHandler)
+    {
+        mHandlersByFeature.computeIfAbsent(pFeature, _ -> new ArrayList<>()).add(new Handler(pFeature, pHandler));
+        mCompiled = false;
+    }
+
+    /**
+     * Registers a handler for the given notification type.
+     */
+    void register(final int pNotificationType, final Consumer<Notification> pHandler)
+    {
+        mHandlersByType.computeIfAbsent(pNotificationType, _ -> new ArrayList<>())
+                .add(new Handler(pNotificationType, pHandler));
+        mCompiled = false;
+    }
+
+    /**
+     * Calls the handlers registered for the feature of the given notification,
+     * then the handlers registered for its event type, in the order of their
+     * registration.
+     */
+    void dispatch(final Notification pNotification)
+    {
+        if (!mCompiled)
+        {
+            compile();
+        }
+
+        if (pNotification.getFeature() instanceof EStructuralFeature feature)
+        {
+            invoke(getHandlers(feature), pNotification);
+        }
+
+        final int type = pNotification.getEventType();
+        invoke(type >= 0 && type < mTypeTable.length ? mTypeTable[type] : mOtherTypes.get(type), pNotification);
+    }
+
+    void setInstrumentationEnabled(final boolean pEnabled)
+    {
+        mInstrumentationEnabled = pEnabled;
+    }
+
+    boolean isInstrumentationEnabled()
+    {
+        return mInstrumentationEnabled;
+    }
+
+    /**
+     * @return the statistics of all registered handlers, in the order of
+     *         their registration
+     */
+    List<HandlerStatistics> getStatistics()
+    {
+        final List<HandlerStatistics> statistics = new ArrayList<>();
+        for (final List<Handler> handlers : mHandlersByFeature.values())
+        {
+            handlers.forEach(h -> statistics.add(h.toStatistics()));
+        }
+        for (final List<Handler> handlers : mHandlersByType.values())
+        {
+            handlers.forEach(h -> statistics.add(h.toStatistics()));
+        }
+        return statistics;
+    }
+
+    void resetStatistics()
+    {
+        mHandlersByFeature.values().forEach(handlers -> handlers.forEach(Handler::reset));
+        mHandlersByType.values().forEach(handlers -> handlers.forEach(Handler::reset));
+    }
+
+    private Handler[] getHandlers(final EStructuralFeature pFeature)
+    {
+        final EClass eClass = pFeature.getEContainingClass();
+        if (eClass != null && eClass.getEPackage() == GraphPackage.eINSTANCE)
+        {
+            return mFeatureTable[FEATURE_OFFSETS[eClass.getClassifierID()] + pFeature.getFeatureID()];
+        }
+        return mOtherFeatures.isEmpty() ? null : mOtherFeatures.get(pFeature);
+    }
+
+    private void invoke(final Handler[] pHandlers, final Notification pNotification)
+    {
+        if (pHandlers == null)
+        {
+            return;
+        }
+
+        if (!mInstrumentationEnabled)
+        {
+            for (final Handler handler : pHandlers)
+            {
+                handler.mConsumer.accept(pNotification);
+            }
+            return;
+        }
+
+        for (final Handler handler : pHandlers)
+        {
+            final long start = System.nanoTime();
+            try
+            {
+                handler.mConsumer.accept(pNotification);
+            }
+            finally
+            {
+                handler.mInvocations++;
+                handler.mNanos += System.nanoTime() - start;
+            }
+        }
+    }
+
+    private void compile()
+    {
+        mFeatureTable = new Handler[FEATURE_COUNT][];
+        mOtherFeatures.clear();
+        for (final Map.Entry<EStructuralFeature, List<Handler>> entry : mHandlersByFeature.entrySet())
+        {
+            final EStructuralFeature feature = entry.getKey();
+            final Handler[] handlers = entry.getValue().toArray(NO_HANDLERS);
+            final EClass eClass = feature.getEContainingClass();
+            if (eClass != null && eClass.getEPackage() == GraphPackage.eINSTANCE)
+            {
+                mFeatureTable[FEATURE_OFFSETS[eClass.getClassifierID()] + feature.getFeatureID()] = handlers;
+            }
+            else
+            {
+                mOtherFeatures.put(feature, handlers);
+            }
+        }
+
+        int maxType = -1;
+        for (final Integer type : mHandlersByType.keySet())
+        {
+            if (type >= 0 && type <= MAX_TABLE_TYPE)
+            {
+                maxType = Math.max(maxType, type);
+            }
+        }
+        mTypeTable = new Handler[maxType + 1][];
+        mOtherTypes.clear();
+        for (final Map.Entry<Integer, List<Handler>> entry : mHandlersByType.entrySet())
+        {
+            final int type = entry.getKey();
+            final Handler[] handlers = entry.getValue().toArray(NO_HANDLERS);
+            if (type >= 0 && type <= maxType)
+            {
+                mTypeTable[type] = handlers;
+            }
+            else
+            {
+                mOtherTypes.put(type, handlers);
+            }
+        }
+
+        mCompiled = true;
+    }
+
+    /**
+     * A registered handler and its invocation statistics.
+     */
+    private static final class Handler
+    {
+
+        private final Object mKey;
+        private final Consumer<Notification> mConsumer;
+        private long mInvocations;
+        private long mNanos;
+
+        private Handler(final Object pKey, final Consumer<Notification> pConsumer)
+        {
+            mKey = pKey;
+            mConsumer = pConsumer;
+        }
+
+        private HandlerStatistics toStatistics()
+        {
+            return new HandlerStatistics(mKey, mConsumer, mInvocations, Duration.ofNanos(mNanos));
+        }
+
+        private void reset()
+        {
+            mInvocations = 0;
+            mNanos = 0;
+        }
+    }
+}
@@ -57,6 +57,10 @@ public final class RectangularConnections
     {
         final Side sourceSide = DefaultConnectorTypes.getSide(connection.getSource().getType());
         final Side targetSide = DefaultConnectorTypes.getSide(connection.getTarget().getType());
+        if (sourceSide == null || targetSide == null)
+        {
+            return false;
+        }
 
         final boolean bothHorizontal = sourceSide.isHorizontal() && targetSide.isHorizontal();
         final boolean bothVertical = sourceSide.isVertical() && targetSide.isVertical();
@@ -0,0 +1,384 @@
+package io.github.eckig.grapheditor.core.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.command.Command;
+import org.eclipse.emf.common.command.CompoundCommand;
+
+import io.github.eckig.grapheditor.Commands.MoveResizeCommand;
+
+
+/**
+ * {@link BasicCommandStack} with a limited undo history.
+ *
+ * <ul>
+ * <li>When more commands than the depth limit are kept or their estimated
+ * memory exceeds the memory budget, the oldest commands are discarded. The
+ * most recent command is always kept.</li>
+ * <li>A {@link MoveResizeCommand} (on its own or as the only command of a
+ * {@link CompoundCommand}) that moves or resizes the same elements as the
+ * command executed right before it, within the coalescing window, is merged
+ * into that command. Undoing restores the geometry from before the first
+ * command.</li>
+ * <li>All commands executed between {@link #beginBatch()} and
+ * {@link #endBatch()} are combined into one {@link CompoundCommand}.</li>
+ * </ul>
+ *
+ * <p>
+ * The memory of the commands is estimated from the number of elements they
+ * store, it is not measured. Commands of unknown type are accounted with a
+ * fixed size.
+ * </p>
+ *
+ * @since 17.10.2026
+ */
+public class BoundedCommandStack extends BasicCommandStack
+{
+
+    private static final String BATCH_LABEL = "Batch"; //$NON-NLS-1$
+
+    // rough estimates of the retained size of commands:
+    private static final long COMMAND_BYTES = 128;
+    private static final long MOVE_RESIZE_BYTES_PER_ELEMENT = 8 + 2 * 4 * Double.BYTES;
+    private static final long BULK_REMOVE_BYTES_PER_ELEMENT = 8 + Integer.BYTES;
+
+    private final Map<Command, Long> mSizes = new IdentityHashMap<>();
+
+    private final long mMemoryBudget;
+    private final int mDepthLimit;
+    private final long mCoalescingWindow;
+
+    private long mMemoryUsage;
+    private long mCoalescedCount;
+    private long mDiscardedCount;
+
+    private Command mLastExecuted;
+    private long mLastExecutionTime;
+    private boolean mExecuting;
+
+    private int mBatchDepth;
+    private int mBatchStart;
+
+    /**
+     * Creates a new command stack without limits and without coalescing.
+     */
+    public BoundedCommandStack()
+    {
+        this(0, 0, Duration.ZERO);
+    }
+
+    /**
+     * Creates a new command stack.
+     *
+     * @param pMemoryBudget
+     *            the estimated memory in bytes the undo history may use,
+     *            {@code 0} for no limit
+     * @param pDepthLimit
+     *            the maximum number of commands kept, {@code 0} for no limit
+     * @param pCoalescingWindow
+     *            the time window in which consecutive moves or resizes of the
+     *            same elements are merged, {@code null} or
+     *            {@link Duration#ZERO} to disable coalescing
+     */
+    public BoundedCommandStack(final long pMemoryBudget, final int pDepthLimit, final Duration pCoalescingWindow)
+    {
+        mMemoryBudget = Math.max(0, pMemoryBudget);
+        mDepthLimit = Math.max(0, pDepthLimit);
+        mCoalescingWindow = pCoalescingWindow == null || pCoalescingWindow.isNegative() ? 0 : pCoalescingWindow.toNanos();
+    }
+
+    @Override
+    public void execute(final Command pCommand)
+    {
+        if (pCommand == null || !pCommand.canExecute())
+        {
+            super.execute(pCommand);
+            return;
+        }
+
+        final Command previous = top >= 0 ? commandList.get(top) : null;
+
+        // the commands that could be redone are discarded by the super class:
+        for (int i = top + 1; i < commandList.size(); i++)
+        {
+            release(commandList.get(i));
+        }
+
+        // listeners are informed once the history has been updated:
+        mExecuting = true;
+        try
+        {
+            super.execute(pCommand);
+        }
+        finally
+        {
+            mExecuting = false;
+        }
+
+        if (top >= 0 && commandList.get(top) == pCommand)
+        {
+            final long now = System.nanoTime();
+            if (mBatchDepth == 0 && coalesce(previous, pCommand, now))
+            {
+                mLastExecuted = previous;
+            }
+            else
+            {
+                final long size = estimateSize(pCommand);
+                mSizes.put(pCommand, size);
+                mMemoryUsage += size;
+                mLastExecuted = pCommand;
+            }
+            mLastExecutionTime = now;
+            if (mBatchDepth == 0)
+            {
+                trim();
+            }
+        }
+
+        super.notifyListeners();
+    }
+
+    @Override
+    public void undo()
+    {
+        mLastExecuted = null;
+        super.undo();
+        if (mBatchDepth > 0)
+        {
+            // commands undone during a batch are no longer part of it:
+            mBatchStart = Math.min(mBatchStart, top);
+        }
+    }
+
+    @Override
+    public void redo()
+    {
+        mLastExecuted = null;
+        super.redo();
+    }
+
+    @Override
+    public void flush()
+    {
+        super.flush();
+        mSizes.clear();
+        mMemoryUsage = 0;
+        mLastExecuted = null;
+        mBatchStart = top;
+    }
+
+    @Override
+    protected void notifyListeners()
+    {
+        if (!mExecuting)
+        {
+            super.notifyListeners();
+        }
+    }
+
+    /**
+     * Begins a batch: all commands executed until the matching
+     * {@link #endBatch()} are combined into one {@link CompoundCommand}.
+     * Batches can be nested, only the outermost batch has an effect.
+     */
+    public void beginBatch()
+    {
+        if (mBatchDepth++ == 0)
+        {
+            mBatchStart = top;
+        }
+    }
+
+    /**
+     * Ends a batch begun with {@link #beginBatch()}. If more than one command
+     * was executed during the batch, they are replaced by a single
+     * {@link CompoundCommand}, without executing them again.
+     */
+    public void endBatch()
+    {
+        if (mBatchDepth == 0)
+        {
+            throw new IllegalStateException("No batch to end."); //$NON-NLS-1$
+        }
+        if (--mBatchDepth > 0)
+        {
+            return;
+        }
+
+        final int first = mBatchStart + 1;
+        if (top > first)
+        {
+            final List<Command> range = commandList.subList(first, top + 1);
+            final List<Command> commands = new ArrayList<>(range);
+            range.clear();
+
+            final CompoundCommand batch = new CompoundCommand(BATCH_LABEL, commands);
+            commandList.add(first, batch);
+
+            long size = COMMAND_BYTES;
+            for (final Command command : commands)
+            {
+                final Long commandSize = mSizes.remove(command);
+                size += commandSize == null ? 0 : commandSize;
+            }
+            mSizes.put(batch, size);
+            mMemoryUsage += COMMAND_BYTES;
+
+            if (saveIndex > top)
+            {
+                saveIndex -= commands.size() - 1;
+            }
+            else if (saveIndex == top)
+            {
+                saveIndex = first;
+            }
+            else if (saveIndex >= first)
+            {
+                // a save point within the batch can no longer be reached:
+                saveIndex = -2;
+            }
+
+            top = first;
+            mostRecentCommand = batch;
+        }
+
+        mLastExecuted = null;
+        trim();
+        notifyListeners();
+    }
+
+    /**
+     * @return the estimated memory in bytes used by the commands of this stack
+     */
+    public long getMemoryUsage()
+    {
+        return mMemoryUsage;
+    }
+
+    /**
+     * @return the number of commands that can be undone
+     */
+    public int getUndoDepth()
+    {
+        return top + 1;
+    }
+
+    /**
+     * @return the number of commands merged into the command executed before
+     *         them since this stack was created
+     */
+    public long getCoalescedCount()
+    {
+        return mCoalescedCount;
+    }
+
+    /**
+     * @return the number of commands discarded from the undo history because
+     *         of the depth limit or memory budget since this stack was created
+     */
+    public long getDiscardedCount()
+    {
+        return mDiscardedCount;
+    }
+
+    /**
+     * Estimates the memory in bytes retained by the given command.
+     *
+     * @param pCommand
+     *            the executed {@link Command}
+     * @return the estimated size in bytes
+     */
+    protected long estimateSize(final Command pCommand)
+    {
+        if (pCommand instanceof MoveResizeCommand moveResize)
+        {
+            return COMMAND_BYTES + moveResize.size() * MOVE_RESIZE_BYTES_PER_ELEMENT;
+        }
+        else if (pCommand instanceof BulkRemoveCommand remove)
+        {
+            return COMMAND_BYTES + remove.size() * BULK_REMOVE_BYTES_PER_ELEMENT;
+        }
+        else if (pCommand instanceof CompoundCommand compound)
+        {
+            long size = COMMAND_BYTES;
+            for (final Command command : compound.getCommandList())
+            {
+                size += estimateSize(command);
+            }
+            return size;
+        }
+        return COMMAND_BYTES;
+    }
+
+    /**
+     * Merges the given, just executed command into the previous command if
+     * both move or resize the same elements.
+     */
+    private boolean coalesce(final Command pPrevious, final Command pCommand, final long pNow)
+    {
+        // do not merge into a command that is no longer the last one, or across a save point:
+        if (mCoalescingWindow == 0 || pPrevious == null || pPrevious != mLastExecuted
+                || pNow - mLastExecutionTime > mCoalescingWindow || saveIndex == top - 1)
+        {
+            return false;
+        }
+
+        final MoveResizeCommand first = getMoveResize(pPrevious);
+        final MoveResizeCommand second = getMoveResize(pCommand);
+        if (first == null || second == null || !first.coalesce(second))
+        {
+            return false;
+        }
+
+        commandList.remove(top--);
+        mostRecentCommand = pPrevious;
+        pCommand.dispose();
+        mCoalescedCount++;
+        return true;
+    }
+
+    private static MoveResizeCommand getMoveResize(final Command pCommand)
+    {
+        if (pCommand instanceof MoveResizeCommand moveResize)
+        {
+            return moveResize;
+        }
+        else if (pCommand instanceof CompoundCommand compound && compound.getCommandList().size() == 1)
+        {
+            return getMoveResize(compound.getCommandList().get(0));
+        }
+        return null;
+    }
+
+    /**
+     * Discards the oldest commands until the history is within its limits.
+     */
+    private void trim()
+    {
+        while (top > 0 && (mDepthLimit > 0 && top >= mDepthLimit || mMemoryBudget > 0 && mMemoryUsage > mMemoryBudget))
+        {
+            final Command oldest = commandList.remove(0);
+            release(oldest);
+            oldest.dispose();
+            top--;
+            // a save point before the oldest command can no longer be reached:
+            saveIndex = saveIndex < 0 ? -2 : saveIndex - 1;
+            mDiscardedCount++;
+        }
+    }
+
+    private void release(final Command pCommand)
+    {
+        final Long size = mSizes.remove(pCommand);
+        if (size != null)
+        {
+            mMemoryUsage -= size;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package io.github.eckig.grapheditor.core.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.common.command.AbstractCommand;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.NotificationChain;
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.impl.ENotificationImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.edit.domain.EditingDomain;
+
+
+/**
+ * Command removing many objects from a multi-valued reference in a single
+ * pass over the list.
+ *
+ * <p>
+ * Unlike {@link org.eclipse.emf.edit.command.RemoveCommand}, whose cost grows
+ * with the size of the list for every removed object, the list is compacted
+ * once and a single {@link Notification#REMOVE_MANY} is sent. Undoing
+ * re-inserts the objects at their original positions, again in a single pass,
+ * and sends one {@link Notification#ADD_MANY} per run of adjacent objects.
+ * </p>
+ *
+ * <p>
+ * The list is edited directly, so remove commands created by item providers
+ * of the {@link EditingDomain} are bypassed. Like a
+ * {@link org.eclipse.emf.edit.command.RemoveCommand}, the command can not be
+ * executed if the owner is contained in a
+ * {@link EditingDomain#isReadOnly(Resource) read-only} resource.
+ * </p>
+ *
+ * @since 17.10.2026
+ */
+final class BulkRemoveCommand extends AbstractCommand
+{
+
+    private static final String LABEL = "Remove"; //$NON-NLS-1$
+    private static final Object[] EMPTY = new Object[0];
+
+    private final EditingDomain mDomain;
+    private final EObject mOwner;
+    private final EReference mFeature;
+    private final Set<? extends EObject> mToRemove;
+
+    private Object[] mRemoved = EMPTY;
+    private int[] mPositions;
+
+    /**
+     * Creates a new command.
+     *
+     * @param pDomain
+     *            the {@link EditingDomain} of the owner, used to check whether
+     *            its resource is read-only, or {@code null}
+     * @param pOwner
+     *            the owner of the list
+     * @param pFeature
+     *            the multi-valued {@link EReference} of the list
+     * @param pToRemove
+     *            the objects to remove, objects not contained in the list are
+     *            ignored
+     */
+    BulkRemoveCommand(final EditingDomain pDomain, final EObject pOwner, final EReference pFeature,
+            final Set<? extends EObject> pToRemove)
+    {
+        super(LABEL);
+        mDomain = pDomain;
+        mOwner = pOwner;
+        mFeature = pFeature;
+        mToRemove = pToRemove;
+    }
+
+    /**
+     * @return the number of objects removed by this command
+     */
+    int size()
+    {
+        return mRemoved.length;
+    }
+
+    @Override
+    protected boolean prepare()
+    {
+        return mOwner != null && mFeature.isMany() && !mToRemove.isEmpty() && getList() != null && !isReadOnly();
+    }
+
+    private boolean isReadOnly()
+    {
+        final Resource resource = mOwner.eResource();
+        return mDomain != null && resource != null && mDomain.isReadOnly(resource);
+    }
+
+    @Override
+    public void execute()
+    {
+        final BasicEList<?> list = getList();
+        final int size = list.size();
+        final Object[] data = size == 0 ? EMPTY : list.data();
+
+        final Object[] retained = new Object[size];
+        final Object[] removed = new Object[Math.min(size, mToRemove.size())];
+        final int[] positions = new int[removed.length];
+        int retainedCount = 0;
+        int removedCount = 0;
+        for (int i = 0; i < size; i++)
+        {
+            if (removedCount < removed.length && mToRemove.contains(data[i]))
+            {
+                removed[removedCount] = data[i];
+                positions[removedCount++] = i;
+            }
+            else
+            {
+                retained[retainedCount++] = data[i];
+            }
+        }
+
+        mRemoved = Arrays.copyOf(removed, removedCount);
+        mPositions = Arrays.copyOf(positions, removedCount);
+        if (removedCount == 0)
+        {
+            return;
+        }
+
+        list.setData(retainedCount, retained);
+
+        NotificationChain msgs = null;
+        for (final Object object : mRemoved)
+        {
+            msgs = inverseRemove((InternalEObject) object, msgs);
+        }
+        if (msgs != null)
+        {
+            msgs.dispatch();
+        }
+
+        if (removedCount == 1)
+        {
+            notify(Notification.REMOVE, mRemoved[0], null, mPositions[0]);
+        }
+        else
+        {
+            notify(Notification.REMOVE_MANY, Arrays.asList(mRemoved), mPositions, mPositions[0]);
+        }
+    }
+
+    @Override
+    public void undo()
+    {
+        if (mRemoved.length == 0)
+        {
+            return;
+        }
+
+        final BasicEList<?> list = getList();
+        final int size = list.size();
+        final Object[] data = size == 0 ? EMPTY : list.data();
+
+        final Object[] restored = new Object[size + mRemoved.length];
+        int dataIndex = 0;
+        int removedIndex = 0;
+        for (int i = 0; i < restored.length; i++)
+        {
+            if (removedIndex < mRemoved.length && mPositions[removedIndex] == i)
+            {
+                restored[i] = mRemoved[removedIndex++];
+            }
+            else
+            {
+                restored[i] = data[dataIndex++];
+            }
+        }
+        list.setData(restored.length, restored);
+
+        NotificationChain msgs = null;
+        for (final Object object : mRemoved)
+        {
+            msgs = inverseAdd((InternalEObject) object, msgs);
+        }
+        if (msgs != null)
+        {
+            msgs.dispatch();
+        }
+
+        // ADD_MANY describes adjacent objects only:
+        int start = 0;
+        for (int i = 1; i <= mRemoved.length; i++)
+        {
+            if (i == mRemoved.length || mPositions[i] != mPositions[i - 1] + 1)
+            {
+                if (i - start == 1)
+                {
+                    notify(Notification.ADD, null, mRemoved[start], mPositions[start]);
+                }
+                else
+                {
+                    notify(Notification.ADD_MANY, null, Arrays.asList(Arrays.copyOfRange(mRemoved, start, i)),
+                            mPositions[start]);
+                }
+                start = i;
+            }
+        }
+    }
+
+    @Override
+    public void redo()
+    {
+        execute();
+    }
+
+    @Override
+    public Collection<?> getResult()
+    {
+        return List.of(mRemoved);
+    }
+
+    @Override
+    public Collection<?> getAffectedObjects()
+    {
+        return List.of(mOwner);
+    }
+
+    private BasicEList<?> getList()
+    {
+        return mOwner.eGet(mFeature) instanceof BasicEList<?> list ? list : null;
+    }
+
+    private NotificationChain inverseRemove(final InternalEObject pObject, final NotificationChain pMsgs)
+    {
+        final EReference opposite = mFeature.getEOpposite();
+        if (opposite != null)
+        {
+            return pObject.eInverseRemove((InternalEObject) mOwner, pObject.eClass().getFeatureID(opposite), null,
+                    pMsgs);
+        }
+        else if (mFeature.isContainment())
+        {
+            return pObject.eInverseRemove((InternalEObject) mOwner,
+                    InternalEObject.EOPPOSITE_FEATURE_BASE - mOwner.eClass().getFeatureID(mFeature), null, pMsgs);
+        }
+        return pMsgs;
+    }
+
+    private NotificationChain inverseAdd(final InternalEObject pObject, final NotificationChain pMsgs)
+    {
+        final EReference opposite = mFeature.getEOpposite();
+        if (opposite != null)
+        {
+            return pObject.eInverseAdd((InternalEObject) mOwner, pObject.eClass().getFeatureID(opposite), null, pMsgs);
+        }
+        else if (mFeature.isContainment())
+        {
+            return pObject.eInverseAdd((InternalEObject) mOwner,
+                    InternalEObject.EOPPOSITE_FEATURE_BASE - mOwner.eClass().getFeatureID(mFeature), null, pMsgs);
+        }
+        return pMsgs;
+    }
+
+    private void notify(final int pEventType, final Object pOldValue, final Object pNewValue, final int pPosition)
+    {
+        final InternalEObject owner = (InternalEObject) mOwner;
+        if (owner.eNotificationRequired())
+        {
+            owner.eNotify(new ENotificationImpl(owner, pEventType, mFeature, pOldValue, pNewValue, pPosition));
+        }
+    }
+}
@@ -5,20 +5,23 @@ package io.github.eckig.grapheditor.core.model;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.BiFunction;
 
 import io.github.eckig.grapheditor.Commands;
 import io.github.eckig.grapheditor.SkinLookup;
+import io.github.eckig.grapheditor.utils.GraphEditorProperties;
 import io.github.eckig.grapheditor.utils.RemoveContext;
 
-import org.eclipse.emf.common.command.BasicCommandStack;
 import org.eclipse.emf.common.command.Command;
 import org.eclipse.emf.common.command.CommandStackListener;
 import org.eclipse.emf.common.command.CompoundCommand;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
-import org.eclipse.emf.edit.command.RemoveCommand;
 import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
@@ -26,6 +29,7 @@ import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import io.github.eckig.grapheditor.core.DefaultGraphEditor;
 import io.github.eckig.grapheditor.core.ModelEditingManager;
 import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
 import io.github.eckig.grapheditor.model.GModel;
 import io.github.eckig.grapheditor.model.GNode;
 import io.github.eckig.grapheditor.model.GraphPackage;
@@ -40,6 +44,7 @@ public class DefaultModelEditingManager implements ModelEditingManager
     private static final URI DEFAULT_URI = URI.createFileURI("");
 
     private final CommandStackListener commandStackListener;
+    private final GraphEditorProperties properties;
 
     private EditingDomain editingDomain;
     private GModel model;
@@ -47,6 +52,9 @@ public class DefaultModelEditingManager implements ModelEditingManager
     private BiFunction<RemoveContext, GConnection, Command> mOnConnectionRemoved;
     private BiFunction<RemoveContext, GNode, Command> mOnNodeRemoved;
 
+    private int mBatchDepth;
+    private BoundedCommandStack mBatchStack;
+
     /**
      * Creates a new model editing manager. Only one instance should exist per
      * {@link DefaultGraphEditor} instance.
@@ -56,8 +64,28 @@ public class DefaultModelEditingManager implements ModelEditingManager
      *            the model
      */
     public DefaultModelEditingManager(final CommandStackListener pCommandStackListener)
+    {
+        this(pCommandStackListener, null);
+    }
+
+    /**
+     * Creates a new model editing manager. Only one instance should exist per
+     * {@link DefaultGraphEditor} instance.
+     *
+     * @param pCommandStackListener
+     *            the {@link CommandStackListener} that listens for changes in
+     *            the model
+     * @param pProperties
+     *            the {@link GraphEditorProperties} defining the limits of the
+     *            undo history of created editing domains, or {@code null} for
+     *            the defaults
+     * @since 17.10.2026
+     */
+    public DefaultModelEditingManager(final CommandStackListener pCommandStackListener,
+            final GraphEditorProperties pProperties)
     {
         commandStackListener = pCommandStackListener;
+        properties = pProperties == null ? new GraphEditorProperties() : pProperties;
     }
 
     @Override
@@ -87,9 +115,28 @@ public class DefaultModelEditingManager implements ModelEditingManager
     public void updateLayoutValues(final SkinLookup skinLookup)
     {
         final var command = new CompoundCommand();
-
         Commands.updateLayoutValues(command, model, skinLookup);
+        executeSilently(command);
+    }
 
+    @Override
+    public void updateLayoutValues(final SkinLookup skinLookup, final Collection<? extends EObject> changed)
+    {
+        if (changed.isEmpty())
+        {
+            return;
+        }
+
+        final var command = new CompoundCommand();
+        Commands.updateLayoutValues(command, model, skinLookup, changed);
+        executeSilently(command);
+    }
+
+    /**
+     * Executes the given command without informing the command stack listener.
+     */
+    private void executeSilently(final CompoundCommand command)
+    {
         editingDomain.getCommandStack().removeCommandStackListener(commandStackListener);
 
         if (command.canExecute())
@@ -100,6 +147,47 @@ public class DefaultModelEditingManager implements ModelEditingManager
         editingDomain.getCommandStack().addCommandStackListener(commandStackListener);
     }
 
+    @Override
+    public void beginBatch()
+    {
+        if (mBatchDepth++ == 0 && editingDomain != null
+                && editingDomain.getCommandStack() instanceof BoundedCommandStack stack)
+        {
+            // remember the stack, in case the model changes during the batch:
+            mBatchStack = stack;
+            mBatchStack.beginBatch();
+        }
+    }
+
+    @Override
+    public void endBatch()
+    {
+        if (mBatchDepth == 0)
+        {
+            throw new IllegalStateException("No batch to end."); //$NON-NLS-1$
+        }
+        if (--mBatchDepth == 0 && mBatchStack != null)
+        {
+            final var stack = mBatchStack;
+            mBatchStack = null;
+            stack.endBatch();
+        }
+    }
+
+    @Override
+    public long getUndoMemoryUsage()
+    {
+        return editingDomain != null && editingDomain.getCommandStack() instanceof BoundedCommandStack stack
+                ? stack.getMemoryUsage() : -1;
+    }
+
+    @Override
+    public int getUndoDepth()
+    {
+        return editingDomain != null && editingDomain.getCommandStack() instanceof BoundedCommandStack stack
+                ? stack.getUndoDepth() : -1;
+    }
+
     @Override
     public void remove(final Collection<EObject> pToRemove)
     {
@@ -108,7 +196,6 @@ public class DefaultModelEditingManager implements ModelEditingManager
             return;
         }
 
-        final var command = new CompoundCommand();
         final var editContext = new RemoveContext();
         final var delete = new ArrayList<EObject>(pToRemove.size());
 
@@ -135,44 +222,65 @@ public class DefaultModelEditingManager implements ModelEditingManager
             }
         }
 
-        // delete the elements and call business logic add-ins:
+        // group the elements by the list they are removed from, so that every list is only traversed once:
+        final var nodes = new HashSet<GNode>();
+        final var connections = new HashSet<GConnection>();
+        final var connectorConnections = new LinkedHashMap<GConnector, Set<GConnection>>();
+        final var businessLogic = new ArrayList<Command>();
         for (final var obj : delete)
         {
             if (obj instanceof GNode n)
             {
-                command.append(RemoveCommand.create(editingDomain, model, GraphPackage.Literals.GMODEL__NODES, obj));
-
-                final var onRemoved = mOnNodeRemoved == null ? null : mOnNodeRemoved.apply(editContext, n);
-                if (onRemoved != null)
-                {
-                    command.append(onRemoved);
-                }
+                nodes.add(n);
+                addIfNotNull(businessLogic, mOnNodeRemoved == null ? null : mOnNodeRemoved.apply(editContext, n));
             }
             else if (obj instanceof GConnection c)
             {
-                remove(editContext, command, c);
+                connections.add(c);
+                addConnection(connectorConnections, c.getSource(), c);
+                addConnection(connectorConnections, c.getTarget(), c);
+                addIfNotNull(businessLogic,
+                        mOnConnectionRemoved == null ? null : mOnConnectionRemoved.apply(editContext, c));
             }
         }
 
+        final var command = new CompoundCommand();
+        if (!nodes.isEmpty())
+        {
+            command.append(new BulkRemoveCommand(editingDomain, model, GraphPackage.Literals.GMODEL__NODES, nodes));
+        }
+        if (!connections.isEmpty())
+        {
+            command.append(
+                    new BulkRemoveCommand(editingDomain, model, GraphPackage.Literals.GMODEL__CONNECTIONS, connections));
+        }
+        for (final var entry : connectorConnections.entrySet())
+        {
+            command.append(new BulkRemoveCommand(editingDomain, entry.getKey(),
+                    GraphPackage.Literals.GCONNECTOR__CONNECTIONS, entry.getValue()));
+        }
+        businessLogic.forEach(command::append);
+
         if (!command.isEmpty() && command.canExecute())
         {
             editingDomain.getCommandStack().execute(command);
         }
     }
 
-    private void remove(final RemoveContext pRemoveContext, final CompoundCommand pCommand, final GConnection pToDelete)
+    private static void addConnection(final Map<GConnector, Set<GConnection>> pConnectorConnections,
+            final GConnector pConnector, final GConnection pConnection)
     {
-        final var source = pToDelete.getSource();
-        final var target = pToDelete.getTarget();
-
-        pCommand.append(RemoveCommand.create(editingDomain, model, GraphPackage.Literals.GMODEL__CONNECTIONS, pToDelete));
-        pCommand.append(RemoveCommand.create(editingDomain, source, GraphPackage.Literals.GCONNECTOR__CONNECTIONS, pToDelete));
-        pCommand.append(RemoveCommand.create(editingDomain, target, GraphPackage.Literals.GCONNECTOR__CONNECTIONS, pToDelete));
+        if (pConnector != null)
+        {
+            pConnectorConnections.computeIfAbsent(pConnector, _ -> new HashSet<>()).add(pConnection);
+        }
+    }
 
-        final var onRemoved = mOnConnectionRemoved == null ? null : mOnConnectionRemoved.apply(pRemoveContext, pToDelete);
-        if (onRemoved != null)
+    private static void addIfNotNull(final Collection<Command> pCommands, final Command pCommand)
+    {
+        if (pCommand != null)
         {
-            pCommand.append(onRemoved);
+            pCommands.add(pCommand);
         }
     }
 
@@ -181,7 +289,9 @@ public class DefaultModelEditingManager implements ModelEditingManager
      *
      * <p>
      * If a resource and/or editing domain are already associated to this model,
-     * these will be used. Otherwise they will be created.
+     * these will be used. Otherwise they will be created, with a
+     * {@link BoundedCommandStack} limited according to the
+     * {@link GraphEditorProperties}.
      * </p>
      */
     private void initializeEditingDomain(final GModel oldModel, final GModel newModel)
@@ -210,7 +320,10 @@ public class DefaultModelEditingManager implements ModelEditingManager
             final var registry = ComposedAdapterFactory.Descriptor.Registry.INSTANCE;
             final var adapterFactory = new ComposedAdapterFactory(registry);
 
-            editingDomain = new AdapterFactoryEditingDomain(adapterFactory, new BasicCommandStack());
+            final var commandStack = new BoundedCommandStack(properties.getUndoMemoryBudget(),
+                    properties.getUndoDepthLimit(), properties.getUndoCoalescingWindow());
+
+            editingDomain = new AdapterFactoryEditingDomain(adapterFactory, commandStack);
             editingDomain.getResourceSet().getResources().add(newModel.eResource());
         }
 
@@ -3,20 +3,46 @@
  */
 package io.github.eckig.grapheditor.core.model;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+
 import io.github.eckig.grapheditor.EditorElement;
+import io.github.eckig.grapheditor.GJointSkin;
+import io.github.eckig.grapheditor.GNodeSkin;
 import io.github.eckig.grapheditor.SkinLookup;
 import io.github.eckig.grapheditor.core.ModelEditingManager;
+import io.github.eckig.grapheditor.core.utils.EventUtils;
 import io.github.eckig.grapheditor.model.GJoint;
 import io.github.eckig.grapheditor.model.GModel;
 import io.github.eckig.grapheditor.model.GNode;
 import io.github.eckig.grapheditor.utils.GraphEditorProperties;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 import javafx.event.EventHandler;
+import javafx.event.WeakEventHandler;
+import javafx.scene.Node;
 import javafx.scene.input.MouseEvent;
 
 
 /**
  * Responsible for updating the {@link GModel}'s layout values at the end of
  * each mouse gesture.
+ *
+ * <p>
+ * The layout properties of all node and joint skins are observed, so that
+ * only the elements whose skins actually moved or resized since the last
+ * update are compared with the model.
+ * </p>
+ *
+ * <p>
+ * If {@link GraphEditorProperties#isDelegatedEventRouting() delegated event
+ * routing} is enabled, a single filter on the view looks up the node or joint
+ * that has been released instead of adding a handler to each of them.
+ * </p>
  */
 public class ModelLayoutUpdater
 {
@@ -26,6 +52,13 @@ public class ModelLayoutUpdater
     private final GraphEditorProperties properties;
     private final EventHandler<MouseEvent> mouseReleasedHandlerNode = _ -> elementMouseReleased(EditorElement.NODE);
     private final EventHandler<MouseEvent> mouseReleasedHandlerJoint = _ -> elementMouseReleased(EditorElement.JOINT);
+    private final EventHandler<MouseEvent> mouseReleasedFilter = this::viewMouseReleased;
+    private final boolean delegated;
+
+    // nodes and joints whose skins moved or resized since the last update:
+    private final Set<EObject> changed = new HashSet<>();
+    private final ChangeListener<Number> layoutListener = (o, _, _) -> layoutChanged(o);
+    private boolean changedUnknown;
 
     /**
      * Creates a new model layout updater. Only one instance should exist per
@@ -36,18 +69,49 @@ public class ModelLayoutUpdater
      * @param pModelEditingManager
      *            the {@link ModelEditingManager} used to update the model
      *            values
+     * @param pProperties
+     *            the {@link GraphEditorProperties} of the graph editor
      */
     public ModelLayoutUpdater(final SkinLookup pSkinLookup, final ModelEditingManager pModelEditingManager,
             final GraphEditorProperties pProperties)
+    {
+        this(pSkinLookup, pModelEditingManager, pProperties, null);
+    }
+
+    /**
+     * Creates a new model layout updater. Only one instance should exist per
+     * graph editor instance.
+     *
+     * @param pSkinLookup
+     *            the {@link SkinLookup} used to lookup skins
+     * @param pModelEditingManager
+     *            the {@link ModelEditingManager} used to update the model
+     *            values
+     * @param pProperties
+     *            the {@link GraphEditorProperties} of the graph editor
+     * @param pView
+     *            the view of the graph editor, used for
+     *            {@link GraphEditorProperties#isDelegatedEventRouting()
+     *            delegated event routing}
+     * @since 17.10.2026
+     */
+    public ModelLayoutUpdater(final SkinLookup pSkinLookup, final ModelEditingManager pModelEditingManager,
+            final GraphEditorProperties pProperties, final Node pView)
     {
         skinLookup = pSkinLookup;
         modelEditingManager = pModelEditingManager;
         properties = pProperties;
+        delegated = pView != null && pProperties != null && pProperties.isDelegatedEventRouting();
+
+        if (delegated)
+        {
+            pView.addEventFilter(MouseEvent.MOUSE_RELEASED, new WeakEventHandler<>(mouseReleasedFilter));
+        }
     }
 
     /**
      * Adds a handler to update the model when a node's layout properties
-     * change.
+     * change, and observes the node's layout properties.
      *
      * @param node
      *            the {@link GNode} whose values should be updated
@@ -55,32 +119,41 @@ public class ModelLayoutUpdater
     public void addNode(final GNode node)
     {
         final var nodeSkin = skinLookup.lookupNode(node);
-        if (nodeSkin != null)
+        final var root = nodeSkin == null ? null : nodeSkin.getRoot();
+        if (root != null)
         {
-            final var root = nodeSkin.getRoot();
-            if (root != null)
+            if (!delegated)
             {
                 root.addEventHandler(MouseEvent.MOUSE_RELEASED, mouseReleasedHandlerNode);
             }
+            root.layoutXProperty().addListener(layoutListener);
+            root.layoutYProperty().addListener(layoutListener);
+            root.widthProperty().addListener(layoutListener);
+            root.heightProperty().addListener(layoutListener);
         }
     }
 
     public void removeNode(final GNode node)
     {
         final var nodeSkin = skinLookup.lookupNode(node);
-        if (nodeSkin != null)
+        final var root = nodeSkin == null ? null : nodeSkin.getRoot();
+        if (root != null)
         {
-            final var root = nodeSkin.getRoot();
-            if (root != null)
+            if (!delegated)
             {
                 root.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseReleasedHandlerNode);
             }
+            root.layoutXProperty().removeListener(layoutListener);
+            root.layoutYProperty().removeListener(layoutListener);
+            root.widthProperty().removeListener(layoutListener);
+            root.heightProperty().removeListener(layoutListener);
         }
+        changed.remove(node);
     }
 
     /**
      * Adds a handler to update the model when a joint's layout properties
-     * change.
+     * change, and observes the joint's layout properties.
      *
      * @param joint
      *            the {@link GJoint} whose values should be updated
@@ -88,26 +161,60 @@ public class ModelLayoutUpdater
     public void addJoint(final GJoint joint)
     {
         final var jointSkin = skinLookup.lookupJoint(joint);
-        if (jointSkin != null)
+        final var root = jointSkin == null ? null : jointSkin.getRoot();
+        if (root != null)
         {
-            final var root = jointSkin.getRoot();
-            if (root != null)
+            if (!delegated)
             {
                 root.addEventHandler(MouseEvent.MOUSE_RELEASED, mouseReleasedHandlerJoint);
             }
+            root.layoutXProperty().addListener(layoutListener);
+            root.layoutYProperty().addListener(layoutListener);
         }
     }
 
     public void removeJoint(final GJoint joint)
     {
         final var jointSkin = skinLookup.lookupJoint(joint);
-        if (jointSkin != null)
+        final var root = jointSkin == null ? null : jointSkin.getRoot();
+        if (root != null)
         {
-            final var root = jointSkin.getRoot();
-            if (root != null)
+            if (!delegated)
             {
                 root.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseReleasedHandlerJoint);
             }
+            root.layoutXProperty().removeListener(layoutListener);
+            root.layoutYProperty().removeListener(layoutListener);
+        }
+        changed.remove(joint);
+    }
+
+    private void viewMouseReleased(final MouseEvent pEvent)
+    {
+        final var skin = EventUtils.lookupTargetSkin(pEvent, skinLookup);
+        if (skin instanceof GNodeSkin)
+        {
+            elementMouseReleased(EditorElement.NODE);
+        }
+        else if (skin instanceof GJointSkin)
+        {
+            elementMouseReleased(EditorElement.JOINT);
+        }
+    }
+
+    private void layoutChanged(final ObservableValue<?> pProperty)
+    {
+        final var skin = pProperty instanceof ReadOnlyProperty<?> p && p.getBean() instanceof Node n
+                ? skinLookup.lookupSkin(n)
+                : null;
+        if (skin != null)
+        {
+            changed.add(skin.getItem());
+        }
+        else
+        {
+            // the skin lookup does not support reverse lookups, fall back to checking the whole model:
+            changedUnknown = true;
         }
     }
 
@@ -115,7 +222,19 @@ public class ModelLayoutUpdater
     {
         if (canEdit(pType))
         {
-            modelEditingManager.updateLayoutValues(skinLookup);
+            if (changedUnknown)
+            {
+                changedUnknown = false;
+                changed.clear();
+                modelEditingManager.updateLayoutValues(skinLookup);
+            }
+            else if (!changed.isEmpty())
+            {
+                // updating the model may move skins again, so iterate over a snapshot:
+                final var snapshot = new ArrayList<>(changed);
+                changed.clear();
+                modelEditingManager.updateLayoutValues(skinLookup, snapshot);
+            }
         }
     }
 
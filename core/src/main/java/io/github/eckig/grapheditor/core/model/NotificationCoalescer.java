@@ -0,0 +1,280 @@
+package io.github.eckig.grapheditor.core.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.impl.ENotificationImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+
+/**
+ * Consolidates a sequence of EMF {@link Notification notifications} before
+ * they are dispatched to the registered change handlers:
+ * <ul>
+ * <li>successive {@link Notification#SET SETs} on the same notifier and
+ * single-valued feature, only interrupted by SETs of other features, are
+ * merged into one SET from the old value of the first to the new value of the
+ * last one</li>
+ * <li>an {@link Notification#ADD ADD} followed by a {@link Notification#REMOVE
+ * REMOVE} of the same value cancel out, together with all notifications about
+ * the added value in between</li>
+ * <li>adjacent ADDs to the same notifier and feature are grouped into a single
+ * {@link Notification#ADD_MANY ADD_MANY}</li>
+ * </ul>
+ * Only notifications of {@link EObject EObjects} are coalesced, all others are
+ * passed through unchanged. The relative order of the remaining notifications
+ * is preserved, except that a merged SET takes the place of the last SET of
+ * its run, i.e. it may move past SETs of other features, which are
+ * independent of it.
+ *
+ * @since 17.10.2026
+ */
+public final class NotificationCoalescer
+{
+
+    /**
+     * Static class, private constructor.
+     */
+    private NotificationCoalescer()
+    {
+    }
+
+    /**
+     * Coalesces the given notifications.
+     *
+     * @param pNotifications
+     *            the {@link Notification notifications} in the order they were
+     *            received
+     * @return the consolidated notifications in the order they should be
+     *         dispatched
+     */
+    public static List<Notification> coalesce(final List<Notification> pNotifications)
+    {
+        if (pNotifications.size() < 2)
+        {
+            return pNotifications;
+        }
+
+        final List<Notification> result = new ArrayList<>(pNotifications.size());
+        final Map<Key, Integer> lastSet = new HashMap<>();
+        final Map<Key, Integer> pendingAdd = new HashMap<>();
+
+        for (final Notification notification : pNotifications)
+        {
+            if (notification.getEventType() != Notification.SET)
+            {
+                // anything but a SET ends all sequences of SETs, so that no SET is moved past it:
+                lastSet.clear();
+            }
+
+            if (!(notification.getNotifier() instanceof InternalEObject owner)
+                    || !(notification.getFeature() instanceof EStructuralFeature feature))
+            {
+                result.add(notification);
+                continue;
+            }
+
+            switch (notification.getEventType())
+            {
+                case Notification.SET:
+                {
+                    if (notification.getPosition() != Notification.NO_INDEX)
+                    {
+                        // SET of a single list element, keep as is:
+                        result.add(notification);
+                        break;
+                    }
+                    final Integer previous = lastSet.put(new Key(owner, feature, null), result.size());
+                    if (previous != null)
+                    {
+                        result.add(mergeSets(owner, feature, result.set(previous, null), notification));
+                    }
+                    else
+                    {
+                        result.add(notification);
+                    }
+                    break;
+                }
+
+                case Notification.ADD:
+                    pendingAdd.put(new Key(owner, feature, notification.getNewValue()), result.size());
+                    result.add(notification);
+                    break;
+
+                case Notification.REMOVE:
+                {
+                    final Integer added = pendingAdd.remove(new Key(owner, feature, notification.getOldValue()));
+                    if (added != null && result.get(added) != null)
+                    {
+                        cancel(result, added, notification.getOldValue());
+                    }
+                    else
+                    {
+                        result.add(notification);
+                    }
+                    break;
+                }
+
+                default:
+                    result.add(notification);
+                    break;
+            }
+        }
+
+        return groupAdds(result);
+    }
+
+    /**
+     * Merges two SETs of the same feature into one SET from the old value of
+     * the first to the new value of the second one.
+     */
+    private static Notification mergeSets(final InternalEObject pOwner, final EStructuralFeature pFeature,
+            final Notification pFirst, final Notification pLast)
+    {
+        final Class<?> type = pFeature.getEType().getInstanceClass();
+        if (type == double.class)
+        {
+            return new ENotificationImpl(pOwner, Notification.SET, pFeature, pFirst.getOldDoubleValue(),
+                    pLast.getNewDoubleValue());
+        }
+        else if (type == int.class)
+        {
+            return new ENotificationImpl(pOwner, Notification.SET, pFeature, pFirst.getOldIntValue(),
+                    pLast.getNewIntValue());
+        }
+        else if (type == boolean.class)
+        {
+            return new ENotificationImpl(pOwner, Notification.SET, pFeature, pFirst.getOldBooleanValue(),
+                    pLast.getNewBooleanValue());
+        }
+        else if (type == long.class)
+        {
+            return new ENotificationImpl(pOwner, Notification.SET, pFeature, pFirst.getOldLongValue(),
+                    pLast.getNewLongValue());
+        }
+        else if (type == float.class)
+        {
+            return new ENotificationImpl(pOwner, Notification.SET, pFeature, pFirst.getOldFloatValue(),
+                    pLast.getNewFloatValue());
+        }
+        else if (type == short.class)
+        {
+            return new ENotificationImpl(pOwner, Notification.SET, pFeature, pFirst.getOldShortValue(),
+                    pLast.getNewShortValue());
+        }
+        else if (type == byte.class)
+        {
+            return new ENotificationImpl(pOwner, Notification.SET, pFeature, pFirst.getOldByteValue(),
+                    pLast.getNewByteValue());
+        }
+        else if (type == char.class)
+        {
+            return new ENotificationImpl(pOwner, Notification.SET, pFeature, pFirst.getOldCharValue(),
+                    pLast.getNewCharValue());
+        }
+        return new ENotificationImpl(pOwner, Notification.SET, pFeature, pFirst.getOldValue(), pLast.getNewValue());
+    }
+
+    /**
+     * Removes the ADD at the given index and all following notifications about
+     * the added value or its contents.
+     */
+    private static void cancel(final List<Notification> pResult, final int pAddIndex, final Object pValue)
+    {
+        pResult.set(pAddIndex, null);
+        if (pValue instanceof EObject value)
+        {
+            for (int i = pAddIndex + 1; i < pResult.size(); i++)
+            {
+                final Notification n = pResult.get(i);
+                if (n != null && n.getNotifier() instanceof EObject notifier && EcoreUtil.isAncestor(value, notifier))
+                {
+                    pResult.set(i, null);
+                }
+            }
+        }
+    }
+
+    private static List<Notification> groupAdds(final List<Notification> pNotifications)
+    {
+        final List<Notification> result = new ArrayList<>(pNotifications.size());
+        List<Object> values = null;
+        Notification first = null;
+        Notification last = null;
+
+        for (final Notification notification : pNotifications)
+        {
+            if (notification == null)
+            {
+                continue;
+            }
+
+            if (last != null && isContinuation(last, notification))
+            {
+                if (values == null)
+                {
+                    values = new ArrayList<>();
+                    values.add(first.getNewValue());
+                }
+                values.add(notification.getNewValue());
+                last = notification;
+                continue;
+            }
+
+            flush(result, first, values);
+            values = null;
+            first = null;
+            last = null;
+
+            if (notification.getEventType() == Notification.ADD && notification.getNotifier() instanceof InternalEObject
+                    && notification.getFeature() instanceof EStructuralFeature)
+            {
+                first = notification;
+                last = notification;
+            }
+            else
+            {
+                result.add(notification);
+            }
+        }
+        flush(result, first, values);
+
+        return result;
+    }
+
+    private static boolean isContinuation(final Notification pPrevious, final Notification pNext)
+    {
+        return pNext.getEventType() == Notification.ADD && pNext.getNotifier() == pPrevious.getNotifier()
+                && pNext.getFeature() == pPrevious.getFeature()
+                && (pNext.getPosition() == Notification.NO_INDEX && pPrevious.getPosition() == Notification.NO_INDEX
+                        || pNext.getPosition() == pPrevious.getPosition() + 1);
+    }
+
+    private static void flush(final List<Notification> pResult, final Notification pFirst, final List<Object> pValues)
+    {
+        if (pFirst == null)
+        {
+            return;
+        }
+
+        if (pValues == null)
+        {
+            pResult.add(pFirst);
+        }
+        else
+        {
+            pResult.add(new ENotificationImpl((InternalEObject) pFirst.getNotifier(), Notification.ADD_MANY,
+                    (EStructuralFeature) pFirst.getFeature(), null, pValues, pFirst.getPosition()));
+        }
+    }
+
+    private record Key(Object notifier, Object feature, Object value)
+    {
+    }
+}
@@ -3,6 +3,8 @@
  */
 package io.github.eckig.grapheditor.core.selections;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.emf.ecore.EObject;
@@ -16,6 +18,7 @@ import io.github.eckig.grapheditor.model.GConnector;
 import io.github.eckig.grapheditor.model.GJoint;
 import io.github.eckig.grapheditor.model.GModel;
 import io.github.eckig.grapheditor.model.GNode;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.ObservableSet;
 
 
@@ -113,6 +116,33 @@ public class DefaultSelectionManager implements SelectionManager
         selectionCreator.removeJoint(joint);
     }
 
+    /**
+     * Updates the bounds of the given node or joint used to evaluate the
+     * selection box.
+     *
+     * @param item
+     *            a {@link GNode} or {@link GJoint} that has been added, moved
+     *            or resized
+     * @since 17.10.2026
+     */
+    public void updateBounds(final EObject item)
+    {
+        selectionCreator.updateBounds(item);
+    }
+
+    /**
+     * Removes the bounds of the given node or joint used to evaluate the
+     * selection box.
+     *
+     * @param item
+     *            a {@link GNode} or {@link GJoint} that has been removed
+     * @since 17.10.2026
+     */
+    public void removeBounds(final EObject item)
+    {
+        selectionCreator.removeBounds(item);
+    }
+
     @Override
     public ObservableSet<EObject> getSelectedItems()
     {
@@ -155,19 +185,47 @@ public class DefaultSelectionManager implements SelectionManager
         return selectionTracker.getSelectedJoints();
     }
 
+    @Override
+    public ReadOnlyIntegerProperty selectedNodeCountProperty()
+    {
+        return selectionTracker.selectedNodeCountProperty();
+    }
+
+    @Override
+    public ReadOnlyIntegerProperty selectedConnectionCountProperty()
+    {
+        return selectionTracker.selectedConnectionCountProperty();
+    }
+
+    @Override
+    public ReadOnlyIntegerProperty selectedJointCountProperty()
+    {
+        return selectionTracker.selectedJointCountProperty();
+    }
+
+    @Override
+    public void selectAll(final Collection<? extends EObject> objects)
+    {
+        getSelectedItems().addAll(objects);
+    }
+
+    @Override
+    public void deselectAll(final Collection<? extends EObject> objects)
+    {
+        getSelectedItems().removeAll(objects);
+    }
+
+    @Override
+    public void replaceSelection(final Collection<? extends EObject> objects)
+    {
+        selectionTracker.replaceSelection(objects);
+    }
+
     @Override
     public void clearSelection()
     {
-        if (!getSelectedItems().isEmpty())
-        {
-            // copy to prevent ConcurrentModificationException
-            // (removal triggers update notification which in turn could modify the selection)
-            final EObject[] selectedItems = getSelectedItems().toArray(new EObject[0]);
-            for (final EObject remove : selectedItems)
-            {
-                getSelectedItems().remove(remove);
-            }
-        }
+        // removal is safe even if listeners modify the selection in turn:
+        getSelectedItems().clear();
     }
 
     @Override
@@ -175,16 +233,13 @@ public class DefaultSelectionManager implements SelectionManager
     {
         if (model != null)
         {
-            getSelectedItems().addAll(model.getNodes());
+            final List<EObject> all = new ArrayList<>(model.getNodes());
             for (final GConnection connection : model.getConnections())
             {
-                getSelectedItems().add(connection);
-
-                for (final GJoint joint : connection.getJoints())
-                {
-                    getSelectedItems().add(joint);
-                }
+                all.add(connection);
+                all.addAll(connection.getJoints());
             }
+            selectAll(all);
         }
     }
 }
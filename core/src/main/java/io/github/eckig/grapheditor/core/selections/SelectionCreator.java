@@ -3,10 +3,13 @@
  */
 package io.github.eckig.grapheditor.core.selections;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.eclipse.emf.ecore.EObject;
 
@@ -19,6 +22,7 @@ import io.github.eckig.grapheditor.SelectionManager;
 import io.github.eckig.grapheditor.SkinLookup;
 import io.github.eckig.grapheditor.core.DefaultGraphEditor;
 import io.github.eckig.grapheditor.core.utils.EventUtils;
+import io.github.eckig.grapheditor.core.utils.UniformGrid;
 import io.github.eckig.grapheditor.core.view.GraphEditorView;
 import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.model.GConnector;
@@ -47,10 +51,24 @@ import javafx.scene.layout.Region;
  * more nodes, connections, and joints can be selected by dragging a box around
  * them.
  * </p>
+ *
+ * <p>
+ * The model bounds of all nodes and joints are kept in a spatial index, so that
+ * dragging the selection box only evaluates the elements close to the parts of
+ * the box that changed.
+ * </p>
+ *
+ * <p>
+ * If {@link io.github.eckig.grapheditor.utils.GraphEditorProperties#isDelegatedEventRouting() delegated event
+ * routing} is enabled, no handlers are added to the skins. Instead, filters on the view look up the skin an event
+ * belongs to and handle it before the skin does.
+ * </p>
  */
 public class SelectionCreator
 {
 
+    private static final double INDEX_CELL_SIZE = 256;
+
     private final SkinLookup skinLookup;
     private final GraphEditorView view;
     private final SelectionDragManager selectionDragManager;
@@ -65,9 +83,25 @@ public class SelectionCreator
     private final EventHandler<MouseEvent> viewDraggedHandler = this::handleViewDragged;
     private final EventHandler<MouseEvent> viewReleasedHandler = this::handleViewReleased;
 
+    private final boolean delegated;
+    private final EventHandler<MouseEvent> elementPressedFilter = this::handleElementPressed;
+    private final EventHandler<MouseEvent> elementClickedFilter = this::handleElementClicked;
+    private final EventHandler<MouseEvent> viewClickedHandler = this::handleViewClicked;
+    private boolean elementPressed;
+    private boolean elementClicked;
+
     private final Set<EObject> selectedElementsBackup = new HashSet<>();
 
+    private final UniformGrid<EObject> boundsIndex = new UniformGrid<>(INDEX_CELL_SIZE);
+    private final Set<EObject> insideSelection = new HashSet<>();
+    private final Set<EObject> selectionCandidates = new HashSet<>();
+    private final Consumer<EObject> addSelectionCandidate = selectionCandidates::add;
+    private final List<EObject> toSelect = new ArrayList<>();
+    private final List<EObject> toDeselect = new ArrayList<>();
+
     private Rectangle2D selection;
+    private Rectangle2D previousSelection;
+    private boolean previousShortcutDown;
 
     private Point2D selectionBoxStart;
     private Point2D selectionBoxEnd;
@@ -91,7 +125,14 @@ public class SelectionCreator
         skinLookup = pSkinLookup;
         view = pView;
         selectionDragManager = pSelectionDragManager;
+        delegated = pView.getEditorProperties() != null && pView.getEditorProperties().isDelegatedEventRouting();
 
+        if (delegated)
+        {
+            pView.addEventFilter(MouseEvent.MOUSE_PRESSED, new WeakEventHandler<>(elementPressedFilter));
+            pView.addEventFilter(MouseEvent.MOUSE_CLICKED, new WeakEventHandler<>(elementClickedFilter));
+            pView.addEventHandler(MouseEvent.MOUSE_CLICKED, new WeakEventHandler<>(viewClickedHandler));
+        }
         pView.addEventHandler(MouseEvent.MOUSE_PRESSED, new WeakEventHandler<>(viewPressedHandler));
         pView.addEventHandler(MouseEvent.MOUSE_DRAGGED, new WeakEventHandler<>(viewDraggedHandler));
         pView.addEventHandler(MouseEvent.MOUSE_RELEASED, new WeakEventHandler<>(viewReleasedHandler));
@@ -106,9 +147,49 @@ public class SelectionCreator
     public void initialize(final GModel model)
     {
         this.model = model;
+        insideSelection.clear();
+        previousSelection = null;
         addClickSelectionMechanism();
     }
 
+    /**
+     * Updates the bounds of the given node or joint in the index used to
+     * evaluate the selection box. Must be called whenever a node or joint is
+     * added to the model or its position or size changes.
+     *
+     * @param item
+     *            a {@link GNode} or {@link GJoint}
+     * @since 17.10.2026
+     */
+    public void updateBounds(final EObject item)
+    {
+        if (item instanceof GNode node)
+        {
+            boundsIndex.remove(node);
+            boundsIndex.add(node, node.getX(), node.getY(), node.getX() + node.getWidth(),
+                    node.getY() + node.getHeight());
+        }
+        else if (item instanceof GJoint joint)
+        {
+            boundsIndex.remove(joint);
+            boundsIndex.add(joint, joint.getX(), joint.getY(), joint.getX(), joint.getY());
+        }
+    }
+
+    /**
+     * Removes the given node or joint from the index used to evaluate the
+     * selection box.
+     *
+     * @param item
+     *            a {@link GNode} or {@link GJoint}
+     * @since 17.10.2026
+     */
+    public void removeBounds(final EObject item)
+    {
+        boundsIndex.remove(item);
+        insideSelection.remove(item);
+    }
+
     /**
      * Adds a mechanism to select nodes by clicking on them.
      *
@@ -123,18 +204,21 @@ public class SelectionCreator
         EventUtils.removeEventHandlers(mousePressedHandlers, MouseEvent.MOUSE_PRESSED);
         EventUtils.removeEventHandlers(mouseClickedHandlers, MouseEvent.MOUSE_CLICKED);
 
-        if (model != null)
+        if (model != null && !delegated)
         {
             addClickSelectionForNodes();
             addClickSelectionForJoints();
         }
     }
 
-    private void handleSelectionClick(final MouseEvent event, final GSkin<?> skin)
+    /**
+     * @return {@code true} if the event has been handled and should be consumed
+     */
+    private boolean handleSelectionClick(final MouseEvent event, final GSkin<?> skin)
     {
         if (!MouseButton.PRIMARY.equals(event.getButton()))
         {
-            return;
+            return false;
         }
 
         if (!skin.isSelected())
@@ -158,19 +242,28 @@ public class SelectionCreator
         }
 
         // Consume this event so it's not passed up to the parent (i.e. the view).
-        event.consume();
+        return true;
+    }
+
+    private static void consumeIfHandled(final MouseEvent event, final boolean handled)
+    {
+        if (handled)
+        {
+            event.consume();
+        }
     }
 
     public void addNode(final GNode node)
     {
-        final GNodeSkin skin = skinLookup.lookupNode(node);
+        final GNodeSkin skin = delegated ? null : skinLookup.lookupNode(node);
         if (skin != null)
         {
             final Region nodeRegion = skin.getRoot();
 
             if (!mousePressedHandlers.containsKey(nodeRegion))
             {
-                final EventHandler<MouseEvent> newNodePressedHandler = event -> handleNodePressed(event, skin);
+                final EventHandler<MouseEvent> newNodePressedHandler = event -> consumeIfHandled(event,
+                        handleNodePressed(event, skin));
                 nodeRegion.addEventHandler(MouseEvent.MOUSE_PRESSED, newNodePressedHandler);
                 mousePressedHandlers.put(nodeRegion, newNodePressedHandler);
             }
@@ -184,7 +277,7 @@ public class SelectionCreator
 
     public void removeNode(final GNode node)
     {
-        final GNodeSkin skin = skinLookup.lookupNode(node);
+        final GNodeSkin skin = delegated ? null : skinLookup.lookupNode(node);
         if (skin != null)
         {
             final Region nodeRegion = skin.getRoot();
@@ -205,14 +298,15 @@ public class SelectionCreator
 
     public void addConnector(final GConnector connector)
     {
-        final GConnectorSkin connectorSkin = skinLookup.lookupConnector(connector);
+        final GConnectorSkin connectorSkin = delegated ? null : skinLookup.lookupConnector(connector);
         if (connectorSkin != null)
         {
             final Node connectorRoot = connectorSkin.getRoot();
 
             if (!mouseClickedHandlers.containsKey(connectorRoot))
             {
-                final EventHandler<MouseEvent> connectorClickedHandler = event -> handleSelectionClick(event, connectorSkin);
+                final EventHandler<MouseEvent> connectorClickedHandler = event -> consumeIfHandled(event,
+                        handleSelectionClick(event, connectorSkin));
                 connectorRoot.addEventHandler(MouseEvent.MOUSE_CLICKED, connectorClickedHandler);
                 mouseClickedHandlers.put(connectorRoot, connectorClickedHandler);
             }
@@ -221,7 +315,7 @@ public class SelectionCreator
 
     public void removeConnector(final GConnector connector)
     {
-        final GConnectorSkin connectorSkin = skinLookup.lookupConnector(connector);
+        final GConnectorSkin connectorSkin = delegated ? null : skinLookup.lookupConnector(connector);
         if (connectorSkin != null)
         {
             final Node connectorRoot = connectorSkin.getRoot();
@@ -235,14 +329,15 @@ public class SelectionCreator
 
     public void addConnection(final GConnection connection)
     {
-        final GConnectionSkin connSkin = skinLookup.lookupConnection(connection);
+        final GConnectionSkin connSkin = delegated ? null : skinLookup.lookupConnection(connection);
         if (connSkin != null)
         {
 
             final Node skinRoot = connSkin.getRoot();
             if (!mousePressedHandlers.containsKey(skinRoot))
             {
-                final EventHandler<MouseEvent> connectionPressedHandler = event -> handleConnectionPressed(event, connection);
+                final EventHandler<MouseEvent> connectionPressedHandler = event -> consumeIfHandled(event,
+                        handleConnectionPressed(event, connection));
                 skinRoot.addEventHandler(MouseEvent.MOUSE_PRESSED, connectionPressedHandler);
                 mousePressedHandlers.put(skinRoot, connectionPressedHandler);
             }
@@ -256,7 +351,7 @@ public class SelectionCreator
 
     public void removeConnection(final GConnection connection)
     {
-        final GConnectionSkin connSkin = skinLookup.lookupConnection(connection);
+        final GConnectionSkin connSkin = delegated ? null : skinLookup.lookupConnection(connection);
         if (connSkin != null)
         {
 
@@ -275,7 +370,7 @@ public class SelectionCreator
 
     public void addJoint(final GJoint joint)
     {
-        final GJointSkin jointSkin = skinLookup.lookupJoint(joint);
+        final GJointSkin jointSkin = delegated ? null : skinLookup.lookupJoint(joint);
         if (jointSkin != null)
         {
 
@@ -284,7 +379,8 @@ public class SelectionCreator
             if (!mousePressedHandlers.containsKey(jointRegion))
             {
 
-                final EventHandler<MouseEvent> jointPressedHandler = event -> handleJointPressed(event, jointSkin);
+                final EventHandler<MouseEvent> jointPressedHandler = event -> consumeIfHandled(event,
+                        handleJointPressed(event, jointSkin));
                 jointRegion.addEventHandler(MouseEvent.MOUSE_PRESSED, jointPressedHandler);
                 mousePressedHandlers.put(jointRegion, jointPressedHandler);
             }
@@ -293,7 +389,7 @@ public class SelectionCreator
 
     public void removeJoint(final GJoint joint)
     {
-        final GJointSkin jointSkin = skinLookup.lookupJoint(joint);
+        final GJointSkin jointSkin = delegated ? null : skinLookup.lookupJoint(joint);
         if (jointSkin != null)
         {
 
@@ -337,12 +433,13 @@ public class SelectionCreator
      *            a mouse-pressed event
      * @param nodeSkin
      *            the {@link GNodeSkin} on which this event occurred
+     * @return {@code true} if the event has been handled and should be consumed
      */
-    private void handleNodePressed(final MouseEvent event, final GNodeSkin nodeSkin)
+    private boolean handleNodePressed(final MouseEvent event, final GNodeSkin nodeSkin)
     {
         if (!MouseButton.PRIMARY.equals(event.getButton()))
         {
-            return;
+            return false;
         }
 
         // first update the selection:
@@ -355,7 +452,7 @@ public class SelectionCreator
         }
 
         // Consume this event so it's not passed up to the parent (i.e. the view).
-        event.consume();
+        return true;
     }
 
     /**
@@ -365,12 +462,13 @@ public class SelectionCreator
      *            a mouse-pressed event
      * @param connection
      *            the {@link GConnection} on which this event occurred
+     * @return {@code true} if the event has been handled and should be consumed
      */
-    private void handleConnectionPressed(final MouseEvent event, final GConnection connection)
+    private boolean handleConnectionPressed(final MouseEvent event, final GConnection connection)
     {
         if (!MouseButton.PRIMARY.equals(event.getButton()))
         {
-            return;
+            return false;
         }
 
         final GConnectionSkin connSkin = skinLookup.lookupConnection(connection);
@@ -379,7 +477,7 @@ public class SelectionCreator
             handleSelectionClick(event, connSkin);
         }
 
-        event.consume();
+        return true;
     }
 
     /**
@@ -389,12 +487,13 @@ public class SelectionCreator
      *            a mouse-pressed event
      * @param jointSkin
      *            the {@link GJointSkin} on which this event occurred
+     * @return {@code true} if the event has been handled and should be consumed
      */
-    private void handleJointPressed(final MouseEvent event, final GJointSkin jointSkin)
+    private boolean handleJointPressed(final MouseEvent event, final GJointSkin jointSkin)
     {
         if (!MouseButton.PRIMARY.equals(event.getButton()) || event.isConsumed())
         {
-            return;
+            return false;
         }
 
         // first update the selection:
@@ -403,7 +502,63 @@ public class SelectionCreator
         // then bind position of other slave items:
         selectionDragManager.bindPositions(jointSkin.getRoot());
 
-        event.consume();
+        return true;
+    }
+
+    /**
+     * Handles mouse-pressed events on the view before they reach their target,
+     * if {@link #delegated}. Pressing a connector does not select anything, as
+     * connectors consume mouse-pressed events themselves.
+     *
+     * @param pEvent
+     *            a mouse-pressed event
+     */
+    private void handleElementPressed(final MouseEvent pEvent)
+    {
+        final var skin = EventUtils.lookupTargetSkin(pEvent, skinLookup);
+        if (skin instanceof GNodeSkin nodeSkin)
+        {
+            elementPressed = handleNodePressed(pEvent, nodeSkin);
+        }
+        else if (skin instanceof GJointSkin jointSkin)
+        {
+            elementPressed = handleJointPressed(pEvent, jointSkin);
+        }
+        else if (skin instanceof GConnectionSkin connectionSkin)
+        {
+            elementPressed = handleConnectionPressed(pEvent, connectionSkin.getItem());
+        }
+        else
+        {
+            elementPressed = false;
+        }
+    }
+
+    /**
+     * Handles mouse-clicked events on the view before they reach their target,
+     * if {@link #delegated}.
+     *
+     * @param pEvent
+     *            a mouse-clicked event
+     */
+    private void handleElementClicked(final MouseEvent pEvent)
+    {
+        elementClicked = EventUtils.lookupTargetSkin(pEvent, skinLookup) instanceof GConnectorSkin connectorSkin
+                && handleSelectionClick(pEvent, connectorSkin);
+    }
+
+    /**
+     * Consumes mouse-clicked events that have already been handled by
+     * {@link #handleElementClicked(MouseEvent)}, so that they are not passed
+     * up to the parent of the view.
+     *
+     * @param pEvent
+     *            a mouse-clicked event
+     */
+    private void handleViewClicked(final MouseEvent pEvent)
+    {
+        consumeIfHandled(pEvent, elementClicked);
+        elementClicked = false;
     }
 
     /**
@@ -414,6 +569,14 @@ public class SelectionCreator
      */
     private void handleViewPressed(final MouseEvent pEvent)
     {
+        if (elementPressed)
+        {
+            // already handled by handleElementPressed(MouseEvent):
+            elementPressed = false;
+            pEvent.consume();
+            return;
+        }
+
         if (model == null || pEvent.isConsumed() || !activateGesture(pEvent))
         {
             return;
@@ -429,6 +592,9 @@ public class SelectionCreator
         }
 
         selectionBoxStart = new Point2D(Math.max(0, pEvent.getX()), Math.max(0, pEvent.getY()));
+        previousSelection = null;
+        previousShortcutDown = pEvent.isShortcutDown();
+        insideSelection.clear();
     }
 
     /**
@@ -468,71 +634,128 @@ public class SelectionCreator
         view.hideSelectionBox();
     }
 
-    private boolean isNodeSelected(final GNode node, final boolean isShortcutDown)
-    {
-        return selection.contains(node.getX(), node.getY(), node.getWidth(), node.getHeight())
-                || isShortcutDown && selectedElementsBackup.contains(node);
-    }
-
-    private boolean isJointSelected(final GJoint joint, final boolean isShortcutDown)
+    private boolean isInsideSelection(final EObject item)
     {
-        return selection.contains(joint.getX(), joint.getY()) || isShortcutDown && selectedElementsBackup.contains(joint);
-    }
-
-    private boolean isConnectionSelected(final GConnection connection, final boolean isShortcutDown)
-    {
-        return isShortcutDown && selectedElementsBackup.contains(connection);
+        if (item instanceof GNode node)
+        {
+            return selection.contains(node.getX(), node.getY(), node.getWidth(), node.getHeight());
+        }
+        return item instanceof GJoint joint && selection.contains(joint.getX(), joint.getY());
     }
 
     /**
      * Updates the selection according to what nodes & joints are inside /
      * outside the selection box.
+     *
+     * <p>
+     * Only nodes and joints close to the difference between the previous and
+     * the current selection box are evaluated, and only elements whose state
+     * changed are (de)selected.
+     * </p>
      */
     private void updateSelection(final boolean isShortcutDown)
     {
-        for (int i = 0; i < model.getNodes().size(); i++)
+        if (previousSelection == null)
         {
-            final GNode node = model.getNodes().get(i);
+            queryBounds(selection.getMinX(), selection.getMinY(), selection.getMaxX(), selection.getMaxY());
+        }
+        else
+        {
+            queryDifference(selection, previousSelection);
+            queryDifference(previousSelection, selection);
+        }
 
-            if (isNodeSelected(node, isShortcutDown))
+        try
+        {
+            for (final EObject candidate : selectionCandidates)
             {
-                selectionManager.select(node);
+                final boolean inside = isInsideSelection(candidate);
+                if (inside ? insideSelection.add(candidate) : insideSelection.remove(candidate))
+                {
+                    updateSelection(candidate, isShortcutDown);
+                }
             }
-            else
+        }
+        finally
+        {
+            selectionCandidates.clear();
+        }
+
+        // the backed up selection is only kept while the shortcut is down:
+        if (isShortcutDown != previousShortcutDown)
+        {
+            for (final EObject backup : selectedElementsBackup)
             {
-                selectionManager.clearSelection(node);
+                updateSelection(backup, isShortcutDown);
             }
         }
 
-        for (int i = 0; i < model.getConnections().size(); i++)
+        previousSelection = selection;
+        previousShortcutDown = isShortcutDown;
+
+        try
+        {
+            selectionManager.deselectAll(toDeselect);
+            selectionManager.selectAll(toSelect);
+        }
+        finally
+        {
+            toDeselect.clear();
+            toSelect.clear();
+        }
+    }
+
+    private void updateSelection(final EObject item, final boolean isShortcutDown)
+    {
+        if (insideSelection.contains(item) || isShortcutDown && selectedElementsBackup.contains(item))
         {
-            final GConnection connection = model.getConnections().get(i);
+            toSelect.add(item);
+        }
+        else
+        {
+            toDeselect.add(item);
+        }
+    }
 
-            if (isConnectionSelected(connection, isShortcutDown))
-            {
-                selectionManager.select(connection);
-            }
-            else
-            {
-                selectionManager.clearSelection(connection);
-            }
+    /**
+     * Collects the nodes and joints that might be inside the first but not
+     * the second rectangle.
+     */
+    private void queryDifference(final Rectangle2D pInside, final Rectangle2D pOutside)
+    {
+        if (!pInside.intersects(pOutside))
+        {
+            queryBounds(pInside.getMinX(), pInside.getMinY(), pInside.getMaxX(), pInside.getMaxY());
+            return;
+        }
 
-            for (int j = 0; j < connection.getJoints().size(); j++)
-            {
-                final GJoint joint = connection.getJoints().get(j);
+        // strips above and below, then left and right of the second rectangle:
+        if (pInside.getMinY() < pOutside.getMinY())
+        {
+            queryBounds(pInside.getMinX(), pInside.getMinY(), pInside.getMaxX(), pOutside.getMinY());
+        }
+        if (pInside.getMaxY() > pOutside.getMaxY())
+        {
+            queryBounds(pInside.getMinX(), pOutside.getMaxY(), pInside.getMaxX(), pInside.getMaxY());
+        }
 
-                if (isJointSelected(joint, isShortcutDown))
-                {
-                    selectionManager.select(joint);
-                }
-                else
-                {
-                    selectionManager.clearSelection(joint);
-                }
-            }
+        final double minY = Math.max(pInside.getMinY(), pOutside.getMinY());
+        final double maxY = Math.min(pInside.getMaxY(), pOutside.getMaxY());
+        if (pInside.getMinX() < pOutside.getMinX())
+        {
+            queryBounds(pInside.getMinX(), minY, pOutside.getMinX(), maxY);
+        }
+        if (pInside.getMaxX() > pOutside.getMaxX())
+        {
+            queryBounds(pOutside.getMaxX(), minY, pInside.getMaxX(), maxY);
         }
     }
 
+    private void queryBounds(final double pMinX, final double pMinY, final double pMaxX, final double pMaxY)
+    {
+        boundsIndex.query(pMinX, pMinY, pMaxX, pMaxY, addSelectionCandidate);
+    }
+
     /**
      * Stores the currently selected objects in this class' backup lists.
      *
@@ -4,22 +4,35 @@
 package io.github.eckig.grapheditor.core.selections;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import io.github.eckig.grapheditor.SelectionManager;
 import io.github.eckig.grapheditor.SkinLookup;
 import io.github.eckig.grapheditor.core.DefaultGraphEditor;
 import io.github.eckig.grapheditor.core.view.GraphEditorView;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
 import io.github.eckig.grapheditor.model.GJoint;
 import io.github.eckig.grapheditor.model.GNode;
 import io.github.eckig.grapheditor.utils.DraggableBox;
 import io.github.eckig.grapheditor.utils.GraphEditorProperties;
 import javafx.beans.value.ChangeListener;
 import javafx.event.EventHandler;
+import javafx.event.WeakEventHandler;
 import javafx.scene.input.MouseEvent;
 
 /**
  * Handles how a selection of multiple objects is dragged.
+ *
+ * <p>
+ * If at least {@link GraphEditorProperties#getGroupDragThreshold()} objects are selected, they are dragged as a group:
+ * the selected objects only follow the master via their translation and the connections between them are
+ * {@link io.github.eckig.grapheditor.core.view.ConnectionLayout#translate(GConnection, double, double) translated}
+ * as well, so that only the connections leaving the selection have to be redrawn. The layout values of the selected
+ * objects are updated once, when the master is released.
+ * </p>
  */
 public class SelectionDragManager
 {
@@ -38,6 +51,15 @@ public class SelectionDragManager
     private DraggableBox master;
     private EventHandler<MouseEvent> removeOnReleased;
 
+    // state of a group drag:
+    private final EventHandler<MouseEvent> commitOnReleased = _ -> commitGroupDrag();
+    private final Set<GConnection> internalConnections = new LinkedHashSet<>();
+    private boolean groupDrag;
+    private double masterStartX;
+    private double masterStartY;
+    private double groupOffsetX;
+    private double groupOffsetY;
+
     /**
      * Creates a new selection drag manager. Only one instance should exist per {@link DefaultGraphEditor} instance.
      *
@@ -54,11 +76,20 @@ public class SelectionDragManager
         this.skinLookup = skinLookup;
         this.view = view;
         this.selectionManager = selectionManager;
+
+        // the group has to be committed before any handler of the dragged objects writes their layout values back to
+        // the model, so this has to be the first mouse-released filter of the view:
+        view.addEventFilter(MouseEvent.MOUSE_RELEASED, new WeakEventHandler<>(commitOnReleased));
     }
 
     private void masterMovedX(final double x)
     {
-        if (master != null)
+        if (master != null && groupDrag)
+        {
+            groupOffsetX = x - masterStartX;
+            moveGroup();
+        }
+        else if (master != null)
         {
             for (int i = 0; i < currentSelectedElements.size(); i++)
             {
@@ -73,7 +104,12 @@ public class SelectionDragManager
 
     private void masterMovedY(final double y)
     {
-        if (master != null)
+        if (master != null && groupDrag)
+        {
+            groupOffsetY = y - masterStartY;
+            moveGroup();
+        }
+        else if (master != null)
         {
             for (int i = 0; i < currentSelectedElements.size(); i++)
             {
@@ -86,6 +122,68 @@ public class SelectionDragManager
         }
     }
 
+    /**
+     * Moves all selected objects (except the master) and the connections between them by the current group offset,
+     * without changing their layout values.
+     */
+    private void moveGroup()
+    {
+        for (final var node : currentSelectedElements)
+        {
+            if (node != master)
+            {
+                node.setTranslateX(groupOffsetX);
+                node.setTranslateY(groupOffsetY);
+            }
+        }
+
+        final var connectionLayout = view.getConnectionLayout();
+        if (connectionLayout != null)
+        {
+            for (final var connection : internalConnections)
+            {
+                connectionLayout.translate(connection, groupOffsetX, groupOffsetY);
+            }
+        }
+
+        // translating does not cause a layout pass, but the connections leaving the selection have to be redrawn:
+        view.requestLayout();
+    }
+
+    /**
+     * Applies the translation of all selected objects to their layout values, before their layout values are written
+     * back to the model.
+     */
+    private void commitGroupDrag()
+    {
+        if (!groupDrag)
+        {
+            return;
+        }
+        groupDrag = false;
+
+        for (final var node : currentSelectedElements)
+        {
+            if (node != master)
+            {
+                node.setLayoutX(node.getLayoutX() + node.getTranslateX());
+                node.setLayoutY(node.getLayoutY() + node.getTranslateY());
+                node.setTranslateX(0);
+                node.setTranslateY(0);
+            }
+        }
+
+        final var connectionLayout = view.getConnectionLayout();
+        if (connectionLayout != null)
+        {
+            for (final var connection : internalConnections)
+            {
+                connectionLayout.translate(connection, 0, 0);
+            }
+        }
+        internalConnections.clear();
+    }
+
     /**
      * Binds the positions of all selected objects to have a fixed position relative to the given draggable box.
      *
@@ -95,11 +193,12 @@ public class SelectionDragManager
     public void bindPositions(final DraggableBox pMaster)
     {
         // clean up
-        currentSelectedElements.clear();
         if (master != null)
         {
+            commitGroupDrag();
             removePositionListeners(master);
         }
+        currentSelectedElements.clear();
 
         // store the currently selected elements of interest
         // (the ones we want to move alongside the master):
@@ -133,6 +232,16 @@ public class SelectionDragManager
 
         master = pMaster;
 
+        groupDrag = currentSelectedElements.size() >= view.getEditorProperties().getGroupDragThreshold();
+        if (groupDrag)
+        {
+            storeInternalConnections();
+            masterStartX = pMaster.getLayoutX();
+            masterStartY = pMaster.getLayoutY();
+            groupOffsetX = 0;
+            groupOffsetY = 0;
+        }
+
         storeCurrentOffsets(pMaster);
         setEditorBoundsForDrag(pMaster);
         addPositionListeners(pMaster);
@@ -146,6 +255,7 @@ public class SelectionDragManager
      */
     private void unbindPositions(final DraggableBox master)
     {
+        commitGroupDrag();
         removePositionListeners(master);
         restoreEditorProperties(master);
 
@@ -156,6 +266,52 @@ public class SelectionDragManager
         this.master = null;
     }
 
+    /**
+     * Stores all connections whose nodes and joints are all dragged, so that they can be moved without being redrawn.
+     */
+    private void storeInternalConnections()
+    {
+        internalConnections.clear();
+        for (final var selected : selectionManager.getSelectedItems())
+        {
+            if (selected instanceof GNode n)
+            {
+                for (final GConnector connector : n.getConnectors())
+                {
+                    for (final GConnection connection : connector.getConnections())
+                    {
+                        if (isDragged(connection))
+                        {
+                            internalConnections.add(connection);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean isDragged(final GConnection connection)
+    {
+        if (!isDragged(connection.getSource()) || !isDragged(connection.getTarget()))
+        {
+            return false;
+        }
+        for (final GJoint joint : connection.getJoints())
+        {
+            if (!selectionManager.isSelected(joint) || skinLookup.lookupJoint(joint) == null)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isDragged(final GConnector connector)
+    {
+        final var node = connector == null ? null : connector.getParent();
+        return node != null && selectionManager.isSelected(node) && skinLookup.lookupNode(node) != null;
+    }
+
     /**
      * Stores the current offset position of all selected objects with respect to the given master region.
      *
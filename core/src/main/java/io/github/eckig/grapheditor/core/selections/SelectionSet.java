@@ -0,0 +1,350 @@
+package io.github.eckig.grapheditor.core.selections;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakListener;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
+
+
+/**
+ * {@link ObservableSet} of the selected items that supports bulk changes.
+ *
+ * <p>
+ * {@link SetChangeListener SetChangeListeners} are informed about every single
+ * added or removed item, as required by their API. During a bulk change
+ * ({@link #addAll(Collection)}, {@link #removeAll(Collection)},
+ * {@link #retainAll(Collection)}, {@link #clear()} or {@link #replace(Collection)})
+ * {@link InvalidationListener InvalidationListeners} are only informed once,
+ * after the whole change has been applied.
+ * </p>
+ *
+ * @since 17.10.2026
+ */
+final class SelectionSet extends AbstractSet<EObject> implements ObservableSet<EObject>
+{
+
+    private static final InvalidationListener[] NO_INVALIDATION_LISTENERS = new InvalidationListener[0];
+    @SuppressWarnings("unchecked")
+    private static final SetChangeListener<? super EObject>[] NO_CHANGE_LISTENERS = new SetChangeListener[0];
+
+    private final Set<EObject> elements = new HashSet<>();
+
+    private InvalidationListener[] invalidationListeners = NO_INVALIDATION_LISTENERS;
+    private SetChangeListener<? super EObject>[] changeListeners = NO_CHANGE_LISTENERS;
+
+    private int bulkChangeDepth;
+    private boolean invalidatedDuringBulkChange;
+
+    @Override
+    public int size()
+    {
+        return elements.size();
+    }
+
+    @Override
+    public boolean contains(final Object o)
+    {
+        return elements.contains(o);
+    }
+
+    @Override
+    public Iterator<EObject> iterator()
+    {
+        final Iterator<EObject> iterator = elements.iterator();
+        return new Iterator<>()
+        {
+
+            private EObject current;
+
+            @Override
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public EObject next()
+            {
+                current = iterator.next();
+                return current;
+            }
+
+            @Override
+            public void remove()
+            {
+                iterator.remove();
+                fireChange(null, current);
+            }
+        };
+    }
+
+    @Override
+    public boolean add(final EObject e)
+    {
+        if (elements.add(e))
+        {
+            fireChange(e, null);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(final Object o)
+    {
+        if (o instanceof EObject e && elements.remove(e))
+        {
+            fireChange(null, e);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends EObject> c)
+    {
+        beginBulkChange();
+        try
+        {
+            boolean changed = false;
+            for (final EObject e : c)
+            {
+                changed |= add(e);
+            }
+            return changed;
+        }
+        finally
+        {
+            endBulkChange();
+        }
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> c)
+    {
+        beginBulkChange();
+        try
+        {
+            boolean changed = false;
+            for (final Object o : c)
+            {
+                changed |= remove(o);
+            }
+            return changed;
+        }
+        finally
+        {
+            endBulkChange();
+        }
+    }
+
+    @Override
+    public boolean retainAll(final Collection<?> c)
+    {
+        final Collection<?> retained = c instanceof Set<?> ? c : new HashSet<>(c);
+        beginBulkChange();
+        try
+        {
+            boolean changed = false;
+            // listeners may modify the selection, so iterate over a copy:
+            for (final Object o : elements.toArray())
+            {
+                if (!retained.contains(o))
+                {
+                    changed |= remove(o);
+                }
+            }
+            return changed;
+        }
+        finally
+        {
+            endBulkChange();
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        beginBulkChange();
+        try
+        {
+            // listeners may modify the selection, so iterate over a copy:
+            for (final Object o : elements.toArray())
+            {
+                remove(o);
+            }
+        }
+        finally
+        {
+            endBulkChange();
+        }
+    }
+
+    /**
+     * Replaces the content of this set with the given items, as one bulk
+     * change. Items that stay selected are not reported as changed.
+     *
+     * @param c
+     *            the new content
+     * @return {@code true} if this set changed
+     */
+    public boolean replace(final Collection<? extends EObject> c)
+    {
+        beginBulkChange();
+        try
+        {
+            final boolean removed = retainAll(c);
+            return addAll(c) || removed;
+        }
+        finally
+        {
+            endBulkChange();
+        }
+    }
+
+    @Override
+    public void addListener(final InvalidationListener listener)
+    {
+        invalidationListeners = append(invalidationListeners, listener);
+    }
+
+    @Override
+    public void removeListener(final InvalidationListener listener)
+    {
+        invalidationListeners = remove(invalidationListeners, listener);
+    }
+
+    @Override
+    public void addListener(final SetChangeListener<? super EObject> listener)
+    {
+        changeListeners = append(changeListeners, listener);
+    }
+
+    @Override
+    public void removeListener(final SetChangeListener<? super EObject> listener)
+    {
+        changeListeners = remove(changeListeners, listener);
+    }
+
+    private void beginBulkChange()
+    {
+        bulkChangeDepth++;
+    }
+
+    private void endBulkChange()
+    {
+        if (--bulkChangeDepth == 0 && invalidatedDuringBulkChange)
+        {
+            invalidatedDuringBulkChange = false;
+            fireInvalidation();
+        }
+    }
+
+    private void fireChange(final EObject added, final EObject removed)
+    {
+        final SetChangeListener<? super EObject>[] listeners = changeListeners;
+        if (listeners.length > 0)
+        {
+            final SetChangeListener.Change<EObject> change = new SetChangeListener.Change<>(this)
+            {
+
+                @Override
+                public boolean wasAdded()
+                {
+                    return added != null;
+                }
+
+                @Override
+                public boolean wasRemoved()
+                {
+                    return removed != null;
+                }
+
+                @Override
+                public EObject getElementAdded()
+                {
+                    return added;
+                }
+
+                @Override
+                public EObject getElementRemoved()
+                {
+                    return removed;
+                }
+            };
+
+            for (final SetChangeListener<? super EObject> listener : listeners)
+            {
+                if (isGarbageCollected(listener))
+                {
+                    removeListener(listener);
+                }
+                else
+                {
+                    listener.onChanged(change);
+                }
+            }
+        }
+
+        if (bulkChangeDepth > 0)
+        {
+            invalidatedDuringBulkChange = true;
+        }
+        else
+        {
+            fireInvalidation();
+        }
+    }
+
+    private void fireInvalidation()
+    {
+        for (final InvalidationListener listener : invalidationListeners)
+        {
+            if (isGarbageCollected(listener))
+            {
+                removeListener(listener);
+            }
+            else
+            {
+                listener.invalidated(this);
+            }
+        }
+    }
+
+    private static boolean isGarbageCollected(final Object listener)
+    {
+        return listener instanceof WeakListener w && w.wasGarbageCollected();
+    }
+
+    // listener arrays are copied on write, so that listeners can (un)register while being notified:
+
+    private static <L> L[] append(final L[] listeners, final L listener)
+    {
+        final L[] result = Arrays.copyOf(listeners, listeners.length + 1);
+        result[listeners.length] = listener;
+        return result;
+    }
+
+    private static <L> L[] remove(final L[] listeners, final L listener)
+    {
+        for (int i = 0; i < listeners.length; i++)
+        {
+            if (listeners[i].equals(listener))
+            {
+                final L[] result = Arrays.copyOf(listeners, listeners.length - 1);
+                System.arraycopy(listeners, i + 1, result, i, listeners.length - i - 1);
+                return result;
+            }
+        }
+        return listeners;
+    }
+}
@@ -1,7 +1,9 @@
 package io.github.eckig.grapheditor.core.selections;
 
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.emf.ecore.EObject;
 
@@ -11,19 +13,31 @@ import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.model.GConnector;
 import io.github.eckig.grapheditor.model.GJoint;
 import io.github.eckig.grapheditor.model.GNode;
-import javafx.collections.FXCollections;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
 import javafx.collections.ObservableSet;
 import javafx.collections.SetChangeListener;
 
 /**
  * Provides observable lists of selected nodes and joints for convenience.
+ *
+ * <p>
+ * The selected nodes, connections and joints are kept in separate,
+ * insertion-ordered sets that are updated incrementally. The lists returned by
+ * the getters are unmodifiable snapshots that are only recreated after the
+ * selection of their type changed.
+ * </p>
  */
 public class SelectionTracker
 {
 
-    private final ObservableSet<EObject> selectedElements = FXCollections.observableSet(new HashSet<>());
+    private final SelectionSet selectedElements = new SelectionSet();
     private final SkinLookup skinLookup;
 
+    private final Partition<GNode> selectedNodes = new Partition<>("selectedNodeCount"); //$NON-NLS-1$
+    private final Partition<GConnection> selectedConnections = new Partition<>("selectedConnectionCount"); //$NON-NLS-1$
+    private final Partition<GJoint> selectedJoints = new Partition<>("selectedJointCount"); //$NON-NLS-1$
+
     /**
      * Creates a new {@link SelectionTracker} instance.
      *
@@ -38,6 +52,16 @@ public class SelectionTracker
 
     private void selectedElementsChanged(final SetChangeListener.Change<? extends EObject> change)
     {
+        // first update the partitions, skins might query them:
+        if (change.wasRemoved())
+        {
+            partition(change.getElementRemoved(), false);
+        }
+        if (change.wasAdded())
+        {
+            partition(change.getElementAdded(), true);
+        }
+
         if (change.wasRemoved())
         {
             update(change.getElementRemoved());
@@ -48,6 +72,22 @@ public class SelectionTracker
         }
     }
 
+    private void partition(final EObject obj, final boolean added)
+    {
+        if (obj instanceof GNode n)
+        {
+            selectedNodes.update(n, added);
+        }
+        else if (obj instanceof GConnection c)
+        {
+            selectedConnections.update(c, added);
+        }
+        else if (obj instanceof GJoint j)
+        {
+            selectedJoints.update(j, added);
+        }
+    }
+
     private void update(final EObject obj)
     {
         GSkin<?> skin = null;
@@ -87,7 +127,7 @@ public class SelectionTracker
      */
     public List<GNode> getSelectedNodes()
     {
-        return selectedElements.stream().filter(e -> e instanceof GNode).map(e -> (GNode) e).toList();
+        return selectedNodes.list();
     }
 
     /**
@@ -95,7 +135,7 @@ public class SelectionTracker
      */
     public List<GConnection> getSelectedConnections()
     {
-        return selectedElements.stream().filter(e -> e instanceof GConnection).map(e -> (GConnection) e).toList();
+        return selectedConnections.list();
     }
 
     /**
@@ -103,11 +143,84 @@ public class SelectionTracker
      */
     public List<GJoint> getSelectedJoints()
     {
-        return selectedElements.stream().filter(e -> e instanceof GJoint).map(e -> (GJoint) e).toList();
+        return selectedJoints.list();
+    }
+
+    /**
+     * @return the number of currently selected nodes
+     * @since 17.10.2026
+     */
+    public ReadOnlyIntegerProperty selectedNodeCountProperty()
+    {
+        return selectedNodes.count.getReadOnlyProperty();
+    }
+
+    /**
+     * @return the number of currently selected connections
+     * @since 17.10.2026
+     */
+    public ReadOnlyIntegerProperty selectedConnectionCountProperty()
+    {
+        return selectedConnections.count.getReadOnlyProperty();
+    }
+
+    /**
+     * @return the number of currently selected joints
+     * @since 17.10.2026
+     */
+    public ReadOnlyIntegerProperty selectedJointCountProperty()
+    {
+        return selectedJoints.count.getReadOnlyProperty();
     }
 
     public ObservableSet<EObject> getSelectedItems()
     {
         return selectedElements;
     }
+
+    /**
+     * Replaces the current selection with the given items as one bulk change.
+     *
+     * @param items
+     *         the items to select
+     * @since 17.10.2026
+     */
+    public void replaceSelection(final Collection<? extends EObject> items)
+    {
+        selectedElements.replace(items);
+    }
+
+    /**
+     * The selected elements of one type.
+     */
+    private final class Partition<T extends EObject>
+    {
+
+        private final Set<T> elements = new LinkedHashSet<>();
+        private final ReadOnlyIntegerWrapper count;
+        private List<T> snapshot = List.of();
+
+        Partition(final String countName)
+        {
+            count = new ReadOnlyIntegerWrapper(SelectionTracker.this, countName);
+        }
+
+        void update(final T element, final boolean added)
+        {
+            if (added ? elements.add(element) : elements.remove(element))
+            {
+                snapshot = null;
+                count.set(elements.size());
+            }
+        }
+
+        List<T> list()
+        {
+            if (snapshot == null)
+            {
+                snapshot = List.copyOf(elements);
+            }
+            return snapshot;
+        }
+    }
 }
@@ -10,6 +10,7 @@ import io.github.eckig.grapheditor.GConnectionSkin;
 import io.github.eckig.grapheditor.GConnectorSkin;
 import io.github.eckig.grapheditor.GJointSkin;
 import io.github.eckig.grapheditor.GNodeSkin;
+import io.github.eckig.grapheditor.GSkin;
 import io.github.eckig.grapheditor.GTailSkin;
 import io.github.eckig.grapheditor.GraphEditor;
 import io.github.eckig.grapheditor.VirtualSkin;
@@ -24,12 +25,27 @@ import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.model.GConnector;
 import io.github.eckig.grapheditor.model.GJoint;
 import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.utils.GraphEditorProperties;
+import javafx.scene.Node;
 import javafx.util.Callback;
 
 
 /**
  * Default {@link SkinManager} implementation
  *
+ * <p>
+ * Removed node, connector, connection and joint skins are kept in pools of
+ * {@link GraphEditorProperties#getSkinPoolSize() limited size} and
+ * {@link io.github.eckig.grapheditor.GSkin#rebind(org.eclipse.emf.ecore.EObject)
+ * rebound} to new items of the same type, instead of creating new skins.
+ * </p>
+ *
+ * <p>
+ * Node and connector skins can be {@link #prepareNodeSkin(GNode) prepared} on
+ * a background thread before their items are added to the editor. Prepared
+ * skins are used instead of creating new skins once their items are added.
+ * </p>
+ *
  * @since 09.02.2016
  */
 public class GraphEditorSkinManager implements SkinManager
@@ -49,6 +65,15 @@ public class GraphEditorSkinManager implements SkinManager
     private final Map<GConnection, GConnectionSkin> mConnectionSkins = new HashMap<>();
     private final Map<GJoint, GJointSkin> mJointSkins = new HashMap<>();
     private final Map<GConnector, GTailSkin> mTailSkins = new HashMap<>();
+    private final Map<Node, GSkin<?>> mSkinsByRoot = new HashMap<>();
+
+    private final Map<GNode, GNodeSkin> mPreparedNodeSkins = new HashMap<>();
+    private final Map<GConnector, GConnectorSkin> mPreparedConnectorSkins = new HashMap<>();
+
+    private final SkinPool<GNode, GNodeSkin> mNodeSkinPool = new SkinPool<>(this::getSkinPoolSize);
+    private final SkinPool<GConnector, GConnectorSkin> mConnectorSkinPool = new SkinPool<>(this::getSkinPoolSize);
+    private final SkinPool<GConnection, GConnectionSkin> mConnectionSkinPool = new SkinPool<>(this::getSkinPoolSize);
+    private final SkinPool<GJoint, GJointSkin> mJointSkinPool = new SkinPool<>(this::getSkinPoolSize);
 
     private Consumer<GNode> mOnNodeCreated;
     private Consumer<GConnector> mOnConnectorCreated;
@@ -74,24 +99,28 @@ public class GraphEditorSkinManager implements SkinManager
     public void setNodeSkinFactory(final Callback<GNode, GNodeSkin> pSkinFactory)
     {
         mNodeSkinFactory = pSkinFactory;
+        mNodeSkinPool.clear();
     }
 
     @Override
     public void setConnectorSkinFactory(final Callback<GConnector, GConnectorSkin> pConnectorSkinFactory)
     {
         mConnectorSkinFactory = pConnectorSkinFactory;
+        mConnectorSkinPool.clear();
     }
 
     @Override
     public void setConnectionSkinFactory(final Callback<GConnection, GConnectionSkin> pConnectionSkinFactory)
     {
         mConnectionSkinFactory = pConnectionSkinFactory;
+        mConnectionSkinPool.clear();
     }
 
     @Override
     public void setJointSkinFactory(final Callback<GJoint, GJointSkin> pJointSkinFactory)
     {
         mJointSkinFactory = pJointSkinFactory;
+        mJointSkinPool.clear();
     }
 
     @Override
@@ -108,7 +137,7 @@ public class GraphEditorSkinManager implements SkinManager
             final GNode[] nodes = mNodeSkins.keySet().toArray(new GNode[0]);
             for (final GNode n : nodes)
             {
-                removeNode(n);
+                removeNode(n, false);
             }
         }
 
@@ -117,7 +146,7 @@ public class GraphEditorSkinManager implements SkinManager
             final GConnector[] connectors = mConnectorSkins.keySet().toArray(new GConnector[0]);
             for (final GConnector c : connectors)
             {
-                removeConnector(c);
+                removeConnector(c, false);
             }
         }
 
@@ -126,7 +155,7 @@ public class GraphEditorSkinManager implements SkinManager
             final GConnection[] connections = mConnectionSkins.keySet().toArray(new GConnection[0]);
             for (final GConnection c : connections)
             {
-                removeConnection(c);
+                removeConnection(c, false);
             }
         }
 
@@ -135,7 +164,7 @@ public class GraphEditorSkinManager implements SkinManager
             final GJoint[] joints = mJointSkins.keySet().toArray(new GJoint[0]);
             for (final GJoint c : joints)
             {
-                removeJoint(c);
+                removeJoint(c, false);
             }
         }
 
@@ -150,37 +179,70 @@ public class GraphEditorSkinManager implements SkinManager
         }
 
         // remove any remainders that might have been left over:
+        mSkinsByRoot.clear();
+        mPreparedNodeSkins.clear();
+        mPreparedConnectorSkins.clear();
         mView.clear();
     }
 
     @Override
     public void removeNode(final GNode pNodeToRemove)
+    {
+        removeNode(pNodeToRemove, true);
+    }
+
+    private void removeNode(final GNode pNodeToRemove, final boolean pReuse)
     {
         if (pNodeToRemove != null)
         {
+            mPreparedNodeSkins.remove(pNodeToRemove);
             final GNodeSkin removedSkin = mNodeSkins.remove(pNodeToRemove);
             if (removedSkin != null)
             {
+                mSkinsByRoot.remove(removedSkin.getRoot());
                 mView.remove(removedSkin);
                 removedSkin.dispose();
+                if (pReuse)
+                {
+                    mNodeSkinPool.release(removedSkin);
+                }
+                else
+                {
+                    mNodeSkinPool.discard(removedSkin);
+                }
             }
 
             for (int i = 0; i < pNodeToRemove.getConnectors().size(); i++)
             {
-                removeConnector(pNodeToRemove.getConnectors().get(i));
+                removeConnector(pNodeToRemove.getConnectors().get(i), pReuse);
             }
         }
     }
 
     @Override
     public void removeConnector(final GConnector pConnectorToRemove)
+    {
+        removeConnector(pConnectorToRemove, true);
+    }
+
+    private void removeConnector(final GConnector pConnectorToRemove, final boolean pReuse)
     {
         if (pConnectorToRemove != null)
         {
+            mPreparedConnectorSkins.remove(pConnectorToRemove);
             final GConnectorSkin removedSkin = mConnectorSkins.remove(pConnectorToRemove);
             if (removedSkin != null)
             {
+                mSkinsByRoot.remove(removedSkin.getRoot());
                 removedSkin.dispose();
+                if (pReuse)
+                {
+                    mConnectorSkinPool.release(removedSkin);
+                }
+                else
+                {
+                    mConnectorSkinPool.discard(removedSkin);
+                }
             }
             final GTailSkin removedTailSkin = mTailSkins.remove(pConnectorToRemove);
             if (removedTailSkin != null)
@@ -192,33 +254,61 @@ public class GraphEditorSkinManager implements SkinManager
 
     @Override
     public void removeConnection(final GConnection pConnectionToRemove)
+    {
+        removeConnection(pConnectionToRemove, true);
+    }
+
+    private void removeConnection(final GConnection pConnectionToRemove, final boolean pReuse)
     {
         if (pConnectionToRemove != null)
         {
             final var removedSkin = mConnectionSkins.remove(pConnectionToRemove);
             if (removedSkin != null)
             {
+                mSkinsByRoot.remove(removedSkin.getRoot());
                 mView.remove(removedSkin);
                 removedSkin.dispose();
+                if (pReuse)
+                {
+                    mConnectionSkinPool.release(removedSkin);
+                }
+                else
+                {
+                    mConnectionSkinPool.discard(removedSkin);
+                }
             }
 
             for (final var joint : pConnectionToRemove.getJoints())
             {
-                removeJoint(joint);
+                removeJoint(joint, pReuse);
             }
         }
     }
 
     @Override
     public void removeJoint(final GJoint pJointToRemove)
+    {
+        removeJoint(pJointToRemove, true);
+    }
+
+    private void removeJoint(final GJoint pJointToRemove, final boolean pReuse)
     {
         if (pJointToRemove != null)
         {
             final GJointSkin removedSkin = mJointSkins.remove(pJointToRemove);
             if (removedSkin != null)
             {
+                mSkinsByRoot.remove(removedSkin.getRoot());
                 mView.remove(removedSkin);
                 removedSkin.dispose();
+                if (pReuse)
+                {
+                    mJointSkinPool.release(removedSkin);
+                }
+                else
+                {
+                    mJointSkinPool.discard(removedSkin);
+                }
             }
         }
     }
@@ -231,6 +321,7 @@ public class GraphEditorSkinManager implements SkinManager
         {
             final var nodeConnectorSkins = pNode.getConnectors().stream().map(this::lookupOrCreateConnector).filter(Objects::nonNull).toList();
             nodeSkin.setConnectorSkins(nodeConnectorSkins);
+            nodeSkin.invalidateConnectorPositions();
         }
     }
 
@@ -245,8 +336,8 @@ public class GraphEditorSkinManager implements SkinManager
         }
     }
 
-    private static <K, V> V computeIfAbsent(final Map<K, V> pMap, final K pKey, final Function<K, V> pMappingFunction,
-            final Consumer<K> pNotify)
+    private <K, V extends GSkin<?>> V computeIfAbsent(final Map<K, V> pMap, final K pKey,
+            final Function<K, V> pMappingFunction, final Consumer<K> pNotify)
     {
         final var skin = pMap.get(pKey);
         if (skin == null)
@@ -255,6 +346,10 @@ public class GraphEditorSkinManager implements SkinManager
             if (newSkin != null)
             {
                 pMap.put(pKey, newSkin);
+                if (newSkin.getRoot() != null)
+                {
+                    mSkinsByRoot.put(newSkin.getRoot(), newSkin);
+                }
                 if (pNotify != null)
                 {
                     pNotify.accept(pKey);
@@ -312,6 +407,12 @@ public class GraphEditorSkinManager implements SkinManager
         return mJointSkins.get(pJoint);
     }
 
+    @Override
+    public GSkin<?> lookupSkin(final Node pRoot)
+    {
+        return mSkinsByRoot.get(pRoot);
+    }
+
     @Override
     public GTailSkin lookupTail(final GConnector pConnector)
     {
@@ -319,17 +420,84 @@ public class GraphEditorSkinManager implements SkinManager
         return mTailSkins.computeIfAbsent(pConnector, this::createTailSkin);
     }
 
+    /**
+     * Creates the skin of the given node without adding it to the editor.
+     * Unlike all other methods of this class, this method may be called on
+     * any thread, as long as the node is not part of the model of the editor
+     * yet.
+     *
+     * @param pNode
+     *            the {@link GNode} to create the skin for
+     * @return the new, {@link GNodeSkin#initialize() initialized}
+     *         {@link GNodeSkin}
+     * @see #addPreparedSkins(Map, Map)
+     * @since 17.10.2026
+     */
+    public GNodeSkin prepareNodeSkin(final GNode pNode)
+    {
+        final GNodeSkin skin = newNodeSkin(pNode);
+        skin.getRoot().setEditorProperties(mGraphEditor.getProperties());
+        skin.initialize();
+        return skin;
+    }
+
+    /**
+     * Creates the skin of the given connector without adding it to the
+     * editor. May be called on any thread, as long as the connector is not
+     * part of the model of the editor yet.
+     *
+     * @param pConnector
+     *            the {@link GConnector} to create the skin for
+     * @return the new {@link GConnectorSkin}
+     * @see #addPreparedSkins(Map, Map)
+     * @since 17.10.2026
+     */
+    public GConnectorSkin prepareConnectorSkin(final GConnector pConnector)
+    {
+        return newConnectorSkin(pConnector);
+    }
+
+    /**
+     * Registers {@link #prepareNodeSkin(GNode) prepared} skins, they are used
+     * instead of new skins when their items are added. Prepared skins are
+     * dropped when their item is removed or the skin manager is
+     * {@link #clear() cleared}.
+     *
+     * @param pNodeSkins
+     *            the prepared {@link GNodeSkin node skins}
+     * @param pConnectorSkins
+     *            the prepared {@link GConnectorSkin connector skins}
+     * @since 17.10.2026
+     */
+    public void addPreparedSkins(final Map<GNode, GNodeSkin> pNodeSkins,
+            final Map<GConnector, GConnectorSkin> pConnectorSkins)
+    {
+        mPreparedNodeSkins.putAll(pNodeSkins);
+        mPreparedConnectorSkins.putAll(pConnectorSkins);
+    }
+
     private GConnectorSkin createConnectorSkin(final GConnector pConnector)
     {
-        GConnectorSkin skin = mConnectorSkinFactory == null ? null : mConnectorSkinFactory.call(pConnector);
-        if (skin == null)
+        GConnectorSkin skin = mPreparedConnectorSkins.remove(pConnector);
+        if (skin != null)
+        {
+            mConnectorSkinPool.created(pConnector.getType(), skin);
+        }
+        else if ((skin = mConnectorSkinPool.acquire(pConnector.getType(), pConnector)) == null)
         {
-            skin = new DefaultConnectorSkin(pConnector);
+            skin = newConnectorSkin(pConnector);
+            mConnectorSkinPool.created(pConnector.getType(), skin);
         }
         skin.setGraphEditor(mGraphEditor);
         return skin;
     }
 
+    private GConnectorSkin newConnectorSkin(final GConnector pConnector)
+    {
+        final GConnectorSkin skin = mConnectorSkinFactory == null ? null : mConnectorSkinFactory.call(pConnector);
+        return skin == null ? new DefaultConnectorSkin(pConnector) : skin;
+    }
+
     private GTailSkin createTailSkin(final GConnector pConnector)
     {
         GTailSkin skin = mTailSkinFactory == null ? null : mTailSkinFactory.call(pConnector);
@@ -343,10 +511,15 @@ public class GraphEditorSkinManager implements SkinManager
 
     private GConnectionSkin createConnectionSkin(final GConnection pConnection)
     {
-        GConnectionSkin skin = mConnectionSkinFactory == null ? null : mConnectionSkinFactory.call(pConnection);
+        GConnectionSkin skin = mConnectionSkinPool.acquire(pConnection.getType(), pConnection);
         if (skin == null)
         {
-            skin = new DefaultConnectionSkin(pConnection);
+            skin = mConnectionSkinFactory == null ? null : mConnectionSkinFactory.call(pConnection);
+            if (skin == null)
+            {
+                skin = new DefaultConnectionSkin(pConnection);
+            }
+            mConnectionSkinPool.created(pConnection.getType(), skin);
         }
         skin.setGraphEditor(mGraphEditor);
         if (!(skin instanceof VirtualSkin))
@@ -358,10 +531,15 @@ public class GraphEditorSkinManager implements SkinManager
 
     private GJointSkin createJointSkin(final GJoint pJoint)
     {
-        GJointSkin skin = mJointSkinFactory == null ? null : mJointSkinFactory.call(pJoint);
+        GJointSkin skin = mJointSkinPool.acquire(pJoint.getType(), pJoint);
         if (skin == null)
         {
-            skin = new DefaultJointSkin(pJoint);
+            skin = mJointSkinFactory == null ? null : mJointSkinFactory.call(pJoint);
+            if (skin == null)
+            {
+                skin = new DefaultJointSkin(pJoint);
+            }
+            mJointSkinPool.created(pJoint.getType(), skin);
         }
         skin.setGraphEditor(mGraphEditor);
         skin.getRoot().setEditorProperties(mGraphEditor.getProperties());
@@ -375,13 +553,19 @@ public class GraphEditorSkinManager implements SkinManager
 
     private GNodeSkin createNodeSkin(final GNode pNode)
     {
-        GNodeSkin skin = mNodeSkinFactory == null ? null : mNodeSkinFactory.call(pNode);
-        if (skin == null)
+        GNodeSkin skin = mPreparedNodeSkins.remove(pNode);
+        if (skin != null)
+        {
+            mNodeSkinPool.created(pNode.getType(), skin);
+        }
+        else if ((skin = mNodeSkinPool.acquire(pNode.getType(), pNode)) == null)
         {
-            skin = new DefaultNodeSkin(pNode);
+            skin = newNodeSkin(pNode);
+            mNodeSkinPool.created(pNode.getType(), skin);
         }
         skin.setGraphEditor(mGraphEditor);
         skin.getRoot().setEditorProperties(mGraphEditor.getProperties());
+        // also for prepared skins, the node might have changed in the meantime:
         skin.initialize();
         if (!(skin instanceof VirtualSkin))
         {
@@ -390,6 +574,18 @@ public class GraphEditorSkinManager implements SkinManager
         return skin;
     }
 
+    private GNodeSkin newNodeSkin(final GNode pNode)
+    {
+        final GNodeSkin skin = mNodeSkinFactory == null ? null : mNodeSkinFactory.call(pNode);
+        return skin == null ? new DefaultNodeSkin(pNode) : skin;
+    }
+
+    private int getSkinPoolSize()
+    {
+        final GraphEditorProperties properties = mGraphEditor.getProperties();
+        return properties == null ? 0 : properties.getSkinPoolSize();
+    }
+
     public void setOnNodeCreated(final Consumer<GNode> pOnNodeCreated)
     {
         mOnNodeCreated = pOnNodeCreated;
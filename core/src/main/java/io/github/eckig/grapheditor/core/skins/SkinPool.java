@@ -0,0 +1,148 @@
+package io.github.eckig.grapheditor.core.skins;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntSupplier;
+
+import io.github.eckig.grapheditor.GSkin;
+
+import org.eclipse.emf.ecore.EObject;
+
+
+/**
+ * Keeps removed skins of one kind (e.g. all node skins) for reuse, keyed by
+ * skin class and element type.
+ *
+ * <p>
+ * The skin class for a new item is the class the skin factory last created
+ * for the items type, so pooled skins are only handed out for items the
+ * factory would have created an instance of the same class for. Skins are
+ * pooled under the type they have been created or rebound for, even if the
+ * type of their item changed in the meantime.
+ * </p>
+ *
+ * @param <T>
+ *            item type
+ * @param <S>
+ *            skin type
+ * @since 17.10.2026
+ */
+final class SkinPool<T extends EObject, S extends GSkin<T>>
+{
+
+    private final IntSupplier mCapacity;
+    private final Map<String, Class<?>> mSkinClasses = new HashMap<>();
+    private final Map<Key, Deque<S>> mPools = new HashMap<>();
+    private final Set<Class<?>> mNotRebindable = new HashSet<>();
+    private final Map<S, String> mTypes = new IdentityHashMap<>();
+
+    /**
+     * @param pCapacity
+     *            maximum number of skins kept per skin class and element type
+     */
+    SkinPool(final IntSupplier pCapacity)
+    {
+        mCapacity = pCapacity;
+    }
+
+    /**
+     * Records the class of a skin newly created by the skin factory.
+     *
+     * @param pType
+     *            element type
+     * @param pSkin
+     *            newly created skin
+     */
+    void created(final String pType, final S pSkin)
+    {
+        mSkinClasses.put(pType, pSkin.getClass());
+        mTypes.put(pSkin, pType);
+    }
+
+    /**
+     * Takes a pooled skin and {@link GSkin#rebind(EObject) rebinds} it to the
+     * given item.
+     *
+     * @param pType
+     *            element type
+     * @param pItem
+     *            item the skin should represent
+     * @return rebound skin or {@code null} if none is available
+     */
+    S acquire(final String pType, final T pItem)
+    {
+        final Class<?> skinClass = mSkinClasses.get(pType);
+        final Deque<S> pool = skinClass == null ? null : mPools.get(new Key(skinClass, pType));
+        while (pool != null && !pool.isEmpty())
+        {
+            final S skin = pool.pop();
+            if (skin.rebind(pItem))
+            {
+                mTypes.put(skin, pType);
+                return skin;
+            }
+            // do not bother to pool this class again:
+            mNotRebindable.add(skinClass);
+            pool.clear();
+        }
+        return null;
+    }
+
+    /**
+     * Offers a {@link GSkin#dispose() disposed} skin for reuse.
+     *
+     * @param pSkin
+     *            disposed skin
+     */
+    void release(final S pSkin)
+    {
+        final boolean known = mTypes.containsKey(pSkin);
+        final String type = mTypes.remove(pSkin);
+        if (!known || mNotRebindable.contains(pSkin.getClass()))
+        {
+            return;
+        }
+        final int capacity = mCapacity.getAsInt();
+        final Deque<S> pool = mPools.computeIfAbsent(new Key(pSkin.getClass(), type), _ -> new ArrayDeque<>());
+        while (pool.size() >= capacity && !pool.isEmpty())
+        {
+            pool.removeLast();
+        }
+        if (capacity > 0)
+        {
+            pool.push(pSkin);
+        }
+    }
+
+    /**
+     * Forgets a {@link GSkin#dispose() disposed} skin that should not be
+     * reused.
+     *
+     * @param pSkin
+     *            disposed skin
+     */
+    void discard(final S pSkin)
+    {
+        mTypes.remove(pSkin);
+    }
+
+    /**
+     * Drops all pooled skins, e.g. because the skin factory changed.
+     */
+    void clear()
+    {
+        mSkinClasses.clear();
+        mPools.clear();
+        mNotRebindable.clear();
+        mTypes.clear();
+    }
+
+    private record Key(Class<?> skinClass, String type)
+    {
+    }
+}
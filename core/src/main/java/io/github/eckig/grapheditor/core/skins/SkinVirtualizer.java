@@ -0,0 +1,526 @@
+package io.github.eckig.grapheditor.core.skins;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.eclipse.emf.ecore.EObject;
+
+import io.github.eckig.grapheditor.SelectionManager;
+import io.github.eckig.grapheditor.SkinLookup;
+import io.github.eckig.grapheditor.core.utils.UniformGrid;
+import io.github.eckig.grapheditor.core.view.GraphEditorView;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GJoint;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.utils.GraphEditorProperties;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.collections.SetChangeListener;
+import javafx.collections.WeakSetChangeListener;
+import javafx.geometry.Rectangle2D;
+
+
+/**
+ * Decides which skins are materialized if the editor is
+ * {@link GraphEditorProperties#setVirtualized(boolean) virtualized}.
+ *
+ * <p>
+ * Nodes are materialized if their model bounds intersect the
+ * {@link GraphEditorView#visibleBoundsProperty() visible area} plus the
+ * {@link GraphEditorProperties#getVirtualizationMargin() margin}, connections
+ * (together with their joints) if the bounds of their nodes and joints do.
+ * Selected elements are always materialized. The actual creation and disposal
+ * of the skins is delegated to the registered callbacks.
+ * </p>
+ *
+ * <p>
+ * While virtualized, the bounds of the nodes and connections are kept in a
+ * {@link UniformGrid}, which has to be informed about changes via
+ * {@link #updateBounds(EObject)} and {@link #removeBounds(EObject)}. An
+ * update then only checks the elements in the part of the area that was
+ * entered or left, and the elements that were moved or (de)selected. The whole
+ * model is only scanned after a {@link #reset()} or if the virtualization is
+ * switched on or off.
+ * </p>
+ *
+ * @since 17.10.2026
+ */
+public class SkinVirtualizer
+{
+
+    private static final double INDEX_CELL_SIZE = 256;
+
+    private final GraphEditorView mView;
+    private final GraphEditorProperties mProperties;
+    private final SkinLookup mSkinLookup;
+    private final SelectionManager mSelectionManager;
+
+    private final InvalidationListener mInvalidationListener = _ -> invalidate();
+    private final SetChangeListener<EObject> mSelectionListener = change ->
+    {
+        check(change.wasAdded() ? change.getElementAdded() : change.getElementRemoved());
+        invalidate();
+    };
+
+    private final UniformGrid<EObject> mIndex = new UniformGrid<>(INDEX_CELL_SIZE);
+    private final double[] mBounds = new double[4];
+    private final Consumer<EObject> mCollector = this::collect;
+
+    // elements whose materialization has to be checked by the next update, in addition to the entered or left area:
+    private final Set<GNode> mNodesToCheck = new LinkedHashSet<>();
+    private final Set<GConnection> mConnectionsToCheck = new LinkedHashSet<>();
+
+    private Consumer<GNode> mOnMaterializeNode;
+    private Consumer<GNode> mOnDematerializeNode;
+    private Consumer<GConnection> mOnMaterializeConnection;
+    private Consumer<GConnection> mOnDematerializeConnection;
+
+    private boolean mInvalid;
+    private boolean mFullScan = true;
+    private boolean mUpdating;
+    private Rectangle2D mArea;
+    private Rectangle2D mUpdatedArea;
+
+    /**
+     * Creates a new skin virtualizer instance. Only one instance should exist
+     * per graph editor instance.
+     *
+     * @param pView
+     *            {@link GraphEditorView}
+     * @param pProperties
+     *            {@link GraphEditorProperties}
+     * @param pSkinLookup
+     *            {@link SkinLookup}
+     * @param pSelectionManager
+     *            {@link SelectionManager}
+     */
+    public SkinVirtualizer(final GraphEditorView pView, final GraphEditorProperties pProperties,
+            final SkinLookup pSkinLookup, final SelectionManager pSelectionManager)
+    {
+        mView = pView;
+        mProperties = pProperties;
+        mSkinLookup = pSkinLookup;
+        mSelectionManager = pSelectionManager;
+
+        final var weakListener = new WeakInvalidationListener(mInvalidationListener);
+        mView.visibleBoundsProperty().addListener(weakListener);
+        mSelectionManager.getSelectedItems().addListener(new WeakSetChangeListener<>(mSelectionListener));
+        if (mProperties != null)
+        {
+            mProperties.virtualizedProperty().addListener(weakListener);
+        }
+        mArea = computeArea();
+    }
+
+    /**
+     * Schedules an {@link #update(GModel) update} with the next pulse.
+     */
+    public void invalidate()
+    {
+        final boolean wasVirtualized = mArea != null;
+        mArea = computeArea();
+        if (!mInvalid && (wasVirtualized || mArea != null))
+        {
+            mInvalid = true;
+            Platform.requestNextPulse();
+        }
+    }
+
+    /**
+     * Forgets the bounds of all elements, so that the next
+     * {@link #update(GModel) update} checks every element of the model, e.g.
+     * because the model has been replaced.
+     */
+    public void reset()
+    {
+        mIndex.clear();
+        mNodesToCheck.clear();
+        mConnectionsToCheck.clear();
+        mFullScan = true;
+    }
+
+    /**
+     * Updates the bounds of the given element after it has been added or
+     * moved. The bounds of the connections of a node and the connection of a
+     * joint are updated as well.
+     *
+     * @param pItem
+     *            a {@link GNode}, {@link GJoint} or {@link GConnection}, other
+     *            items are ignored
+     */
+    public void updateBounds(final EObject pItem)
+    {
+        if (mArea == null)
+        {
+            // the bounds are collected by the full scan once the editor is virtualized:
+            return;
+        }
+
+        if (pItem instanceof GNode node)
+        {
+            index(node);
+            check(node);
+            for (int i = 0; i < node.getConnectors().size(); i++)
+            {
+                final var connections = node.getConnectors().get(i).getConnections();
+                for (int j = 0; j < connections.size(); j++)
+                {
+                    final GConnection connection = connections.get(j);
+                    if (connection.eContainer() != null)
+                    {
+                        index(connection);
+                        check(connection);
+                    }
+                }
+            }
+        }
+        else if (pItem instanceof GJoint joint && joint.getConnection() != null)
+        {
+            index(joint.getConnection());
+            check(joint.getConnection());
+        }
+        else if (pItem instanceof GConnection connection)
+        {
+            index(connection);
+            check(connection);
+        }
+    }
+
+    /**
+     * Removes the bounds of the given element after it has been removed from
+     * the model.
+     *
+     * @param pItem
+     *            a {@link GNode} or {@link GConnection}, other items are
+     *            ignored
+     */
+    public void removeBounds(final EObject pItem)
+    {
+        if (pItem instanceof GNode node)
+        {
+            mIndex.remove(node);
+            mNodesToCheck.remove(node);
+        }
+        else if (pItem instanceof GConnection connection)
+        {
+            mIndex.remove(connection);
+            mConnectionsToCheck.remove(connection);
+        }
+    }
+
+    /**
+     * @return {@code true} if the editor is virtualized
+     */
+    public boolean isVirtualized()
+    {
+        return mProperties != null && mProperties.isVirtualized();
+    }
+
+    /**
+     * @param pNode
+     *            {@link GNode}
+     * @return {@code true} if a skin should exist for the given node
+     */
+    public boolean shouldMaterialize(final GNode pNode)
+    {
+        if (mArea == null || mSelectionManager.isSelected(pNode))
+        {
+            return true;
+        }
+        return mArea.intersects(pNode.getX(), pNode.getY(), pNode.getWidth(), pNode.getHeight());
+    }
+
+    /**
+     * @param pConnection
+     *            {@link GConnection}
+     * @return {@code true} if a skin should exist for the given connection
+     */
+    public boolean shouldMaterialize(final GConnection pConnection)
+    {
+        if (mArea == null || mSelectionManager.isSelected(pConnection))
+        {
+            return true;
+        }
+
+        for (int i = 0; i < pConnection.getJoints().size(); i++)
+        {
+            if (mSelectionManager.isSelected(pConnection.getJoints().get(i)))
+            {
+                return true;
+            }
+        }
+
+        return fillBounds(pConnection, mBounds)
+                && mArea.intersects(mBounds[0], mBounds[1], mBounds[2] - mBounds[0], mBounds[3] - mBounds[1]);
+    }
+
+    /**
+     * Writes the bounds of the nodes and joints of the given connection into
+     * the given array.
+     *
+     * @return {@code false} if the connection has neither nodes nor joints
+     */
+    private static boolean fillBounds(final GConnection pConnection, final double[] pBounds)
+    {
+        pBounds[0] = Double.POSITIVE_INFINITY;
+        pBounds[1] = Double.POSITIVE_INFINITY;
+        pBounds[2] = Double.NEGATIVE_INFINITY;
+        pBounds[3] = Double.NEGATIVE_INFINITY;
+        addBounds(pConnection.getSource(), pBounds);
+        addBounds(pConnection.getTarget(), pBounds);
+        for (int i = 0; i < pConnection.getJoints().size(); i++)
+        {
+            final GJoint joint = pConnection.getJoints().get(i);
+            pBounds[0] = Math.min(pBounds[0], joint.getX());
+            pBounds[1] = Math.min(pBounds[1], joint.getY());
+            pBounds[2] = Math.max(pBounds[2], joint.getX());
+            pBounds[3] = Math.max(pBounds[3], joint.getY());
+        }
+        return pBounds[0] <= pBounds[2];
+    }
+
+    private static void addBounds(final GConnector pConnector, final double[] pBounds)
+    {
+        final GNode node = pConnector == null ? null : pConnector.getParent();
+        if (node != null)
+        {
+            pBounds[0] = Math.min(pBounds[0], node.getX());
+            pBounds[1] = Math.min(pBounds[1], node.getY());
+            pBounds[2] = Math.max(pBounds[2], node.getX() + node.getWidth());
+            pBounds[3] = Math.max(pBounds[3], node.getY() + node.getHeight());
+        }
+    }
+
+    /**
+     * Materializes all skins that {@link #shouldMaterialize(GNode) should}
+     * exist and disposes all others, if an update has been
+     * {@link #invalidate() requested}.
+     *
+     * @param pModel
+     *            the {@link GModel} currently being edited
+     */
+    public void update(final GModel pModel)
+    {
+        if (!mInvalid)
+        {
+            return;
+        }
+        mInvalid = false;
+
+        if (pModel == null)
+        {
+            return;
+        }
+
+        final Rectangle2D area = mArea;
+        mUpdating = true;
+        try
+        {
+            if (mFullScan || (area == null) != (mUpdatedArea == null))
+            {
+                updateAll(pModel);
+            }
+            else
+            {
+                if (area != null && !area.equals(mUpdatedArea))
+                {
+                    // entered and left parts of the area:
+                    queryDifference(area, mUpdatedArea);
+                    queryDifference(mUpdatedArea, area);
+                }
+                updateChecked(pModel);
+            }
+        }
+        finally
+        {
+            mUpdating = false;
+            mNodesToCheck.clear();
+            mConnectionsToCheck.clear();
+        }
+        mUpdatedArea = area;
+    }
+
+    private void updateAll(final GModel pModel)
+    {
+        mIndex.clear();
+        final boolean virtualized = mArea != null;
+
+        for (int i = 0; i < pModel.getNodes().size(); i++)
+        {
+            final GNode node = pModel.getNodes().get(i);
+            if (virtualized)
+            {
+                index(node);
+            }
+            apply(node, shouldMaterialize(node), mSkinLookup.lookupNode(node) != null, mOnMaterializeNode,
+                    mOnDematerializeNode);
+        }
+
+        for (int i = 0; i < pModel.getConnections().size(); i++)
+        {
+            final GConnection connection = pModel.getConnections().get(i);
+            if (virtualized)
+            {
+                index(connection);
+            }
+            apply(connection, shouldMaterialize(connection), mSkinLookup.lookupConnection(connection) != null,
+                    mOnMaterializeConnection, mOnDematerializeConnection);
+        }
+        mFullScan = false;
+    }
+
+    private void updateChecked(final GModel pModel)
+    {
+        for (final GNode node : mNodesToCheck)
+        {
+            if (node.eContainer() == pModel)
+            {
+                apply(node, shouldMaterialize(node), mSkinLookup.lookupNode(node) != null, mOnMaterializeNode,
+                        mOnDematerializeNode);
+            }
+        }
+
+        for (final GConnection connection : mConnectionsToCheck)
+        {
+            if (connection.eContainer() == pModel)
+            {
+                apply(connection, shouldMaterialize(connection), mSkinLookup.lookupConnection(connection) != null,
+                        mOnMaterializeConnection, mOnDematerializeConnection);
+            }
+        }
+    }
+
+    /**
+     * Collects the elements in the part of the given area that is not covered
+     * by the excluded area.
+     */
+    private void queryDifference(final Rectangle2D pArea, final Rectangle2D pExcluded)
+    {
+        if (pExcluded == null || !pArea.intersects(pExcluded))
+        {
+            mIndex.query(pArea.getMinX(), pArea.getMinY(), pArea.getMaxX(), pArea.getMaxY(), mCollector);
+            return;
+        }
+
+        if (pArea.getMinX() < pExcluded.getMinX())
+        {
+            mIndex.query(pArea.getMinX(), pArea.getMinY(), pExcluded.getMinX(), pArea.getMaxY(), mCollector);
+        }
+        if (pArea.getMaxX() > pExcluded.getMaxX())
+        {
+            mIndex.query(pExcluded.getMaxX(), pArea.getMinY(), pArea.getMaxX(), pArea.getMaxY(), mCollector);
+        }
+
+        final double minX = Math.max(pArea.getMinX(), pExcluded.getMinX());
+        final double maxX = Math.min(pArea.getMaxX(), pExcluded.getMaxX());
+        if (pArea.getMinY() < pExcluded.getMinY())
+        {
+            mIndex.query(minX, pArea.getMinY(), maxX, pExcluded.getMinY(), mCollector);
+        }
+        if (pArea.getMaxY() > pExcluded.getMaxY())
+        {
+            mIndex.query(minX, pExcluded.getMaxY(), maxX, pArea.getMaxY(), mCollector);
+        }
+    }
+
+    private void index(final GNode pNode)
+    {
+        mIndex.remove(pNode);
+        mIndex.add(pNode, pNode.getX(), pNode.getY(), pNode.getX() + pNode.getWidth(),
+                pNode.getY() + pNode.getHeight());
+    }
+
+    private void index(final GConnection pConnection)
+    {
+        mIndex.remove(pConnection);
+        if (fillBounds(pConnection, mBounds))
+        {
+            mIndex.add(pConnection, mBounds[0], mBounds[1], mBounds[2], mBounds[3]);
+        }
+    }
+
+    /**
+     * Remembers the given element to be checked by the next update, unless
+     * the editor is not virtualized (then the next update is a full scan) or
+     * the element is changed by the update itself.
+     */
+    private void check(final EObject pItem)
+    {
+        if (mArea != null && !mUpdating)
+        {
+            collect(pItem);
+        }
+    }
+
+    private void collect(final EObject pItem)
+    {
+        if (pItem instanceof GNode node)
+        {
+            mNodesToCheck.add(node);
+        }
+        else if (pItem instanceof GConnection connection)
+        {
+            mConnectionsToCheck.add(connection);
+        }
+        else if (pItem instanceof GJoint joint && joint.getConnection() != null)
+        {
+            mConnectionsToCheck.add(joint.getConnection());
+        }
+    }
+
+    private static <T> void apply(final T pItem, final boolean pShould, final boolean pIs, final Consumer<T> pMaterialize,
+            final Consumer<T> pDematerialize)
+    {
+        if (pShould && !pIs && pMaterialize != null)
+        {
+            pMaterialize.accept(pItem);
+        }
+        else if (!pShould && pIs && pDematerialize != null)
+        {
+            pDematerialize.accept(pItem);
+        }
+    }
+
+    private Rectangle2D computeArea()
+    {
+        if (!isVirtualized())
+        {
+            return null;
+        }
+
+        final Rectangle2D visible = mView.visibleBoundsProperty().get();
+        if (visible == null)
+        {
+            // not shown yet, assume that the editor shows its top left corner:
+            return new Rectangle2D(0, 0, mView.getMinWidth(), mView.getMinHeight());
+        }
+
+        final double margin = mProperties.getVirtualizationMargin();
+        return new Rectangle2D(visible.getMinX() - margin, visible.getMinY() - margin,
+                visible.getWidth() + 2 * margin, visible.getHeight() + 2 * margin);
+    }
+
+    public void setOnMaterializeNode(final Consumer<GNode> pOnMaterializeNode)
+    {
+        mOnMaterializeNode = pOnMaterializeNode;
+    }
+
+    public void setOnDematerializeNode(final Consumer<GNode> pOnDematerializeNode)
+    {
+        mOnDematerializeNode = pOnDematerializeNode;
+    }
+
+    public void setOnMaterializeConnection(final Consumer<GConnection> pOnMaterializeConnection)
+    {
+        mOnMaterializeConnection = pOnMaterializeConnection;
+    }
+
+    public void setOnDematerializeConnection(final Consumer<GConnection> pOnDematerializeConnection)
+    {
+        mOnDematerializeConnection = pOnDematerializeConnection;
+    }
+}
@@ -74,6 +74,16 @@ public class DefaultConnectorSkin extends GConnectorSkin {
         animatedColorForbidden = new AnimatedColor(FORBIDDEN, Color.WHITE, Color.TOMATO, Duration.millis(500));
     }
 
+    @Override
+    public boolean rebind(final GConnector connector) {
+
+        // skins are only rebound to connectors of the type they have been drawn for
+        setItem(connector);
+        performChecks();
+        applyStyle(GConnectorStyle.DEFAULT);
+        return true;
+    }
+
     @Override
     public Node getRoot() {
         return root;
@@ -44,6 +44,13 @@ public class DefaultJointSkin extends GJointSkin
         getRoot().setSnapToGridOffset(SNAP_OFFSET);
     }
 
+    @Override
+    public boolean rebind(final GJoint pJoint)
+    {
+        setItem(pJoint);
+        return true;
+    }
+
     @Override
     protected void selectionChanged(boolean isSelected)
     {
@@ -96,6 +96,15 @@ public class DefaultNodeSkin extends GNodeSkin
         addSelectionHalo();
     }
 
+    @Override
+    public boolean rebind(final GNode pNode)
+    {
+        setConnectorSkins(null);
+        setItem(pNode);
+        performChecks();
+        return true;
+    }
+
     @Override
     public void setConnectorSkins(final List<GConnectorSkin> connectorSkins)
     {
@@ -3,13 +3,10 @@
  */
 package io.github.eckig.grapheditor.core.skins.defaults.connection;
 
-import java.util.Arrays;
 import java.util.Map;
 
 import io.github.eckig.grapheditor.core.connections.RectangularConnections;
 import io.github.eckig.grapheditor.model.GConnection;
-import io.github.eckig.grapheditor.utils.GeometryUtils;
-import javafx.geometry.Point2D;
 
 
 /**
@@ -23,6 +20,11 @@ public class IntersectionFinder
      * Finds the intersection points of the connection with all other
      * connections that are in front of / behind it.
      *
+     * <p>
+     * Before 17.10.2026 the points were passed as {@code Point2D[]}, see
+     * {@link PointBuffer#of(javafx.geometry.Point2D...)}.
+     * </p>
+     *
      * @param allPoints
      *            the map of all current points of all connections in the model
      * @param behind
@@ -30,57 +32,56 @@ public class IntersectionFinder
      *            are behind
      * @return array of intersection points for each segment of the connection
      */
-    public static double[][] find(final IIntersectionConnection pSkin, final Map<? extends IIntersectionConnection, Point2D[]> allPoints,
-            final boolean behind)
+    public static double[][] find(final IIntersectionConnection pSkin,
+            final Map<? extends IIntersectionConnection, PointBuffer> allPoints, final boolean behind)
+    {
+        final SegmentIntersections intersections = new SegmentIntersections();
+        return find(pSkin, allPoints, behind, intersections) ? intersections.toArray() : null;
+    }
+
+    /**
+     * Finds the intersection points of the connection with all other
+     * connections that are in front of / behind it.
+     *
+     * @param allPoints
+     *            the map of all current points of all connections in the model
+     * @param behind
+     *            {@code true} to find intersections with the connections that
+     *            are behind
+     * @param pTarget
+     *            the {@link SegmentIntersections} to fill
+     * @return {@code false} if there are no points for the connection
+     * @since 17.10.2026
+     */
+    public static boolean find(final IIntersectionConnection pSkin,
+            final Map<? extends IIntersectionConnection, PointBuffer> allPoints, final boolean behind,
+            final SegmentIntersections pTarget)
     {
-        final Point2D[] points = allPoints.get(pSkin);
+        final PointBuffer points = allPoints.get(pSkin);
         if (points == null)
         {
-            return null;
+            pTarget.reset(0);
+            return false;
         }
-        double[][] intersections = null;
 
-        for (int i = 0; i < points.length - 1; i++)
+        pTarget.reset(Math.max(0, points.size() - 1));
+        for (int i = 0; i < points.size() - 1; i++)
         {
             final boolean isHorizontal = RectangularConnections.isSegmentHorizontal(pSkin.getItem(), i);
-            final double[] segmentIntersections = findSegmentIntersections(pSkin, allPoints, behind, i, isHorizontal);
+            findSegmentIntersections(pSkin, points, allPoints, behind, i, isHorizontal, pTarget);
 
             final boolean isDecreasing;
             if (isHorizontal)
             {
-                isDecreasing = points[i + 1].getX() < points[i].getX();
+                isDecreasing = points.getX(i + 1) < points.getX(i);
             }
             else
             {
-                isDecreasing = points[i + 1].getY() < points[i].getY();
+                isDecreasing = points.getY(i + 1) < points.getY(i);
             }
-
-            if (segmentIntersections != null && segmentIntersections.length > 0)
-            {
-                Arrays.sort(segmentIntersections);
-                if (isDecreasing)
-                {
-                    reverse(segmentIntersections);
-                }
-
-                if(intersections == null)
-                {
-                    intersections = new double[points.length][];
-                }
-                intersections[i] = segmentIntersections;
-            }
-        }
-        return intersections;
-    }
-
-    private static void reverse(final double[] array)
-    {
-        for (int i = 0; i < array.length / 2; i++)
-        {
-            double temp = array[i];
-            array[i] = array[array.length - i - 1];
-            array[array.length - i - 1] = temp;
+            pTarget.sort(i, isDecreasing);
         }
+        return true;
     }
 
     /**
@@ -94,20 +95,14 @@ public class IntersectionFinder
      *            the index of the connection segment
      * @param isHorizontal
      *            {@code true} if the connection segment is horizontal
-     * @return positions along the segment where intersections occur
+     * @param pTarget
+     *            the {@link SegmentIntersections} to add the positions along
+     *            the segment where intersections occur to
      */
-    private static double[] findSegmentIntersections(final IIntersectionConnection connection, final Map<? extends IIntersectionConnection, Point2D[]> allPoints,
-            final boolean behind, final int index, final boolean isHorizontal)
+    private static void findSegmentIntersections(final IIntersectionConnection connection, final PointBuffer points,
+            final Map<? extends IIntersectionConnection, PointBuffer> allPoints, final boolean behind, final int index,
+            final boolean isHorizontal, final SegmentIntersections pTarget)
     {
-        double[] segmentIntersections = null;
-        int resultLen = 0;
-        final var points = allPoints.get(connection);
-
-        if (points == null)
-        {
-            return null;
-        }
-
         for (final var entry : allPoints.entrySet())
         {
             if (!filterConnection(connection, behind, entry.getKey()))
@@ -121,7 +116,7 @@ public class IntersectionFinder
                 continue;
             }
 
-            for (int j = 0; j < otherPoints.length - 1; j++)
+            for (int j = 0; j < otherPoints.size() - 1; j++)
             {
                 if (connection.equals(entry.getKey()) && index > j ^ behind)
                 {
@@ -130,47 +125,42 @@ public class IntersectionFinder
 
                 if (isHorizontal)
                 {
-                    final Point2D a = points[index];
-                    final Point2D b = points[index + 1];
-                    final Point2D c = otherPoints[j];
-                    final Point2D d = otherPoints[j + 1];
-
-                    if (GeometryUtils.checkIntersection(a, b, c, d))
+                    if (checkIntersection(points, index, otherPoints, j))
                     {
-                        if (segmentIntersections == null)
-                        {
-                            segmentIntersections = new double[5];
-                        }
-                        if (resultLen >= segmentIntersections.length)
-                        {
-                            segmentIntersections = Arrays.copyOf(segmentIntersections, segmentIntersections.length + 5);
-                        }
-                        segmentIntersections[resultLen++] = c.getX();
+                        pTarget.add(index, otherPoints.getX(j));
                     }
                 }
                 else
                 {
-                    final Point2D a = otherPoints[j];
-                    final Point2D b = otherPoints[j + 1];
-                    final Point2D c = points[index];
-                    final Point2D d = points[index + 1];
-
-                    if (GeometryUtils.checkIntersection(a, b, c, d))
+                    if (checkIntersection(otherPoints, j, points, index))
                     {
-                        if (segmentIntersections == null)
-                        {
-                            segmentIntersections = new double[5];
-                        }
-                        if (resultLen >= segmentIntersections.length)
-                        {
-                            segmentIntersections = Arrays.copyOf(segmentIntersections, segmentIntersections.length + 5);
-                        }
-                        segmentIntersections[resultLen++] = a.getY();
+                        pTarget.add(index, otherPoints.getY(j));
                     }
                 }
             }
         }
-        return segmentIntersections;
+    }
+
+    /**
+     * Primitive variant of
+     * {@link io.github.eckig.grapheditor.utils.GeometryUtils#checkIntersection(javafx.geometry.Point2D, javafx.geometry.Point2D, javafx.geometry.Point2D, javafx.geometry.Point2D)}
+     * for the segment starting at point {@code a} and the segment starting at
+     * point {@code c}.
+     */
+    private static boolean checkIntersection(final PointBuffer pAB, final int a, final PointBuffer pCD, final int c)
+    {
+        final double ax = pAB.getX(a);
+        final double ay = pAB.getY(a);
+        final double bx = pAB.getX(a + 1);
+        final double cx = pCD.getX(c);
+        final double cy = pCD.getY(c);
+        final double dy = pCD.getY(c + 1);
+
+        if (!(cx > ax && cx < bx) && !(cx > bx && cx < ax))
+        {
+            return false;
+        }
+        return ay > cy && ay < dy || ay > dy && ay < cy;
     }
 
     /**
@@ -0,0 +1,116 @@
+package io.github.eckig.grapheditor.core.skins.defaults.connection;
+
+import java.util.List;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.shape.ArcTo;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.HLineTo;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.PathElement;
+import javafx.scene.shape.VLineTo;
+
+
+/**
+ * Strokes absolute {@link PathElement path elements} into a {@link GraphicsContext}, as they are created by the
+ * connection segments.
+ */
+final class PathPainter
+{
+
+    private PathPainter()
+    {
+        // utility class
+    }
+
+    /**
+     * Strokes the given path elements with the current stroke settings of the given graphics context.
+     *
+     * @param pGc
+     *            {@link GraphicsContext}
+     * @param pElements
+     *            absolute path elements, starting with a {@link MoveTo}
+     */
+    static void paint(final GraphicsContext pGc, final List<PathElement> pElements)
+    {
+        double x = 0;
+        double y = 0;
+
+        pGc.beginPath();
+        for (int i = 0; i < pElements.size(); i++)
+        {
+            final PathElement element = pElements.get(i);
+            if (element instanceof MoveTo m)
+            {
+                x = m.getX();
+                y = m.getY();
+                pGc.moveTo(x, y);
+            }
+            else if (element instanceof HLineTo h)
+            {
+                x = h.getX();
+                pGc.lineTo(x, y);
+            }
+            else if (element instanceof VLineTo v)
+            {
+                y = v.getY();
+                pGc.lineTo(x, y);
+            }
+            else if (element instanceof LineTo l)
+            {
+                x = l.getX();
+                y = l.getY();
+                pGc.lineTo(x, y);
+            }
+            else if (element instanceof ArcTo a)
+            {
+                arc(pGc, x, y, a);
+                x = a.getX();
+                y = a.getY();
+            }
+            else if (element instanceof ClosePath)
+            {
+                pGc.closePath();
+            }
+        }
+        pGc.stroke();
+    }
+
+    /**
+     * Converts the given circular arc from endpoint to center parameterization (see the SVG implementation notes) and
+     * adds it to the current path.
+     */
+    private static void arc(final GraphicsContext pGc, final double pStartX, final double pStartY, final ArcTo pArc)
+    {
+        final double halfDx = (pStartX - pArc.getX()) / 2;
+        final double halfDy = (pStartY - pArc.getY()) / 2;
+        final double halfDistanceSq = halfDx * halfDx + halfDy * halfDy;
+        if (halfDistanceSq == 0)
+        {
+            return;
+        }
+
+        // radii that are too small are scaled up until the arc fits:
+        final double radius = Math.max(pArc.getRadiusX(), Math.sqrt(halfDistanceSq));
+        final double sign = pArc.isLargeArcFlag() == pArc.isSweepFlag() ? -1 : 1;
+        final double coefficient = sign * Math.sqrt(Math.max(0, (radius * radius - halfDistanceSq) / halfDistanceSq));
+        final double centerX = coefficient * halfDy + (pStartX + pArc.getX()) / 2;
+        final double centerY = -coefficient * halfDx + (pStartY + pArc.getY()) / 2;
+
+        final double startAngle = Math.atan2(pStartY - centerY, pStartX - centerX);
+        final double endAngle = Math.atan2(pArc.getY() - centerY, pArc.getX() - centerX);
+        double length = endAngle - startAngle;
+        if (!pArc.isSweepFlag() && length > 0)
+        {
+            length -= 2 * Math.PI;
+        }
+        else if (pArc.isSweepFlag() && length < 0)
+        {
+            length += 2 * Math.PI;
+        }
+
+        // the graphics context measures angles counterclockwise, with the y axis pointing upwards:
+        pGc.arc(centerX, centerY, radius, radius, -Math.toDegrees(startAngle), -Math.toDegrees(length));
+    }
+}
@@ -0,0 +1,227 @@
+package io.github.eckig.grapheditor.core.skins.defaults.connection;
+
+import java.util.Arrays;
+
+import javafx.geometry.Point2D;
+
+
+/**
+ * Growable list of points backed by a single primitive {@code double[]}, used
+ * to pass the points of a connection through the layout pass without
+ * allocating a {@link Point2D} per point.
+ *
+ * <p>
+ * A buffer is meant to be reused: {@link #setSize(int) resizing} it only
+ * allocates if the capacity is exceeded.
+ * </p>
+ *
+ * @since 17.10.2026
+ */
+public final class PointBuffer
+{
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private double[] mCoordinates;
+    private int mSize;
+
+    /**
+     * Creates a new, empty point buffer.
+     */
+    public PointBuffer()
+    {
+        mCoordinates = new double[2 * INITIAL_CAPACITY];
+    }
+
+    /**
+     * @return number of points
+     */
+    public int size()
+    {
+        return mSize;
+    }
+
+    /**
+     * Sets the number of points. Points beyond the previous size are
+     * initialized to {@code 0}.
+     *
+     * @param pSize
+     *            number of points
+     */
+    public void setSize(final int pSize)
+    {
+        if (2 * pSize > mCoordinates.length)
+        {
+            mCoordinates = Arrays.copyOf(mCoordinates, Math.max(2 * pSize, 2 * mCoordinates.length));
+        }
+        if (pSize > mSize)
+        {
+            Arrays.fill(mCoordinates, 2 * mSize, 2 * pSize, 0);
+        }
+        mSize = pSize;
+    }
+
+    /**
+     * Removes all points.
+     */
+    public void clear()
+    {
+        mSize = 0;
+    }
+
+    /**
+     * Appends a point.
+     *
+     * @param pX
+     *            x coordinate
+     * @param pY
+     *            y coordinate
+     */
+    public void add(final double pX, final double pY)
+    {
+        setSize(mSize + 1);
+        set(mSize - 1, pX, pY);
+    }
+
+    /**
+     * @param pIndex
+     *            point index
+     * @return x coordinate of the point at the given index
+     */
+    public double getX(final int pIndex)
+    {
+        return mCoordinates[2 * pIndex];
+    }
+
+    /**
+     * @param pIndex
+     *            point index
+     * @return y coordinate of the point at the given index
+     */
+    public double getY(final int pIndex)
+    {
+        return mCoordinates[2 * pIndex + 1];
+    }
+
+    /**
+     * @param pIndex
+     *            point index
+     * @param pX
+     *            x coordinate
+     * @param pY
+     *            y coordinate
+     */
+    public void set(final int pIndex, final double pX, final double pY)
+    {
+        mCoordinates[2 * pIndex] = pX;
+        mCoordinates[2 * pIndex + 1] = pY;
+    }
+
+    /**
+     * @param pIndex
+     *            point index
+     * @param pX
+     *            x coordinate
+     */
+    public void setX(final int pIndex, final double pX)
+    {
+        mCoordinates[2 * pIndex] = pX;
+    }
+
+    /**
+     * @param pIndex
+     *            point index
+     * @param pY
+     *            y coordinate
+     */
+    public void setY(final int pIndex, final double pY)
+    {
+        mCoordinates[2 * pIndex + 1] = pY;
+    }
+
+    /**
+     * Gives direct access to the coordinates, e.g. to fill them via
+     * {@link io.github.eckig.grapheditor.utils.GeometryUtils#fillConnectorPosition}.
+     * The x coordinate of point {@code i} is at index {@code 2 * i}, the y
+     * coordinate at {@code 2 * i + 1}. The returned array is only valid until
+     * the buffer is {@link #setSize(int) resized}.
+     *
+     * @return backing array of coordinates
+     */
+    public double[] coordinates()
+    {
+        return mCoordinates;
+    }
+
+    /**
+     * Replaces the content of this buffer with the content of the given buffer.
+     *
+     * @param pOther
+     *            {@link PointBuffer} to copy
+     */
+    public void copyFrom(final PointBuffer pOther)
+    {
+        setSize(pOther.mSize);
+        System.arraycopy(pOther.mCoordinates, 0, mCoordinates, 0, 2 * pOther.mSize);
+    }
+
+    /**
+     * @param pOther
+     *            other {@link PointBuffer} or {@code null}
+     * @return {@code true} if the given buffer contains the same points
+     */
+    public boolean contentEquals(final PointBuffer pOther)
+    {
+        return pOther != null && pOther.mSize == mSize
+                && Arrays.equals(mCoordinates, 0, 2 * mSize, pOther.mCoordinates, 0, 2 * mSize);
+    }
+
+    /**
+     * @param pIndex
+     *            point index
+     * @return new {@link Point2D} for the point at the given index
+     */
+    public Point2D get(final int pIndex)
+    {
+        return new Point2D(getX(pIndex), getY(pIndex));
+    }
+
+    /**
+     * @return new array of {@link Point2D points}
+     */
+    public Point2D[] toArray()
+    {
+        final Point2D[] points = new Point2D[mSize];
+        for (int i = 0; i < mSize; i++)
+        {
+            points[i] = get(i);
+        }
+        return points;
+    }
+
+    /**
+     * Creates a new buffer containing the given points, e.g. to pass points
+     * that used to be handed around as {@code Point2D[]} to
+     * {@link SimpleConnectionSkin#draw(java.util.Map)}.
+     *
+     * @param pPoints
+     *            points
+     * @return new {@link PointBuffer} with a copy of the given points
+     */
+    public static PointBuffer of(final Point2D... pPoints)
+    {
+        final PointBuffer buffer = new PointBuffer();
+        buffer.setSize(pPoints.length);
+        for (int i = 0; i < pPoints.length; i++)
+        {
+            buffer.set(i, pPoints[i].getX(), pPoints[i].getY());
+        }
+        return buffer;
+    }
+
+    @Override
+    public String toString()
+    {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.eckig.grapheditor.core.skins.defaults.connection;
+
+import java.util.Arrays;
+
+
+/**
+ * The intersection points of every segment of one connection, in drawing
+ * order, stored in flat primitive arrays that are reused when the
+ * intersections are calculated again.
+ *
+ * @since 17.10.2026
+ */
+public final class SegmentIntersections
+{
+
+    private double[] mValues = new double[8];
+    private int[] mOffsets = new int[8];
+    private int mSegmentCount;
+
+    /**
+     * Removes all intersections and starts filling the given number of
+     * segments.
+     *
+     * @param pSegmentCount
+     *            number of segments
+     */
+    public void reset(final int pSegmentCount)
+    {
+        if (pSegmentCount + 1 > mOffsets.length)
+        {
+            mOffsets = new int[Math.max(pSegmentCount + 1, 2 * mOffsets.length)];
+        }
+        Arrays.fill(mOffsets, 0, pSegmentCount + 1, 0);
+        mSegmentCount = pSegmentCount;
+    }
+
+    /**
+     * Appends an intersection to the given segment. Segments must be filled in
+     * ascending order.
+     *
+     * @param pSegment
+     *            segment index
+     * @param pValue
+     *            the x (horizontal segment) or y (vertical segment) coordinate
+     *            of the intersection
+     */
+    public void add(final int pSegment, final double pValue)
+    {
+        final int end = mOffsets[mSegmentCount];
+        if (end == mValues.length)
+        {
+            mValues = Arrays.copyOf(mValues, 2 * mValues.length);
+        }
+        mValues[end] = pValue;
+        for (int s = pSegment + 1; s <= mSegmentCount; s++)
+        {
+            mOffsets[s]++;
+        }
+    }
+
+    /**
+     * @return number of segments
+     */
+    public int getSegmentCount()
+    {
+        return mSegmentCount;
+    }
+
+    /**
+     * @return {@code true} if no segment has an intersection
+     */
+    public boolean isEmpty()
+    {
+        return mOffsets[mSegmentCount] == 0;
+    }
+
+    /**
+     * @param pSegment
+     *            segment index
+     * @return number of intersections of the given segment
+     */
+    public int count(final int pSegment)
+    {
+        return pSegment < mSegmentCount ? mOffsets[pSegment + 1] - mOffsets[pSegment] : 0;
+    }
+
+    /**
+     * @param pSegment
+     *            segment index
+     * @param pIndex
+     *            intersection index
+     * @return the intersection with the given index of the given segment
+     */
+    public double get(final int pSegment, final int pIndex)
+    {
+        return mValues[mOffsets[pSegment] + pIndex];
+    }
+
+    /**
+     * Sorts the intersections of the given segment in drawing order.
+     *
+     * @param pSegment
+     *            segment index
+     * @param pDecreasing
+     *            {@code true} if the coordinate decreases along the segment
+     */
+    public void sort(final int pSegment, final boolean pDecreasing)
+    {
+        final int from = mOffsets[pSegment];
+        final int to = mOffsets[pSegment + 1];
+        Arrays.sort(mValues, from, to);
+        if (pDecreasing)
+        {
+            for (int i = from, j = to - 1; i < j; i++, j--)
+            {
+                final double temp = mValues[i];
+                mValues[i] = mValues[j];
+                mValues[j] = temp;
+            }
+        }
+    }
+
+    /**
+     * Replaces the content of this instance with the content of the given one.
+     *
+     * @param pOther
+     *            {@link SegmentIntersections} to copy or {@code null} for none
+     */
+    public void copyFrom(final SegmentIntersections pOther)
+    {
+        if (pOther == null)
+        {
+            reset(0);
+            return;
+        }
+        reset(pOther.mSegmentCount);
+        System.arraycopy(pOther.mOffsets, 0, mOffsets, 0, mSegmentCount + 1);
+        final int count = pOther.mOffsets[mSegmentCount];
+        if (count > mValues.length)
+        {
+            mValues = new double[count];
+        }
+        System.arraycopy(pOther.mValues, 0, mValues, 0, count);
+    }
+
+    /**
+     * @param pOther
+     *            other {@link SegmentIntersections} or {@code null} for none
+     * @return {@code true} if the given instance contains the same
+     *         intersections
+     */
+    public boolean contentEquals(final SegmentIntersections pOther)
+    {
+        if (pOther == null)
+        {
+            return isEmpty();
+        }
+        if (isEmpty() && pOther.isEmpty())
+        {
+            return true;
+        }
+        return mSegmentCount == pOther.mSegmentCount
+                && Arrays.equals(mOffsets, 0, mSegmentCount + 1, pOther.mOffsets, 0, mSegmentCount + 1)
+                && Arrays.equals(mValues, 0, mOffsets[mSegmentCount], pOther.mValues, 0, mOffsets[mSegmentCount]);
+    }
+
+    /**
+     * @return the intersections as one array per segment ({@code null} for
+     *         segments without intersection) or {@code null} if there are none
+     */
+    public double[][] toArray()
+    {
+        if (isEmpty())
+        {
+            return null;
+        }
+        final double[][] result = new double[mSegmentCount + 1][];
+        for (int s = 0; s < mSegmentCount; s++)
+        {
+            if (count(s) > 0)
+            {
+                result[s] = Arrays.copyOfRange(mValues, mOffsets[s], mOffsets[s + 1]);
+            }
+        }
+        return result;
+    }
+}
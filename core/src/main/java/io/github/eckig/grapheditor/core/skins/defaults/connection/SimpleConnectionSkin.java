@@ -17,11 +17,13 @@ import io.github.eckig.grapheditor.core.skins.defaults.connection.segment.Gapped
 import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.utils.DraggableBox;
 import io.github.eckig.grapheditor.utils.GeometryUtils;
-import javafx.geometry.Point2D;
+import javafx.collections.ObservableList;
 import javafx.scene.Group;
 import javafx.scene.Node;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
 
 /**
  * A simple rectangular connection skin.
@@ -66,6 +68,18 @@ public class SimpleConnectionSkin extends GConnectionSkin implements Intersectio
 
     private List<GJointSkin> jointSkins;
 
+    // points are reused across layout passes, the last drawn state is kept to skip redundant redraws:
+    private final PointBuffer mPoints = new PointBuffer();
+    private final PointBuffer mDrawnPoints = new PointBuffer();
+    private final SegmentIntersections mDrawnIntersections = new SegmentIntersections();
+    private boolean mDrawn;
+    private boolean mDrawnDetours;
+
+    // path elements are reused across redraws and shared between the path and the background path:
+    private final MoveTo mMoveTo = new MoveTo();
+    private final List<PathElement> mPathElements = new ArrayList<>();
+    private boolean mPaintedExternally;
+
     /**
      * Creates a new simple connection skin instance.
      *
@@ -135,13 +149,26 @@ public class SimpleConnectionSkin extends GConnectionSkin implements Intersectio
      * before this connection.
      * </p>
      *
-     * @return points
+     * <p>
+     * The returned buffer is owned by this skin and reused by the next call.
+     * </p>
+     *
+     * <p>
+     * Before 17.10.2026 this method returned a new {@code Point2D[]}. Callers that still need an array can use
+     * {@link PointBuffer#toArray()}, subclasses applying constraints should modify the points of the returned buffer
+     * in place via {@link PointBuffer#set(int, double, double)}.
+     * </p>
+     *
+     * @return points or {@code null} if the connection can not be drawn
      */
-    public Point2D[] update()
+    public PointBuffer update()
     {
-        final Point2D[] points = doUpdate();
-        checkFirstAndLastJoints(points);
-        return points;
+        if (!doUpdate())
+        {
+            return null;
+        }
+        checkFirstAndLastJoints(mPoints);
+        return mPoints;
     }
 
     /**
@@ -197,10 +224,10 @@ public class SimpleConnectionSkin extends GConnectionSkin implements Intersectio
      * @param points
      *         all points that the connection should pass through (both connector and joint positions)
      */
-    private void checkFirstAndLastJoints(final Point2D[] points)
+    private void checkFirstAndLastJoints(final PointBuffer points)
     {
         alignJoint(points, RectangularConnections.isSegmentHorizontal(getItem(), 0), true);
-        alignJoint(points, RectangularConnections.isSegmentHorizontal(getItem(), points.length - 2), false);
+        alignJoint(points, RectangularConnections.isSegmentHorizontal(getItem(), points.size() - 2), false);
     }
 
     /**
@@ -213,29 +240,27 @@ public class SimpleConnectionSkin extends GConnectionSkin implements Intersectio
      * @param start
      *         {@code true} to align the first joint to the start, {@code false} for the last joint to the end
      */
-    private void alignJoint(final Point2D[] points, final boolean vertical, final boolean start)
+    private void alignJoint(final PointBuffer points, final boolean vertical, final boolean start)
     {
-        final int targetPositionIndex = start ? 0 : points.length - 1;
-        final int jointPositionIndex = start ? 1 : points.length - 2;
+        final int targetPositionIndex = start ? 0 : points.size() - 1;
+        final int jointPositionIndex = start ? 1 : points.size() - 2;
         final GJointSkin jointSkin = jointSkins.get(start ? 0 : jointSkins.size() - 1);
 
         if (vertical)
         {
-            final double newJointY = points[targetPositionIndex].getY();
+            final double newJointY = points.getY(targetPositionIndex);
             final double newJointLayoutY = GeometryUtils.moveOnPixel(newJointY - jointSkin.getHeight() / 2);
             jointSkin.getRoot().setLayoutY(newJointLayoutY);
 
-            final double currentX = points[jointPositionIndex].getX();
-            points[jointPositionIndex] = new Point2D(currentX, newJointY);
+            points.setY(jointPositionIndex, newJointY);
         }
         else
         {
-            final double newJointX = points[targetPositionIndex].getX();
+            final double newJointX = points.getX(targetPositionIndex);
             final double newJointLayoutX = GeometryUtils.moveOnPixel(newJointX - jointSkin.getWidth() / 2);
             jointSkin.getRoot().setLayoutX(newJointLayoutX);
 
-            final double currentY = points[jointPositionIndex].getY();
-            points[jointPositionIndex] = new Point2D(newJointX, currentY);
+            points.setX(jointPositionIndex, newJointX);
         }
     }
 
@@ -245,44 +270,91 @@ public class SimpleConnectionSkin extends GConnectionSkin implements Intersectio
      * @param points
      *         all points that the connection should pass through (both connector and joint positions)
      * @param intersections
-     *         all intersection-points of this connection with other connections
+     *         all intersection-points of this connection with other connections or {@code null}
+     * @param showDetours
+     *         {@code true} to draw detours, {@code false} to draw gaps
      */
-    private void drawAllSegments(final Point2D[] points, final double[][] intersections)
+    private void drawAllSegments(final PointBuffer points, final SegmentIntersections intersections,
+            final boolean showDetours)
     {
-        final double startX = points[0].getX();
-        final double startY = points[0].getY();
+        mMoveTo.setX(GeometryUtils.moveOffPixel(points.getX(0)));
+        mMoveTo.setY(GeometryUtils.moveOffPixel(points.getY(0)));
 
-        final MoveTo moveTo = new MoveTo(GeometryUtils.moveOffPixel(startX), GeometryUtils.moveOffPixel(startY));
+        // reuse the existing segments (and thus their path elements), as long as they are of the right kind:
+        final int segmentCount = points.size() - 1;
+        if (showDetours != mDrawnDetours)
+        {
+            connectionSegments.clear();
+        }
+        else if (connectionSegments.size() > segmentCount)
+        {
+            connectionSegments.subList(segmentCount, connectionSegments.size()).clear();
+        }
 
-        connectionSegments.clear();
-        path.getElements().clear();
-        path.getElements().add(moveTo);
+        mPathElements.clear();
+        mPathElements.add(mMoveTo);
 
-        for (int i = 0; i < points.length - 1; i++)
+        for (int i = 0; i < segmentCount; i++)
         {
-            final Point2D start = points[i];
-            final Point2D end = points[i + 1];
-
-            final double[] segmentIntersections = intersections != null ? intersections[i] : null;
             final ConnectionSegment segment;
 
-            if (checkShowDetours())
+            if (i < connectionSegments.size())
             {
-                segment = new DetouredConnectionSegment(start, end, segmentIntersections);
+                segment = connectionSegments.get(i);
+                segment.update(points, i, intersections);
             }
             else
             {
-                segment = new GappedConnectionSegment(start, end, segmentIntersections);
+                if (showDetours)
+                {
+                    segment = new DetouredConnectionSegment(points, i, intersections);
+                }
+                else
+                {
+                    segment = new GappedConnectionSegment(points, i, intersections);
+                }
+                connectionSegments.add(segment);
             }
 
             segment.draw();
 
-            connectionSegments.add(segment);
-            path.getElements().addAll(segment.getPathElements());
+            final List<PathElement> segmentElements = segment.getPathElements();
+            for (int j = 0; j < segmentElements.size(); j++)
+            {
+                mPathElements.add(segmentElements.get(j));
+            }
+        }
+
+        if (!mPaintedExternally)
+        {
+            setPathElements(path);
+            setPathElements(backgroundPath);
+        }
+    }
+
+    /**
+     * Updates the elements of the given path to the current {@link #mPathElements}. The path is only modified from the
+     * first element that differs, elements whose coordinates changed in place are left alone.
+     */
+    private void setPathElements(final Path pPath)
+    {
+        final ObservableList<PathElement> elements = pPath.getElements();
+
+        int firstDifference = 0;
+        final int commonSize = Math.min(elements.size(), mPathElements.size());
+        while (firstDifference < commonSize && elements.get(firstDifference) == mPathElements.get(firstDifference))
+        {
+            firstDifference++;
         }
 
-        backgroundPath.getElements().clear();
-        backgroundPath.getElements().addAll(path.getElements());
+        if (firstDifference < elements.size())
+        {
+            elements.remove(firstDifference, elements.size());
+        }
+        if (firstDifference < mPathElements.size())
+        {
+            elements.addAll(mPathElements.subList(firstDifference, mPathElements.size()));
+        }
     }
 
     /**
@@ -290,7 +362,7 @@ public class SimpleConnectionSkin extends GConnectionSkin implements Intersectio
      *
      * @return {@code true} if the custom property to show detours has been set
      */
-    private boolean checkShowDetours()
+    public boolean checkShowDetours()
     {
         boolean showDetours = false;
 
@@ -318,71 +390,189 @@ public class SimpleConnectionSkin extends GConnectionSkin implements Intersectio
      * 'rerouting' effect when the connection passes over another connection.
      * </p>
      *
+     * <p>
+     * Before 17.10.2026 the points were passed as {@code Point2D[]}. Such arrays can be wrapped via
+     * {@link PointBuffer#of(javafx.geometry.Point2D...)}.
+     * </p>
+     *
      * @param allPoints
      *         the lists of points for all connections (can be ignored in a simple skin)
      */
-    public void draw(final Map<SimpleConnectionSkin, Point2D[]> allPoints)
+    public void draw(final Map<SimpleConnectionSkin, PointBuffer> allPoints)
     {
-        if (getRoot() != null && getRoot().getParent() != null)
+        updateParentIndex();
+
+        // If we are showing detours, get all intersections with connections *behind* this one. Otherwise in front.
+        final SegmentIntersections intersections = new SegmentIntersections();
+        if (allPoints != null)
         {
-            mConnectionIndex = getRoot().getParent().getChildrenUnmodifiable().indexOf(getRoot());
+            IntersectionFinder.find(this, allPoints, checkShowDetours(), intersections);
         }
-        else
+
+        draw(allPoints == null ? null : allPoints.get(this), intersections);
+    }
+
+    /**
+     * Draws the connection skin with already calculated intersection points, for example by the
+     * {@link SweepLineIntersectionFinder}.
+     *
+     * <p>
+     * Nothing is redrawn if the points and intersections are the same as the last time this connection was drawn.
+     * Neither of the given instances is retained.
+     * </p>
+     *
+     * @param points
+     *         the points of this connection as returned by {@link #update()}
+     * @param intersections
+     *         the intersection-points for each segment of this connection or {@code null}
+     * @return {@code true} if the connection has been redrawn
+     * @since 17.10.2026
+     */
+    public boolean draw(final PointBuffer points, final SegmentIntersections intersections)
+    {
+        if (points == null || points.size() < 2)
         {
-            mConnectionIndex = -1;
+            final boolean wasDrawn = mDrawn;
+            mDrawn = false;
+            connectionSegments.clear();
+            mPathElements.clear();
+            path.getElements().clear();
+            backgroundPath.getElements().clear();
+            return wasDrawn;
         }
 
-        // If we are showing detours, get all intersections with connections *behind* this one. Otherwise in front.
-        final double[][] intersections = IntersectionFinder.find(this, allPoints, checkShowDetours());
+        final boolean showDetours = checkShowDetours();
+        if (mDrawn && showDetours == mDrawnDetours && points.contentEquals(mDrawnPoints)
+                && mDrawnIntersections.contentEquals(intersections))
+        {
+            return false;
+        }
+
+        drawAllSegments(points, intersections, showDetours);
+
+        mDrawnPoints.copyFrom(points);
+        mDrawnIntersections.copyFrom(intersections);
+        mDrawnDetours = showDetours;
+        mDrawn = true;
+        return true;
+    }
 
-        final Point2D[] points = allPoints == null ? null : allPoints.get(this);
-        if (points != null)
+    /**
+     * Sets whether this connection is painted by someone else, for example into a
+     * {@link javafx.scene.canvas.Canvas} via {@link #paint(GraphicsContext)}.
+     *
+     * <p>
+     * While painted externally the root of this skin is hidden and its paths stay empty, so that the scene graph does
+     * not have to render (or pick) them. The connection is still laid out and drawn as usual, only the resulting path
+     * elements are not applied.
+     * </p>
+     *
+     * @param paintedExternally
+     *         {@code true} to hide the paths of this skin, {@code false} to show them again
+     * @since 17.10.2026
+     */
+    public void setPaintedExternally(final boolean paintedExternally)
+    {
+        if (mPaintedExternally == paintedExternally)
         {
-            drawAllSegments(points, intersections);
+            return;
         }
-        else
+
+        mPaintedExternally = paintedExternally;
+        root.setVisible(!paintedExternally);
+        if (paintedExternally)
         {
-            connectionSegments.clear();
             path.getElements().clear();
+            backgroundPath.getElements().clear();
+        }
+        else
+        {
+            setPathElements(path);
+            setPathElements(backgroundPath);
         }
     }
 
-    private Point2D[] doUpdate()
+    /**
+     * @return {@code true} if this connection is painted by someone else, see {@link #setPaintedExternally(boolean)}
+     * @since 17.10.2026
+     */
+    public boolean isPaintedExternally()
     {
-        final GConnection item = getItem();
-        final SkinLookup skinLookup = getGraphEditor() == null ? null : getGraphEditor().getSkinLookup();
-        if (item == null || skinLookup == null)
+        return mPaintedExternally;
+    }
+
+    /**
+     * Paints the last drawn state of this connection into the given graphics context, using the stroke of its path.
+     * Effects or other styling of the path are not painted.
+     *
+     * @param gc
+     *         the {@link GraphicsContext} to paint into, in the coordinates of the connection layer
+     * @since 17.10.2026
+     */
+    public void paint(final GraphicsContext gc)
+    {
+        if (!mDrawn || path.getStroke() == null)
         {
-            return null;
+            return;
         }
-        else if (item.getJoints().isEmpty())
-        {
-            final Point2D[] points = new Point2D[2];
 
-            // Start: Source position
-            points[0] = GeometryUtils.getConnectorPosition(item.getSource(), skinLookup);
-
-            // End: Target position
-            points[1] = GeometryUtils.getConnectorPosition(item.getTarget(), skinLookup);
+        gc.setStroke(path.getStroke());
+        gc.setLineWidth(path.getStrokeWidth());
+        gc.setLineCap(path.getStrokeLineCap());
+        gc.setLineJoin(path.getStrokeLineJoin());
+        if (path.getStrokeDashArray().isEmpty())
+        {
+            gc.setLineDashes((double[]) null);
+        }
+        else
+        {
+            gc.setLineDashes(path.getStrokeDashArray().stream().mapToDouble(Double::doubleValue).toArray());
+            gc.setLineDashOffset(path.getStrokeDashOffset());
+        }
+        PathPainter.paint(gc, mPathElements);
+    }
 
-            return points;
+    /**
+     * Updates the cached {@link #getParentIndex() index} of this connection skin inside the connection layer. Must be
+     * called on all connection skins before intersections are calculated.
+     *
+     * @since 16.10.2026
+     */
+    public void updateParentIndex()
+    {
+        if (getRoot() != null && getRoot().getParent() != null)
+        {
+            mConnectionIndex = getRoot().getParent().getChildrenUnmodifiable().indexOf(getRoot());
         }
         else
         {
-            final int len = item.getJoints().size() + 2;
-            final Point2D[] points = new Point2D[len];
+            mConnectionIndex = -1;
+        }
+    }
+
+    private boolean doUpdate()
+    {
+        final GConnection item = getItem();
+        final SkinLookup skinLookup = getGraphEditor() == null ? null : getGraphEditor().getSkinLookup();
+        if (item == null || skinLookup == null)
+        {
+            return false;
+        }
 
-            // Middle: joint positions
-            GeometryUtils.fillJointPositions(item, skinLookup, points);
+        final int len = item.getJoints().size() + 2;
+        mPoints.setSize(len);
+        final double[] coordinates = mPoints.coordinates();
 
-            // Start: Source position
-            points[0] = GeometryUtils.getConnectorPosition(item.getSource(), skinLookup);
+        // Start: Source position
+        GeometryUtils.fillConnectorPosition(item.getSource(), skinLookup, coordinates, 0);
 
-            // End: Target position
-            points[len - 1] = GeometryUtils.getConnectorPosition(item.getTarget(), skinLookup);
+        // Middle: joint positions
+        GeometryUtils.fillJointPositions(item, skinLookup, coordinates, 2);
 
-            return points;
-        }
+        // End: Target position
+        GeometryUtils.fillConnectorPosition(item.getTarget(), skinLookup, coordinates, 2 * (len - 1));
+
+        return true;
     }
 
     @Override
@@ -0,0 +1,462 @@
+package io.github.eckig.grapheditor.core.skins.defaults.connection;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.github.eckig.grapheditor.core.connections.RectangularConnections;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.IntersectionFinder.IIntersectionConnection;
+
+
+/**
+ * Finds the intersection points of <b>all</b> connections with each other in a
+ * single pass.
+ *
+ * <p>
+ * Produces the same results as calling
+ * {@link IntersectionFinder#find(IIntersectionConnection, Map, boolean)} for
+ * every connection, but instead of comparing every segment with every other
+ * segment (O(S²) for S segments) a sweep-line runs over the x-axis: horizontal
+ * segments become active between their start and end x coordinate and every
+ * vertical segment only looks at the active horizontal segments inside its y
+ * range. This costs O(S log S + K) for K intersections.
+ * </p>
+ *
+ * <p>
+ * The same comparison rules as {@link IntersectionFinder} are applied: every
+ * segment can act as horizontal line (at the y coordinate of its start point)
+ * and as vertical line (at the x coordinate of its start point), intervals are
+ * open and the orientation of a segment is taken from
+ * {@link RectangularConnections#isSegmentHorizontal(io.github.eckig.grapheditor.model.GConnection, int)}.
+ * </p>
+ *
+ * <p>
+ * An instance keeps its primitive working arrays between calls of
+ * {@link #find(Map, Predicate, Function)}, so that repeated calls for a
+ * similar number of segments do not allocate. Instances are not thread-safe.
+ * </p>
+ *
+ * @since 16.10.2026
+ */
+public final class SweepLineIntersectionFinder
+{
+
+    private static final int NO_ENTRY = -1;
+
+    private IIntersectionConnection[] connections = new IIntersectionConnection[0];
+    private PointBuffer[] points = new PointBuffer[0];
+    private boolean[] behind = new boolean[0];
+    private int[] parentIndex = new int[0];
+    private int[] firstSegment = new int[0];
+    private int connectionCount;
+
+    private int count;
+    private int[] owner = new int[0];
+    private int[] index = new int[0];
+    private double[] startX = new double[0];
+    private double[] startY = new double[0];
+    private double[] endX = new double[0];
+    private double[] endY = new double[0];
+    private boolean[] horizontal = new boolean[0];
+
+    // sweep state:
+    private long[] byY = new long[0];
+    private int[] ySorted = new int[0];
+    private double[] yValues = new double[0];
+    private int[] bitOfSegment = new int[0];
+    private long[] insertions = new long[0];
+    private long[] removals = new long[0];
+    private int[] insertionOrder = new int[0];
+    private int[] removalOrder = new int[0];
+    private double[] minX = new double[0];
+    private double[] maxX = new double[0];
+    private long[] queries = new long[0];
+    private int[] queryOrder = new int[0];
+    private double[] distinct = new double[0];
+    private final BitSet active = new BitSet();
+
+    // found intersections: segment -> linked list of values
+    private int[] hitHead = new int[0];
+    private int[] hitNext = new int[16];
+    private double[] hitValue = new double[16];
+    private int hitCount;
+
+    /**
+     * Finds the intersection points of all connections with all other
+     * connections that are in front of / behind them.
+     *
+     * @param pAllPoints
+     *            the map of all current points of all connections in the model
+     * @param pBehind
+     *            decides per connection whether to find intersections with the
+     *            connections that are behind ({@code true}) or in front
+     * @return the intersection points for each segment of each connection that
+     *         has at least one intersection, see
+     *         {@link IntersectionFinder#find(IIntersectionConnection, Map, boolean)}
+     */
+    public static <T extends IIntersectionConnection> Map<T, double[][]> find(final Map<T, PointBuffer> pAllPoints,
+            final Predicate<? super T> pBehind)
+    {
+        final Map<T, SegmentIntersections> intersections = new HashMap<>();
+        new SweepLineIntersectionFinder().find(pAllPoints, pBehind,
+                c -> intersections.computeIfAbsent(c, _ -> new SegmentIntersections()));
+
+        final Map<T, double[][]> result = new HashMap<>();
+        intersections.forEach((c, i) -> {
+            if (!i.isEmpty())
+            {
+                result.put(c, i.toArray());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Finds the intersection points of all connections with all other
+     * connections that are in front of / behind them.
+     *
+     * @param pAllPoints
+     *            the map of all current points of all connections in the model
+     * @param pBehind
+     *            decides per connection whether to find intersections with the
+     *            connections that are behind ({@code true}) or in front
+     * @param pTarget
+     *            supplies the (reusable) {@link SegmentIntersections} to fill
+     *            for each connection in the map
+     * @since 17.10.2026
+     */
+    public <T extends IIntersectionConnection> void find(final Map<T, PointBuffer> pAllPoints,
+            final Predicate<? super T> pBehind, final Function<? super T, SegmentIntersections> pTarget)
+    {
+        try
+        {
+            load(pAllPoints, pBehind);
+            if (count > 0)
+            {
+                sweep();
+            }
+            collect(pTarget);
+        }
+        finally
+        {
+            // do not keep the connections of the last call alive:
+            Arrays.fill(connections, 0, connectionCount, null);
+            Arrays.fill(points, 0, connectionCount, null);
+        }
+    }
+
+    private <T extends IIntersectionConnection> void load(final Map<T, PointBuffer> pAllPoints,
+            final Predicate<? super T> pBehind)
+    {
+        connectionCount = pAllPoints.size();
+        if (connections.length < connectionCount)
+        {
+            final int capacity = Math.max(connectionCount, 2 * connections.length);
+            connections = new IIntersectionConnection[capacity];
+            points = new PointBuffer[capacity];
+            behind = new boolean[capacity];
+            parentIndex = new int[capacity];
+            firstSegment = new int[capacity + 1];
+        }
+
+        // forEach instead of iterating the entries, as e.g. an IdentityHashMap creates an entry object per step:
+        connectionCount = 0;
+        pAllPoints.forEach((connection, connectionPoints) -> {
+            final int c = connectionCount++;
+            connections[c] = connection;
+            points[c] = connectionPoints;
+            behind[c] = pBehind.test(connection);
+            parentIndex[c] = connection.getParentIndex();
+        });
+
+        int segmentCount = 0;
+        for (int c = 0; c < connectionCount; c++)
+        {
+            firstSegment[c] = segmentCount;
+            if (points[c] != null && points[c].size() > 1)
+            {
+                segmentCount += points[c].size() - 1;
+            }
+        }
+        firstSegment[connectionCount] = segmentCount;
+
+        count = segmentCount;
+        if (owner.length < count)
+        {
+            final int capacity = Math.max(count, 2 * owner.length);
+            owner = new int[capacity];
+            index = new int[capacity];
+            startX = new double[capacity];
+            startY = new double[capacity];
+            endX = new double[capacity];
+            endY = new double[capacity];
+            horizontal = new boolean[capacity];
+            hitHead = new int[capacity];
+            byY = new long[capacity];
+            ySorted = new int[capacity];
+            yValues = new double[capacity];
+            bitOfSegment = new int[capacity];
+            insertions = new long[capacity];
+            removals = new long[capacity];
+            insertionOrder = new int[capacity];
+            removalOrder = new int[capacity];
+            minX = new double[capacity];
+            maxX = new double[capacity];
+            queries = new long[capacity];
+            queryOrder = new int[capacity];
+            distinct = new double[capacity];
+        }
+
+        int s = 0;
+        for (int c = 0; c < connectionCount; c++)
+        {
+            final PointBuffer connectionPoints = points[c];
+            if (connectionPoints == null)
+            {
+                continue;
+            }
+            for (int i = 0; i < connectionPoints.size() - 1; i++)
+            {
+                owner[s] = c;
+                index[s] = i;
+                // "+ 0.0" normalizes -0.0, which would otherwise sort differently than it compares
+                startX[s] = connectionPoints.getX(i) + 0.0;
+                startY[s] = connectionPoints.getY(i) + 0.0;
+                endX[s] = connectionPoints.getX(i + 1) + 0.0;
+                endY[s] = connectionPoints.getY(i + 1) + 0.0;
+                horizontal[s] = RectangularConnections.isSegmentHorizontal(connections[c].getItem(), i);
+                s++;
+            }
+        }
+    }
+
+    /**
+     * Sweeps from left to right. Horizontal lines are inserted at their minimum
+     * x and removed at their maximum x, vertical lines query the active
+     * horizontal lines at their x. For equal x coordinates removals come before
+     * queries and queries before insertions, so that only strict crossings are
+     * reported.
+     */
+    private void sweep()
+    {
+        Arrays.fill(hitHead, 0, count, NO_ENTRY);
+        hitCount = 0;
+
+        // every segment acts as horizontal line at y = startY between startX and endX,
+        // sorted by y, so that the position inside this array can be used as bit index:
+        int horizontalCount = 0;
+        for (int s = 0; s < count; s++)
+        {
+            if (startX[s] != endX[s])
+            {
+                byY[horizontalCount++] = s;
+            }
+        }
+        sortSegments(byY, horizontalCount, startY, ySorted);
+        for (int b = 0; b < horizontalCount; b++)
+        {
+            yValues[b] = startY[ySorted[b]];
+            bitOfSegment[ySorted[b]] = b;
+        }
+
+        for (int b = 0; b < horizontalCount; b++)
+        {
+            final int s = ySorted[b];
+            minX[s] = Math.min(startX[s], endX[s]);
+            maxX[s] = Math.max(startX[s], endX[s]);
+            insertions[b] = s;
+            removals[b] = s;
+        }
+        sortSegments(insertions, horizontalCount, minX, insertionOrder);
+        sortSegments(removals, horizontalCount, maxX, removalOrder);
+
+        // every segment acts as vertical line at x = startX between startY and endY:
+        int verticalCount = 0;
+        for (int s = 0; s < count; s++)
+        {
+            if (startY[s] != endY[s])
+            {
+                queries[verticalCount++] = s;
+            }
+        }
+        sortSegments(queries, verticalCount, startX, queryOrder);
+
+        active.clear();
+        int ins = 0;
+        int rem = 0;
+        for (int q = 0; q < verticalCount; q++)
+        {
+            final int vertical = queryOrder[q];
+            final double x = startX[vertical];
+
+            while (ins < horizontalCount && minX[insertionOrder[ins]] < x)
+            {
+                active.set(bitOfSegment[insertionOrder[ins++]]);
+            }
+            while (rem < horizontalCount && maxX[removalOrder[rem]] <= x)
+            {
+                active.clear(bitOfSegment[removalOrder[rem++]]);
+            }
+
+            final double minY = Math.min(startY[vertical], endY[vertical]);
+            final double maxY = Math.max(startY[vertical], endY[vertical]);
+            final int to = lowerBound(yValues, horizontalCount, maxY);
+            for (int b = active.nextSetBit(upperBound(yValues, horizontalCount, minY)); b >= 0 && b < to; b = active
+                    .nextSetBit(b + 1))
+            {
+                crossing(ySorted[b], vertical);
+            }
+        }
+    }
+
+    /**
+     * Handles a crossing of the horizontal line of one segment with the
+     * vertical line of another segment.
+     */
+    private void crossing(final int pHorizontal, final int pVertical)
+    {
+        if (horizontal[pHorizontal] && accept(pHorizontal, pVertical))
+        {
+            addHit(pHorizontal, startX[pVertical]);
+        }
+        if (!horizontal[pVertical] && accept(pVertical, pHorizontal))
+        {
+            addHit(pVertical, startY[pHorizontal]);
+        }
+    }
+
+    /**
+     * @return {@code true} if the intersection of the other segment should be
+     *         drawn on the given segment
+     */
+    private boolean accept(final int pSegment, final int pOther)
+    {
+        final int connection = owner[pSegment];
+        final int otherConnection = owner[pOther];
+        if (connection == otherConnection)
+        {
+            return behind[connection] ? index[pOther] < index[pSegment] : index[pOther] >= index[pSegment];
+        }
+
+        final boolean isBehind = parentIndex[connection] != -1 && parentIndex[otherConnection] < parentIndex[connection];
+        return behind[connection] == isBehind;
+    }
+
+    private void addHit(final int pSegment, final double pValue)
+    {
+        if (hitCount == hitNext.length)
+        {
+            hitNext = Arrays.copyOf(hitNext, hitCount * 2);
+            hitValue = Arrays.copyOf(hitValue, hitCount * 2);
+        }
+        hitValue[hitCount] = pValue;
+        hitNext[hitCount] = hitHead[pSegment];
+        hitHead[pSegment] = hitCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends IIntersectionConnection> void collect(final Function<? super T, SegmentIntersections> pTarget)
+    {
+        for (int c = 0; c < connectionCount; c++)
+        {
+            final SegmentIntersections target = pTarget.apply((T) connections[c]);
+            final int from = firstSegment[c];
+            final int to = firstSegment[c + 1];
+            target.reset(to - from);
+            for (int s = from; s < to; s++)
+            {
+                if (hitHead[s] == NO_ENTRY)
+                {
+                    continue;
+                }
+                for (int h = hitHead[s]; h != NO_ENTRY; h = hitNext[h])
+                {
+                    target.add(index[s], hitValue[h]);
+                }
+                target.sort(index[s], horizontal[s] ? endX[s] < startX[s] : endY[s] < startY[s]);
+            }
+        }
+    }
+
+    /**
+     * Sorts the given segment indices by the given coordinate, by encoding the
+     * rank of the coordinate and the segment index into one long.
+     */
+    private void sortSegments(final long[] pSegments, final int pLength, final double[] pCoordinate,
+            final int[] pSorted)
+    {
+        for (int i = 0; i < pLength; i++)
+        {
+            distinct[i] = pCoordinate[(int) pSegments[i]];
+        }
+        Arrays.sort(distinct, 0, pLength);
+        int distinctLength = 0;
+        for (int i = 0; i < pLength; i++)
+        {
+            if (distinctLength == 0 || distinct[distinctLength - 1] != distinct[i])
+            {
+                distinct[distinctLength++] = distinct[i];
+            }
+        }
+
+        for (int i = 0; i < pLength; i++)
+        {
+            final int segment = (int) pSegments[i];
+            final long rank = Arrays.binarySearch(distinct, 0, distinctLength, pCoordinate[segment]);
+            pSegments[i] = rank << 32 | segment;
+        }
+        Arrays.sort(pSegments, 0, pLength);
+
+        for (int i = 0; i < pLength; i++)
+        {
+            pSorted[i] = (int) pSegments[i];
+        }
+    }
+
+    /**
+     * @return index of the first value strictly greater than the given value
+     */
+    private static int upperBound(final double[] pSorted, final int pLength, final double pValue)
+    {
+        int low = 0;
+        int high = pLength;
+        while (low < high)
+        {
+            final int mid = (low + high) >>> 1;
+            if (pSorted[mid] <= pValue)
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return index of the first value greater than or equal to the given value
+     */
+    private static int lowerBound(final double[] pSorted, final int pLength, final double pValue)
+    {
+        int low = 0;
+        int high = pLength;
+        while (low < high)
+        {
+            final int mid = (low + high) >>> 1;
+            if (pSorted[mid] < pValue)
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -3,13 +3,20 @@
  */
 package io.github.eckig.grapheditor.core.skins.defaults.connection.segment;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
 
+import io.github.eckig.grapheditor.core.skins.defaults.connection.PointBuffer;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.SegmentIntersections;
 import io.github.eckig.grapheditor.utils.GeometryUtils;
 import javafx.geometry.Point2D;
+import javafx.scene.shape.ArcTo;
 import javafx.scene.shape.HLineTo;
+import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.PathElement;
 import javafx.scene.shape.VLineTo;
 
@@ -21,22 +28,39 @@ import javafx.scene.shape.VLineTo;
  * A segment is a horizontal or vertical line either (a) between two joints, or
  * (b) between a connector and a joint.
  * </p>
+ *
+ * <p>
+ * A segment can be {@link #update(PointBuffer, int, SegmentIntersections)
+ * updated} and {@link #draw() drawn} again. Drawing reuses the existing
+ * {@link #getPathElements() path elements} where their type matches and only
+ * changes their coordinates, so subclasses should create their path elements
+ * through the {@code add...} methods of this class. Elements added to
+ * {@link #getPathElements()} directly are kept as well, but created anew on
+ * every draw.
+ * </p>
  */
 public abstract class ConnectionSegment
 {
 
     // True for horizontal segment, false for vertical segment.
-    protected final boolean horizontal;
+    protected boolean horizontal;
 
     // +1 if position coordinate is increasing, -1 if it is decreasing.
-    protected final int sign;
+    protected int sign;
 
     private static final int EDGE_OFFSET = 5;
 
+    // the elements of the current draw, followed by unused elements of the previous draw:
     private final List<PathElement> pathElements = new ArrayList<>();
-    private final Point2D start;
-    private final Point2D end;
-    private final double[] intersections;
+    private int pathElementCount;
+    private final List<PathElement> pathElementsView = new PathElementList();
+
+    private double startX;
+    private double startY;
+    private double endX;
+    private double endY;
+    private double[] intersections = new double[0];
+    private int intersectionCount;
 
     /**
      * Creates a new connection segment for the given start and end points.
@@ -50,21 +74,86 @@ public abstract class ConnectionSegment
      */
     public ConnectionSegment(final Point2D start, final Point2D end, final double[] intersections)
     {
-        this.start = start;
-        this.end = end;
+        setPoints(start.getX(), start.getY(), end.getX(), end.getY());
+
+        if (intersections != null)
+        {
+            for (final double intersection : intersections)
+            {
+                addIntersection(intersection);
+            }
+        }
+    }
+
+    /**
+     * Creates a new connection segment between the point with the given index
+     * and the next point, without creating intermediate {@link Point2D}
+     * objects.
+     *
+     * @param points
+     *            all points of the connection
+     * @param index
+     *            the index of the point where the segment starts
+     * @param intersections
+     *            the intersection-points of all segments of the connection
+     *            with other connections or {@code null}
+     * @since 17.10.2026
+     */
+    public ConnectionSegment(final PointBuffer points, final int index, final SegmentIntersections intersections)
+    {
+        setPoints(points, index, intersections);
+    }
+
+    /**
+     * Moves this segment to the point with the given index and the next point.
+     * Call {@link #draw()} afterwards to update the path elements.
+     *
+     * @param points
+     *            all points of the connection
+     * @param index
+     *            the index of the point where the segment starts
+     * @param intersections
+     *            the intersection-points of all segments of the connection
+     *            with other connections or {@code null}
+     * @since 17.10.2026
+     */
+    public void update(final PointBuffer points, final int index, final SegmentIntersections intersections)
+    {
+        setPoints(points, index, intersections);
+    }
+
+    private void setPoints(final PointBuffer pPoints, final int pIndex, final SegmentIntersections pIntersections)
+    {
+        setPoints(pPoints.getX(pIndex), pPoints.getY(pIndex), pPoints.getX(pIndex + 1), pPoints.getY(pIndex + 1));
+
+        if (pIntersections != null)
+        {
+            for (int i = 0; i < pIntersections.count(pIndex); i++)
+            {
+                addIntersection(pIntersections.get(pIndex, i));
+            }
+        }
+    }
+
+    private void setPoints(final double pStartX, final double pStartY, final double pEndX, final double pEndY)
+    {
+        startX = pStartX;
+        startY = pStartY;
+        endX = pEndX;
+        endY = pEndY;
 
-        horizontal = start.getY() == end.getY();
+        horizontal = startY == endY;
 
         if (horizontal)
         {
-            sign = start.getX() < end.getX() ? 1 : -1;
+            sign = startX < endX ? 1 : -1;
         }
         else
         {
-            sign = start.getY() < end.getY() ? 1 : -1;
+            sign = startY < endY ? 1 : -1;
         }
 
-        this.intersections = filterIntersections(intersections);
+        intersectionCount = 0;
     }
 
     /**
@@ -78,27 +167,41 @@ public abstract class ConnectionSegment
      */
     public void draw()
     {
-        if (intersections != null && intersections.length > 0)
+        pathElementCount = 0;
+
+        if (intersectionCount > 0)
         {
             drawToFirstIntersection(intersections[0]);
             drawBetweenIntersections();
-            drawFromLastIntersection(intersections[intersections.length - 1]);
+            drawFromLastIntersection(intersections[intersectionCount - 1]);
         }
         else
         {
             drawStraight();
         }
+
+        // drop the elements of the previous draw that are no longer needed:
+        if (pathElements.size() > pathElementCount)
+        {
+            pathElements.subList(pathElementCount, pathElements.size()).clear();
+        }
     }
 
     /**
      * Returns the {@link PathElement path elements} this connection segment is
      * made of.
      *
+     * <p>
+     * While {@link #draw() drawing}, the list contains the elements drawn so
+     * far. Elements added to it are appended to the elements of the current
+     * draw.
+     * </p>
+     *
      * @return the path elements this segment is made of
      */
     public List<PathElement> getPathElements()
     {
-        return pathElements;
+        return pathElementsView;
     }
 
     /**
@@ -108,7 +211,7 @@ public abstract class ConnectionSegment
      */
     public Point2D getStart()
     {
-        return start;
+        return new Point2D(startX, startY);
     }
 
     /**
@@ -118,7 +221,43 @@ public abstract class ConnectionSegment
      */
     public Point2D getEnd()
     {
-        return end;
+        return new Point2D(endX, endY);
+    }
+
+    /**
+     * @return the x coordinate of the start point of this connection segment
+     * @since 17.10.2026
+     */
+    public double getStartX()
+    {
+        return startX;
+    }
+
+    /**
+     * @return the y coordinate of the start point of this connection segment
+     * @since 17.10.2026
+     */
+    public double getStartY()
+    {
+        return startY;
+    }
+
+    /**
+     * @return the x coordinate of the end point of this connection segment
+     * @since 17.10.2026
+     */
+    public double getEndX()
+    {
+        return endX;
+    }
+
+    /**
+     * @return the y coordinate of the end point of this connection segment
+     * @since 17.10.2026
+     */
+    public double getEndY()
+    {
+        return endY;
     }
 
     /**
@@ -162,7 +301,15 @@ public abstract class ConnectionSegment
      */
     protected void addHLineTo(final double x)
     {
-        pathElements.add(new HLineTo(GeometryUtils.moveOffPixel(x)));
+        final HLineTo hLineTo = nextPathElement(HLineTo.class);
+        if (hLineTo != null)
+        {
+            hLineTo.setX(GeometryUtils.moveOffPixel(x));
+        }
+        else
+        {
+            addPathElement(new HLineTo(GeometryUtils.moveOffPixel(x)));
+        }
     }
 
     /**
@@ -173,38 +320,160 @@ public abstract class ConnectionSegment
      */
     protected void addVLineTo(final double y)
     {
-        pathElements.add(new VLineTo(GeometryUtils.moveOffPixel(y)));
+        final VLineTo vLineTo = nextPathElement(VLineTo.class);
+        if (vLineTo != null)
+        {
+            vLineTo.setY(GeometryUtils.moveOffPixel(y));
+        }
+        else
+        {
+            addPathElement(new VLineTo(GeometryUtils.moveOffPixel(y)));
+        }
+    }
+
+    /**
+     * Moves the path to the given position without drawing a line.
+     *
+     * @param x
+     *            the final x position
+     * @param y
+     *            the final y position
+     * @since 17.10.2026
+     */
+    protected void addMoveTo(final double x, final double y)
+    {
+        final MoveTo moveTo = nextPathElement(MoveTo.class);
+        if (moveTo != null)
+        {
+            moveTo.setX(GeometryUtils.moveOffPixel(x));
+            moveTo.setY(GeometryUtils.moveOffPixel(y));
+        }
+        else
+        {
+            addPathElement(new MoveTo(GeometryUtils.moveOffPixel(x), GeometryUtils.moveOffPixel(y)));
+        }
     }
 
     /**
-     * Removes all intersections that are too close to the edge of the segment
-     * to draw properly.
+     * Adds a circular arc to the path, to the given position.
+     *
+     * @param radius
+     *            the radius of the arc
+     * @param sweepFlag
+     *            the sweep flag of the arc, see {@link ArcTo#setSweepFlag(boolean)}
+     * @param x
+     *            the final x position of the arc
+     * @param y
+     *            the final y position of the arc
+     * @since 17.10.2026
      */
-    private double[] filterIntersections(final double[] pIntersections)
+    protected void addArcTo(final double radius, final boolean sweepFlag, final double x, final double y)
     {
-        if (pIntersections == null || pIntersections.length == 0)
+        ArcTo arcTo = nextPathElement(ArcTo.class);
+        if (arcTo == null)
         {
-            return null;
+            arcTo = new ArcTo();
+            addPathElement(arcTo);
         }
-        final double[] intersectionsFiltered = new double[pIntersections.length];
-        int len = 0;
-        for (final double intersection : pIntersections)
+
+        arcTo.setRadiusX(radius);
+        arcTo.setRadiusY(radius);
+        arcTo.setSweepFlag(sweepFlag);
+        arcTo.setX(GeometryUtils.moveOffPixel(x));
+        arcTo.setY(GeometryUtils.moveOffPixel(y));
+    }
+
+    /**
+     * @return the path element of the previous draw at the current position if
+     *         it has the given type, {@code null} otherwise
+     */
+    private <E extends PathElement> E nextPathElement(final Class<E> pType)
+    {
+        if (pathElementCount < pathElements.size() && pathElements.get(pathElementCount).getClass() == pType)
         {
-            if (intersection != 0 && !isTooCloseToTheEdge(intersection))
+            return pType.cast(pathElements.get(pathElementCount++));
+        }
+        return null;
+    }
+
+    private void addPathElement(final PathElement pElement)
+    {
+        if (pathElementCount < pathElements.size())
+        {
+            pathElements.set(pathElementCount, pElement);
+        }
+        else
+        {
+            pathElements.add(pElement);
+        }
+        pathElementCount++;
+    }
+
+    /**
+     * The path elements of the current draw, i.e. the first
+     * {@link #pathElementCount} elements of {@link #pathElements}.
+     */
+    private final class PathElementList extends AbstractList<PathElement> implements RandomAccess
+    {
+
+        @Override
+        public PathElement get(final int pIndex)
+        {
+            return pathElements.get(Objects.checkIndex(pIndex, pathElementCount));
+        }
+
+        @Override
+        public int size()
+        {
+            return pathElementCount;
+        }
+
+        @Override
+        public PathElement set(final int pIndex, final PathElement pElement)
+        {
+            return pathElements.set(Objects.checkIndex(pIndex, pathElementCount), pElement);
+        }
+
+        @Override
+        public void add(final int pIndex, final PathElement pElement)
+        {
+            if (pIndex == pathElementCount)
+            {
+                addPathElement(pElement);
+            }
+            else
             {
-                intersectionsFiltered[len++] = intersection;
+                pathElements.add(Objects.checkIndex(pIndex, pathElementCount), pElement);
+                pathElementCount++;
             }
+            modCount++;
         }
 
-        if (len == 0)
+        @Override
+        public PathElement remove(final int pIndex)
+        {
+            final PathElement removed = pathElements.remove(Objects.checkIndex(pIndex, pathElementCount));
+            pathElementCount--;
+            modCount++;
+            return removed;
+        }
+    }
+
+    /**
+     * Adds the given intersection, unless it is too close to the edge of the
+     * segment to draw properly.
+     */
+    private void addIntersection(final double pIntersection)
+    {
+        if (pIntersection == 0 || isTooCloseToTheEdge(pIntersection))
         {
-            return null;
+            return;
         }
-        if (len != pIntersections.length)
+        if (intersectionCount == intersections.length)
         {
-            return Arrays.copyOf(intersectionsFiltered, len);
+            intersections = Arrays.copyOf(intersections, Math.max(4, 2 * intersectionCount));
         }
-        return pIntersections;
+        intersections[intersectionCount++] = pIntersection;
     }
 
     /**
@@ -219,8 +488,8 @@ public abstract class ConnectionSegment
     private boolean isTooCloseToTheEdge(final double intersection)
     {
 
-        final double startCoordinate = horizontal ? start.getX() : start.getY();
-        final double endCoordinate = horizontal ? end.getX() : end.getY();
+        final double startCoordinate = horizontal ? startX : startY;
+        final double endCoordinate = horizontal ? endX : endY;
 
         final boolean tooCloseToStart = sign * (intersection - startCoordinate) < EDGE_OFFSET;
         final boolean tooCloseToEnd = sign * (endCoordinate - intersection) < EDGE_OFFSET;
@@ -234,7 +503,7 @@ public abstract class ConnectionSegment
      */
     private void drawBetweenIntersections()
     {
-        for (int i = 1; i < intersections.length; i++)
+        for (int i = 1; i < intersectionCount; i++)
         {
             final double intersection = intersections[i];
             final double lastIntersection = intersections[i - 1];
@@ -249,11 +518,11 @@ public abstract class ConnectionSegment
     {
         if (horizontal)
         {
-            addHLineTo(end.getX());
+            addHLineTo(endX);
         }
         else
         {
-            addVLineTo(end.getY());
+            addVLineTo(endY);
         }
     }
 }
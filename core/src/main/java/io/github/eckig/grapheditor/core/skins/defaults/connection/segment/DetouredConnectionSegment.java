@@ -3,9 +3,9 @@
  */
 package io.github.eckig.grapheditor.core.skins.defaults.connection.segment;
 
-import io.github.eckig.grapheditor.utils.GeometryUtils;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.PointBuffer;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.SegmentIntersections;
 import javafx.geometry.Point2D;
-import javafx.scene.shape.ArcTo;
 
 /**
  * A connection segment that draws a detour (a small semicircle) at points where it intersects other connections.
@@ -32,22 +32,36 @@ public class DetouredConnectionSegment extends ConnectionSegment {
         super(start, end, intersections);
     }
 
+    /**
+     * Creates a new {@link DetouredConnectionSegment} instance between the point with the given index and the next point.
+     *
+     * @param points all points of the connection
+     * @param index the index of the point where the segment starts
+     * @param intersections the intersection-points of all segments of the connection with other connections or
+     *            {@code null}
+     * @since 17.10.2026
+     */
+    public DetouredConnectionSegment(final PointBuffer points, final int index, final SegmentIntersections intersections)
+    {
+        super(points, index, intersections);
+    }
+
     @Override
     protected void drawToFirstIntersection(final double intersection) {
 
         if (horizontal) {
 
-            if (sign * (intersection - getStart().getX()) > DETOUR_RADIUS) {
+            if (sign * (intersection - getStartX()) > DETOUR_RADIUS) {
                 addHLineTo(intersection - sign * DETOUR_RADIUS);
             }
-            addArcTo(intersection, getStart().getY() - DETOUR_RADIUS);
+            addArcTo(intersection, getStartY() - DETOUR_RADIUS);
 
         } else {
 
-            if (sign * (intersection - getStart().getY()) > DETOUR_RADIUS) {
+            if (sign * (intersection - getStartY()) > DETOUR_RADIUS) {
                 addVLineTo(intersection - sign * DETOUR_RADIUS);
             }
-            addArcTo(getStart().getX() + DETOUR_RADIUS, intersection);
+            addArcTo(getStartX() + DETOUR_RADIUS, intersection);
         }
     }
 
@@ -59,9 +73,9 @@ public class DetouredConnectionSegment extends ConnectionSegment {
             if (sign * (intersection - lastIntersection) <= DETOUR_TOLERANCE) {
                 addHLineTo(intersection);
             } else {
-                addArcTo(lastIntersection + sign * DETOUR_RADIUS, getStart().getY());
+                addArcTo(lastIntersection + sign * DETOUR_RADIUS, getStartY());
                 addHLineTo(intersection - sign * DETOUR_RADIUS);
-                addArcTo(intersection, getStart().getY() - DETOUR_RADIUS);
+                addArcTo(intersection, getStartY() - DETOUR_RADIUS);
             }
 
         } else {
@@ -69,9 +83,9 @@ public class DetouredConnectionSegment extends ConnectionSegment {
             if (sign * (intersection - lastIntersection) <= DETOUR_TOLERANCE) {
                 addVLineTo(intersection);
             } else {
-                addArcTo(getStart().getX(), lastIntersection + sign * DETOUR_RADIUS);
+                addArcTo(getStartX(), lastIntersection + sign * DETOUR_RADIUS);
                 addVLineTo(intersection - sign * DETOUR_RADIUS);
-                addArcTo(getStart().getX() + DETOUR_RADIUS, intersection);
+                addArcTo(getStartX() + DETOUR_RADIUS, intersection);
             }
         }
     }
@@ -80,11 +94,11 @@ public class DetouredConnectionSegment extends ConnectionSegment {
     protected void drawFromLastIntersection(final double intersection) {
 
         if (horizontal) {
-            addArcTo(intersection + sign * DETOUR_RADIUS, getStart().getY());
-            addHLineTo(getEnd().getX());
+            addArcTo(intersection + sign * DETOUR_RADIUS, getStartY());
+            addHLineTo(getEndX());
         } else {
-            addArcTo(getStart().getX(), intersection + sign * DETOUR_RADIUS);
-            addVLineTo(getEnd().getY());
+            addArcTo(getStartX(), intersection + sign * DETOUR_RADIUS);
+            addVLineTo(getEndY());
         }
     }
 
@@ -95,15 +109,6 @@ public class DetouredConnectionSegment extends ConnectionSegment {
      * @param y the final y position of the arc
      */
     private void addArcTo(final double x, final double y) {
-
-        final ArcTo arcTo = new ArcTo();
-
-        arcTo.setRadiusX(DETOUR_RADIUS);
-        arcTo.setRadiusY(DETOUR_RADIUS);
-        arcTo.setSweepFlag(sign > 0);
-        arcTo.setX(GeometryUtils.moveOffPixel(x));
-        arcTo.setY(GeometryUtils.moveOffPixel(y));
-
-        getPathElements().add(arcTo);
+        addArcTo(DETOUR_RADIUS, sign > 0, x, y);
     }
 }
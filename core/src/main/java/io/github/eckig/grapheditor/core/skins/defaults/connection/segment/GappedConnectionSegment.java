@@ -3,9 +3,9 @@
  */
 package io.github.eckig.grapheditor.core.skins.defaults.connection.segment;
 
-import io.github.eckig.grapheditor.utils.GeometryUtils;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.PointBuffer;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.SegmentIntersections;
 import javafx.geometry.Point2D;
-import javafx.scene.shape.MoveTo;
 
 /**
  * A connection segment that draws a gap at points where it intersects other connections.
@@ -26,6 +26,20 @@ public class GappedConnectionSegment extends ConnectionSegment {
         super(start, end, intersections);
     }
 
+    /**
+     * Creates a new {@link GappedConnectionSegment} instance between the point with the given index and the next point.
+     *
+     * @param points all points of the connection
+     * @param index the index of the point where the segment starts
+     * @param intersections the intersection-points of all segments of the connection with other connections or
+     *            {@code null}
+     * @since 17.10.2026
+     */
+    public GappedConnectionSegment(final PointBuffer points, final int index, final SegmentIntersections intersections)
+    {
+        super(points, index, intersections);
+    }
+
     @Override
     protected void drawToFirstIntersection(final double intersection) {
 
@@ -60,9 +74,9 @@ public class GappedConnectionSegment extends ConnectionSegment {
     protected void drawFromLastIntersection(final double intersection) {
 
         if (horizontal) {
-            addHLineTo(getEnd().getX());
+            addHLineTo(getEndX());
         } else {
-            addVLineTo(getEnd().getY());
+            addVLineTo(getEndY());
         }
     }
 
@@ -72,7 +86,7 @@ public class GappedConnectionSegment extends ConnectionSegment {
      * @param x the x coordinate to move to
      */
     private void addHGapTo(final double x) {
-        getPathElements().add(new MoveTo(GeometryUtils.moveOffPixel(x), GeometryUtils.moveOffPixel(getStart().getY())));
+        addMoveTo(x, getStartY());
     }
 
     /**
@@ -81,6 +95,6 @@ public class GappedConnectionSegment extends ConnectionSegment {
      * @param y the y coordinate to move to
      */
     private void addVGapTo(final double y) {
-        getPathElements().add(new MoveTo(GeometryUtils.moveOffPixel(getStart().getX()), GeometryUtils.moveOffPixel(y)));
+        addMoveTo(getStartX(), y);
     }
 }
@@ -2,6 +2,8 @@ package io.github.eckig.grapheditor.core.utils;
 
 import java.util.Map;
 
+import io.github.eckig.grapheditor.GSkin;
+import io.github.eckig.grapheditor.SkinLookup;
 import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.event.EventType;
@@ -30,4 +32,27 @@ public class EventUtils
         }
     }
 
+    /**
+     * Finds the skin of the innermost node, connector, connection or joint containing the target of the given event.
+     *
+     * @param pEvent
+     *            {@link Event}
+     * @param pSkinLookup
+     *            {@link SkinLookup}
+     * @return the {@link GSkin} the event belongs to or {@code null}
+     * @since 17.10.2026
+     */
+    public static GSkin<?> lookupTargetSkin(final Event pEvent, final SkinLookup pSkinLookup)
+    {
+        for (var node = pEvent.getTarget() instanceof Node n ? n : null; node != null; node = node.getParent())
+        {
+            final var skin = pSkinLookup.lookupSkin(node);
+            if (skin != null)
+            {
+                return skin;
+            }
+        }
+        return null;
+    }
+
 }
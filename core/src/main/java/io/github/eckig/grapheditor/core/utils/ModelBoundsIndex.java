@@ -0,0 +1,123 @@
+package io.github.eckig.grapheditor.core.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.emf.ecore.EObject;
+
+import io.github.eckig.grapheditor.model.GJoint;
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.utils.GeometryUtils;
+import javafx.geometry.Rectangle2D;
+
+
+/**
+ * Incrementally maintained bounds of the nodes and joints of a model.
+ *
+ * <p>
+ * The right and bottom edges of all items are kept in one sorted multiset per
+ * axis, so that adding, moving and removing an item costs {@code O(log n)}
+ * instead of a scan over the whole model. The bounds match
+ * {@link GeometryUtils#getBounds(io.github.eckig.grapheditor.model.GModel)}.
+ * </p>
+ *
+ * @since 17.10.2026
+ */
+public class ModelBoundsIndex
+{
+
+    // same margin as GeometryUtils#getBounds:
+    private static final double MARGIN = 10;
+
+    private final Map<EObject, double[]> mEdges = new HashMap<>();
+    private final TreeMap<Double, Integer> mRightEdges = new TreeMap<>();
+    private final TreeMap<Double, Integer> mBottomEdges = new TreeMap<>();
+
+    /**
+     * Adds the given node or joint, or updates its bounds if it was already
+     * added.
+     *
+     * @param pItem
+     *            a {@link GNode} or {@link GJoint}, other items are ignored
+     */
+    public void update(final EObject pItem)
+    {
+        final double right;
+        final double bottom;
+        if (pItem instanceof GNode node)
+        {
+            right = node.getX() + node.getWidth() + MARGIN;
+            bottom = node.getY() + node.getHeight() + MARGIN;
+        }
+        else if (pItem instanceof GJoint joint)
+        {
+            right = joint.getX() + MARGIN;
+            bottom = joint.getY() + MARGIN;
+        }
+        else
+        {
+            return;
+        }
+
+        final double[] edges = mEdges.get(pItem);
+        if (edges == null)
+        {
+            mEdges.put(pItem, new double[] { right, bottom });
+        }
+        else if (edges[0] != right || edges[1] != bottom)
+        {
+            decrement(mRightEdges, edges[0]);
+            decrement(mBottomEdges, edges[1]);
+            edges[0] = right;
+            edges[1] = bottom;
+        }
+        else
+        {
+            return;
+        }
+        mRightEdges.merge(right, 1, Integer::sum);
+        mBottomEdges.merge(bottom, 1, Integer::sum);
+    }
+
+    /**
+     * Removes the given node or joint.
+     *
+     * @param pItem
+     *            a {@link GNode} or {@link GJoint}
+     */
+    public void remove(final EObject pItem)
+    {
+        final double[] edges = mEdges.remove(pItem);
+        if (edges != null)
+        {
+            decrement(mRightEdges, edges[0]);
+            decrement(mBottomEdges, edges[1]);
+        }
+    }
+
+    /**
+     * Removes all items.
+     */
+    public void clear()
+    {
+        mEdges.clear();
+        mRightEdges.clear();
+        mBottomEdges.clear();
+    }
+
+    /**
+     * @return the bounds of all items, starting at the origin
+     */
+    public Rectangle2D getBounds()
+    {
+        final double maxX = mRightEdges.isEmpty() ? 0 : Math.max(0, mRightEdges.lastKey());
+        final double maxY = mBottomEdges.isEmpty() ? 0 : Math.max(0, mBottomEdges.lastKey());
+        return new Rectangle2D(0, 0, Math.ceil(maxX), Math.ceil(maxY));
+    }
+
+    private static void decrement(final TreeMap<Double, Integer> pEdges, final double pEdge)
+    {
+        pEdges.computeIfPresent(pEdge, (_, count) -> count == 1 ? null : count - 1);
+    }
+}
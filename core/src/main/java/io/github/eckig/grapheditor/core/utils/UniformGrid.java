@@ -0,0 +1,229 @@
+package io.github.eckig.grapheditor.core.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+
+/**
+ * Simple spatial index that buckets items into square cells of a fixed size.
+ *
+ * <p>
+ * An item may be added with several rectangles (e.g. one per connection
+ * segment) and is then registered in every cell touched by any of its
+ * rectangles. Items covering too many cells are kept in a separate list that
+ * is part of every query.
+ * </p>
+ *
+ * @param <T>
+ *            item type
+ * @since 17.10.2026
+ */
+public class UniformGrid<T>
+{
+
+    private static final int MAX_CELLS_PER_RECTANGLE = 256;
+    private static final long[] OVERSIZED = new long[0];
+
+    private final double mCellSize;
+    private final Map<Long, List<T>> mCells = new HashMap<>();
+    private final Map<T, long[]> mCellsOfItem = new HashMap<>();
+    private final List<T> mOversized = new ArrayList<>();
+
+    /**
+     * @param pCellSize
+     *            edge length of a single cell
+     */
+    public UniformGrid(final double pCellSize)
+    {
+        mCellSize = pCellSize;
+    }
+
+    /**
+     * Adds the given item to all cells touched by the given rectangle.
+     *
+     * @param pItem
+     *            item
+     * @param pMinX
+     *            min x
+     * @param pMinY
+     *            min y
+     * @param pMaxX
+     *            max x
+     * @param pMaxY
+     *            max y
+     */
+    public void add(final T pItem, final double pMinX, final double pMinY, final double pMaxX, final double pMaxY)
+    {
+        final int fromX = cell(Math.min(pMinX, pMaxX));
+        final int toX = cell(Math.max(pMinX, pMaxX));
+        final int fromY = cell(Math.min(pMinY, pMaxY));
+        final int toY = cell(Math.max(pMinY, pMaxY));
+
+        final long cellCount = (long) (toX - fromX + 1) * (toY - fromY + 1);
+        if (cellCount > MAX_CELLS_PER_RECTANGLE || cellCount <= 0)
+        {
+            if (mCellsOfItem.get(pItem) != OVERSIZED)
+            {
+                remove(pItem);
+                mCellsOfItem.put(pItem, OVERSIZED);
+                mOversized.add(pItem);
+            }
+            return;
+        }
+
+        long[] cells = mCellsOfItem.get(pItem);
+        if (cells == OVERSIZED)
+        {
+            return;
+        }
+
+        int len = cells == null ? 0 : (int) cells[0];
+        for (int x = fromX; x <= toX; x++)
+        {
+            for (int y = fromY; y <= toY; y++)
+            {
+                final long key = key(x, y);
+                if (cells != null && contains(cells, len, key))
+                {
+                    continue;
+                }
+                if (cells == null)
+                {
+                    cells = new long[8];
+                }
+                else if (len + 1 >= cells.length)
+                {
+                    cells = Arrays.copyOf(cells, cells.length * 2);
+                }
+                cells[++len] = key;
+                mCells.computeIfAbsent(key, _ -> new ArrayList<>(4)).add(pItem);
+            }
+        }
+        if (cells != null)
+        {
+            cells[0] = len;
+            mCellsOfItem.put(pItem, cells);
+        }
+    }
+
+    /**
+     * Removes the given item from all cells.
+     *
+     * @param pItem
+     *            item
+     */
+    public void remove(final T pItem)
+    {
+        final long[] cells = mCellsOfItem.remove(pItem);
+        if (cells == OVERSIZED)
+        {
+            mOversized.remove(pItem);
+        }
+        else if (cells != null)
+        {
+            for (int i = 1; i <= cells[0]; i++)
+            {
+                final List<T> items = mCells.get(cells[i]);
+                if (items != null)
+                {
+                    items.remove(pItem);
+                    if (items.isEmpty())
+                    {
+                        mCells.remove(cells[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all items.
+     */
+    public void clear()
+    {
+        mCells.clear();
+        mCellsOfItem.clear();
+        mOversized.clear();
+    }
+
+    /**
+     * Reports all items which <b>might</b> intersect the given rectangle.
+     * Items may be reported more than once.
+     *
+     * @param pMinX
+     *            min x
+     * @param pMinY
+     *            min y
+     * @param pMaxX
+     *            max x
+     * @param pMaxY
+     *            max y
+     * @param pConsumer
+     *            {@link Consumer} receiving the found items
+     */
+    public void query(final double pMinX, final double pMinY, final double pMaxX, final double pMaxY,
+            final Consumer<? super T> pConsumer)
+    {
+        final int fromX = cell(Math.min(pMinX, pMaxX));
+        final int toX = cell(Math.max(pMinX, pMaxX));
+        final int fromY = cell(Math.min(pMinY, pMaxY));
+        final int toY = cell(Math.max(pMinY, pMaxY));
+
+        final long cellCount = (long) (toX - fromX + 1) * (toY - fromY + 1);
+        if (cellCount > mCells.size() || cellCount <= 0)
+        {
+            // cheaper to look at all non-empty cells:
+            for (final var entry : mCells.entrySet())
+            {
+                final long key = entry.getKey();
+                final int x = (int) (key >> 32);
+                final int y = (int) key;
+                if (x >= fromX && x <= toX && y >= fromY && y <= toY)
+                {
+                    entry.getValue().forEach(pConsumer);
+                }
+            }
+        }
+        else
+        {
+            for (int x = fromX; x <= toX; x++)
+            {
+                for (int y = fromY; y <= toY; y++)
+                {
+                    final List<T> items = mCells.get(key(x, y));
+                    if (items != null)
+                    {
+                        items.forEach(pConsumer);
+                    }
+                }
+            }
+        }
+        mOversized.forEach(pConsumer);
+    }
+
+    private int cell(final double pCoordinate)
+    {
+        return (int) Math.floor(pCoordinate / mCellSize);
+    }
+
+    private static long key(final int pX, final int pY)
+    {
+        return (long) pX << 32 | pY & 0xFFFFFFFFL;
+    }
+
+    private static boolean contains(final long[] pCells, final int pLength, final long pKey)
+    {
+        for (int i = 1; i <= pLength; i++)
+        {
+            if (pCells[i] == pKey)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,8 +3,6 @@
  */
 package io.github.eckig.grapheditor.core.view;
 
-import java.util.Collection;
-
 import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.model.GModel;
 
@@ -27,4 +25,60 @@ public interface ConnectionLayout
      * Draws all connections according to the latest layout values.
      */
     void draw();
+
+    /**
+     * Marks the given connection as changed, so that it is redrawn during the
+     * next {@link #draw()}. Implementations that always redraw all
+     * connections may ignore this.
+     *
+     * @param pConnection
+     *            the {@link GConnection} whose geometry might have changed
+     * @since 17.10.2026
+     */
+    default void markDirty(final GConnection pConnection)
+    {
+        // redraws everything anyway
+    }
+
+    /**
+     * Marks all connections as changed, so that all of them are redrawn during
+     * the next {@link #draw()}. Implementations that always redraw all
+     * connections may ignore this.
+     *
+     * @since 17.10.2026
+     */
+    default void markAllDirty()
+    {
+        // redraws everything anyway
+    }
+
+    /**
+     * Shows the given connection moved by the given offset, e.g. while it is
+     * dragged together with all of its nodes and joints. Implementations may
+     * move the already drawn connection instead of redrawing it until it is
+     * translated back to an offset of {@code 0}.
+     *
+     * @param pConnection
+     *            the {@link GConnection} to move
+     * @param pX
+     *            the x offset
+     * @param pY
+     *            the y offset
+     * @since 17.10.2026
+     */
+    default void translate(final GConnection pConnection, final double pX, final double pY)
+    {
+        markDirty(pConnection);
+    }
+
+    /**
+     * Releases everything this layout attached to the view or the skins, when
+     * the layout is replaced. The layout is not used afterwards.
+     *
+     * @since 17.10.2026
+     */
+    default void dispose()
+    {
+        // nothing attached
+    }
 }
@@ -0,0 +1,129 @@
+package io.github.eckig.grapheditor.core.view;
+
+import java.util.Objects;
+
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+
+/**
+ * Single-flight scheduler for drawing the connections.
+ *
+ * <p>
+ * Any number of {@link #requestDraw() draw requests} within one pulse result
+ * in exactly one draw, which is performed after the layout pass of the pulse
+ * (in a {@link Scene#addPostLayoutPulseListener(Runnable) post layout pulse
+ * listener}), once the nodes have their final size and position. As long as
+ * the owner is not part of a scene, there are no pulses and requests are
+ * drawn immediately.
+ * </p>
+ *
+ * @since 17.10.2026
+ */
+public final class DrawScheduler
+{
+
+    private final Node mOwner;
+    private final Runnable mDraw;
+    private final Runnable mOnPostLayoutPulse = this::onPostLayoutPulse;
+    private final ChangeListener<Scene> mSceneListener = (_, o, n) -> sceneChanged(o, n);
+
+    private boolean mDirty;
+    private long mRequested;
+    private long mExecuted;
+
+    /**
+     * Creates a new scheduler.
+     *
+     * @param pOwner
+     *            the {@link Node} whose {@link Scene} pulses are used
+     * @param pDraw
+     *            the actual draw operation
+     */
+    public DrawScheduler(final Node pOwner, final Runnable pDraw)
+    {
+        mOwner = Objects.requireNonNull(pOwner);
+        mDraw = Objects.requireNonNull(pDraw);
+        pOwner.sceneProperty().addListener(new WeakChangeListener<>(mSceneListener));
+        sceneChanged(null, pOwner.getScene());
+    }
+
+    /**
+     * Requests a draw after the layout pass of the current or next pulse.
+     */
+    public void requestDraw()
+    {
+        mRequested++;
+        if (mOwner.getScene() == null)
+        {
+            draw();
+        }
+        else if (!mDirty)
+        {
+            mDirty = true;
+            Platform.requestNextPulse();
+        }
+    }
+
+    /**
+     * Performs a pending draw right away instead of waiting for the next pulse.
+     */
+    public void flush()
+    {
+        if (mDirty)
+        {
+            draw();
+        }
+    }
+
+    /**
+     * @return the number of draws requested since this scheduler was created
+     */
+    public long getRequestedCount()
+    {
+        return mRequested;
+    }
+
+    /**
+     * @return the number of draws performed since this scheduler was created
+     */
+    public long getExecutedCount()
+    {
+        return mExecuted;
+    }
+
+    private void onPostLayoutPulse()
+    {
+        if (mDirty)
+        {
+            draw();
+        }
+    }
+
+    private void draw()
+    {
+        // requests made while drawing are served in the next pulse:
+        mDirty = false;
+        mExecuted++;
+        mDraw.run();
+    }
+
+    private void sceneChanged(final Scene pOldScene, final Scene pNewScene)
+    {
+        if (pOldScene != null)
+        {
+            pOldScene.removePostLayoutPulseListener(mOnPostLayoutPulse);
+        }
+        if (pNewScene != null)
+        {
+            pNewScene.addPostLayoutPulseListener(mOnPostLayoutPulse);
+        }
+        else if (mDirty)
+        {
+            draw();
+        }
+    }
+}
@@ -3,6 +3,9 @@
  */
 package io.github.eckig.grapheditor.core.view;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import io.github.eckig.grapheditor.GConnectionSkin;
 import io.github.eckig.grapheditor.GJointSkin;
 import io.github.eckig.grapheditor.GNodeSkin;
@@ -14,7 +17,10 @@ import io.github.eckig.grapheditor.core.view.impl.GraphEditorGrid;
 import io.github.eckig.grapheditor.utils.GraphEditorProperties;
 import io.github.eckig.grapheditor.window.PanningWindow;
 import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.Region;
@@ -59,16 +65,24 @@ public class GraphEditorView extends Region
         protected void layoutChildren()
         {
             super.layoutChildren();
-            drawConnections();
+            mDrawScheduler.requestDraw();
         }
     };
 
     private final GraphEditorGrid mGrid = new GraphEditorGrid();
     private final InvalidationListener mGridListener = _ -> resizeRelocateGrid();
+    private final InvalidationListener mVisibleBoundsListener = _ -> updateVisibleBounds();
+    private final ReadOnlyObjectWrapper<Rectangle2D> mVisibleBounds = new ReadOnlyObjectWrapper<>(this, "visibleBounds"); //$NON-NLS-1$
     private final SelectionBox mSelectionBox = new SelectionBox();
     private final GraphEditorProperties mEditorProperties;
+    private final DrawScheduler mDrawScheduler = new DrawScheduler(this, this::drawConnections);
+    private final Set<Node> mNodeRemovals = new HashSet<>();
+    private final Set<Node> mConnectionRemovals = new HashSet<>();
+
+    private int mUpdateDepth;
 
     private ConnectionLayout mConnectionLayout;
+    private Node mConnectionUnderlay;
     private PanningWindow mParent;
 
     /**
@@ -104,11 +118,72 @@ public class GraphEditorView extends Region
         mConnectionLayout = pConnectionLayout;
     }
 
+    /**
+     * Gets the connection-layout used by the view.
+     *
+     * @return the graph editor's {@link ConnectionLayout} instance or {@code null}
+     * @since 17.10.2026
+     */
+    public ConnectionLayout getConnectionLayout()
+    {
+        return mConnectionLayout;
+    }
+
+    /**
+     * Gets the scheduler drawing the connections at most once per pulse.
+     * Connections are drawn after every layout pass of the view and whenever
+     * a draw is {@link DrawScheduler#requestDraw() requested}.
+     *
+     * @return the {@link DrawScheduler} of this view
+     * @since 17.10.2026
+     */
+    public DrawScheduler getDrawScheduler()
+    {
+        return mDrawScheduler;
+    }
+
+    /**
+     * Sets a node that is shown below the connection layer (and above the
+     * grid), for example to paint connections more efficiently than with one
+     * node per connection. The node is not managed by the view.
+     *
+     * @param pUnderlay
+     *            the underlay or {@code null} to remove the current underlay
+     * @since 17.10.2026
+     */
+    public void setConnectionUnderlay(final Node pUnderlay)
+    {
+        if (mConnectionUnderlay != null)
+        {
+            getChildren().remove(mConnectionUnderlay);
+        }
+        mConnectionUnderlay = pUnderlay;
+        if (pUnderlay != null)
+        {
+            pUnderlay.setManaged(false);
+            getChildren().add(getChildren().indexOf(mConnectionLayer), pUnderlay);
+        }
+    }
+
+    /**
+     * Gets the node shown below the connection layer.
+     *
+     * @return the underlay set by {@link #setConnectionUnderlay(Node)} or
+     *         {@code null}
+     * @since 17.10.2026
+     */
+    public Node getConnectionUnderlay()
+    {
+        return mConnectionUnderlay;
+    }
+
     /**
      * Clears all elements from the view.
      */
     public void clear()
     {
+        mNodeRemovals.clear();
+        mConnectionRemovals.clear();
         mNodeLayer.getChildren().clear();
         mConnectionLayer.getChildren().clear();
     }
@@ -123,6 +198,7 @@ public class GraphEditorView extends Region
     {
         if (pNodeSkin != null && !(pNodeSkin instanceof VirtualSkin))
         {
+            removePending();
             mNodeLayer.getChildren().add(pNodeSkin.getRoot());
         }
     }
@@ -137,6 +213,7 @@ public class GraphEditorView extends Region
     {
         if (pConnectionSkin != null && !(pConnectionSkin instanceof VirtualSkin))
         {
+            removePending();
             mConnectionLayer.getChildren().addFirst(pConnectionSkin.getRoot());
         }
     }
@@ -151,6 +228,7 @@ public class GraphEditorView extends Region
     {
         if (pJointSkin != null && !(pJointSkin instanceof VirtualSkin))
         {
+            removePending();
             mConnectionLayer.getChildren().add(pJointSkin.getRoot());
         }
     }
@@ -165,6 +243,7 @@ public class GraphEditorView extends Region
     {
         if (pTailSkin != null && !(pTailSkin instanceof VirtualSkin))
         {
+            removePending();
             // add to back:
             mConnectionLayer.getChildren().addFirst(pTailSkin.getRoot());
         }
@@ -181,7 +260,7 @@ public class GraphEditorView extends Region
     {
         if (pNodeSkin != null && !(pNodeSkin instanceof VirtualSkin))
         {
-            mNodeLayer.getChildren().remove(pNodeSkin.getRoot());
+            remove(mNodeLayer, mNodeRemovals, pNodeSkin.getRoot());
         }
     }
 
@@ -196,7 +275,7 @@ public class GraphEditorView extends Region
     {
         if (pConnectionSkin != null && !(pConnectionSkin instanceof VirtualSkin))
         {
-            mConnectionLayer.getChildren().remove(pConnectionSkin.getRoot());
+            remove(mConnectionLayer, mConnectionRemovals, pConnectionSkin.getRoot());
         }
     }
 
@@ -211,7 +290,7 @@ public class GraphEditorView extends Region
     {
         if (pJointSkin != null && !(pJointSkin instanceof VirtualSkin))
         {
-            mConnectionLayer.getChildren().remove(pJointSkin.getRoot());
+            remove(mConnectionLayer, mConnectionRemovals, pJointSkin.getRoot());
         }
     }
 
@@ -226,7 +305,71 @@ public class GraphEditorView extends Region
     {
         if (pTailSkin != null && !(pTailSkin instanceof VirtualSkin))
         {
-            mConnectionLayer.getChildren().remove(pTailSkin.getRoot());
+            remove(mConnectionLayer, mConnectionRemovals, pTailSkin.getRoot());
+        }
+    }
+
+    /**
+     * Begins an update of the view: until the matching {@link #endUpdate()}
+     * the skins removed from the view are collected and removed from their
+     * layer at once, instead of searching the layer for every single one.
+     *
+     * <p>
+     * Must be called on the JavaFX application thread.
+     * </p>
+     *
+     * @since 17.10.2026
+     */
+    public void beginUpdate()
+    {
+        mUpdateDepth++;
+    }
+
+    /**
+     * Ends an update begun with {@link #beginUpdate()}. Ending the outermost
+     * update removes all skins removed during the update.
+     *
+     * @since 17.10.2026
+     */
+    public void endUpdate()
+    {
+        if (mUpdateDepth == 0)
+        {
+            throw new IllegalStateException("No update to end."); //$NON-NLS-1$
+        }
+        if (--mUpdateDepth == 0)
+        {
+            removePending();
+        }
+    }
+
+    private void remove(final Pane pLayer, final Set<Node> pRemovals, final Node pRoot)
+    {
+        if (mUpdateDepth > 0)
+        {
+            pRemovals.add(pRoot);
+        }
+        else
+        {
+            pLayer.getChildren().remove(pRoot);
+        }
+    }
+
+    /**
+     * Removes the skins collected during an update, so that a skin added
+     * afterwards is not removed by mistake.
+     */
+    private void removePending()
+    {
+        if (!mNodeRemovals.isEmpty())
+        {
+            mNodeLayer.getChildren().removeAll(mNodeRemovals);
+            mNodeRemovals.clear();
+        }
+        if (!mConnectionRemovals.isEmpty())
+        {
+            mConnectionLayer.getChildren().removeAll(mConnectionRemovals);
+            mConnectionRemovals.clear();
         }
     }
 
@@ -273,7 +416,7 @@ public class GraphEditorView extends Region
         final double height = getHeight();
         mNodeLayer.resizeRelocate(0, 0, width, height);
         mConnectionLayer.resizeRelocate(0, 0, width, height);
-        drawConnections();
+        mDrawScheduler.requestDraw();
     }
 
     private ScrollPane findParent()
@@ -370,12 +513,43 @@ public class GraphEditorView extends Region
         if (mParent != null)
         {
             mParent.viewportBoundsProperty().removeListener(mGridListener);
+            mParent.viewportBoundsProperty().removeListener(mVisibleBoundsListener);
         }
         mParent = pWindow;
         if (mParent != null)
         {
             mParent.viewportBoundsProperty().addListener(mGridListener);
+            mParent.viewportBoundsProperty().addListener(mVisibleBoundsListener);
             resizeRelocateGrid();
         }
+        updateVisibleBounds();
+    }
+
+    private void updateVisibleBounds()
+    {
+        final var b = mParent == null ? null : mParent.getViewportBounds();
+        if (b == null || b.isEmpty())
+        {
+            mVisibleBounds.set(null);
+        }
+        else
+        {
+            final var zoom = mParent.getZoom();
+            mVisibleBounds.set(new Rectangle2D(-b.getMinX() / zoom, -b.getMinY() / zoom, b.getWidth() / zoom,
+                    b.getHeight() / zoom));
+        }
+    }
+
+    /**
+     * The area of this view that is currently visible inside its
+     * {@link #setPanningWindow(PanningWindow) panning window}, in the
+     * coordinates of the view (i.e. the model).
+     *
+     * @return the visible area or {@code null} if unknown
+     * @since 17.10.2026
+     */
+    public ReadOnlyObjectProperty<Rectangle2D> visibleBoundsProperty()
+    {
+        return mVisibleBounds.getReadOnlyProperty();
     }
 }
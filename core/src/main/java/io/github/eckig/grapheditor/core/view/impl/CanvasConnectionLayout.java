@@ -0,0 +1,605 @@
+package io.github.eckig.grapheditor.core.view.impl;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import io.github.eckig.grapheditor.SkinLookup;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.PointBuffer;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.SegmentIntersections;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.SimpleConnectionSkin;
+import io.github.eckig.grapheditor.core.view.ConnectionLayout;
+import io.github.eckig.grapheditor.core.view.GraphEditorView;
+import io.github.eckig.grapheditor.model.GConnection;
+import javafx.beans.InvalidationListener;
+import javafx.event.EventHandler;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.transform.Scale;
+import javafx.stage.Screen;
+
+
+/**
+ * {@link ConnectionLayout} for large models, that paints the connections into a few {@link Canvas} tiles covering the
+ * visible area of the {@link GraphEditorView}, instead of showing one path per connection in the scene graph.
+ *
+ * <p>
+ * Connections that are selected or hovered are promoted to their regular paths, so that they can be styled, selected
+ * and edited as usual. Which connection is under the cursor is found geometrically through the spatial index of the
+ * layout, see {@link #getConnectionAt(double, double)}.
+ * </p>
+ *
+ * <p>
+ * Only variants of {@link SimpleConnectionSkin} are painted, using the stroke of their (hidden) path. Effects of the
+ * path are not painted. Other connection skins are shown as usual.
+ * </p>
+ *
+ * @since 17.10.2026
+ */
+public class CanvasConnectionLayout extends DefaultConnectionLayout
+{
+
+    private static final double TILE_SIZE = 512;
+    private static final int MAX_TILES = 64;
+    private static final double MIN_RENDER_SCALE = 1.0 / 16;
+    private static final double MAX_RENDER_SCALE = 4;
+    private static final double HIT_TOLERANCE = 5;
+
+    // strokes, gaps and detours reach beyond the points of a connection:
+    private static final double PAINT_MARGIN = 10;
+
+    private final GraphEditorView mView;
+    private final Group mTileGroup = new Group();
+    private final Map<Long, Canvas> mTiles = new HashMap<>();
+    private final Deque<Canvas> mUnusedTiles = new ArrayDeque<>();
+    private final Set<Long> mDirtyTiles = new HashSet<>();
+    private double mRenderScale;
+    private double mTileSize;
+    private long mPaintCount;
+
+    // bounds (min x, min y, max x, max y) of the drawn connections:
+    private final Map<SimpleConnectionSkin, double[]> mBounds = new IdentityHashMap<>();
+    private final Map<SimpleConnectionSkin, Observation> mObserved = new IdentityHashMap<>();
+    private final Set<SimpleConnectionSkin> mPromotionCandidates = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<SimpleConnectionSkin> mDetached = Collections.newSetFromMap(new IdentityHashMap<>());
+    private SimpleConnectionSkin mHovered;
+
+    // scratch state of painting a tile and of the hit test:
+    private final Set<SimpleConnectionSkin> mTileContent = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Consumer<SimpleConnectionSkin> mAddTileContent = mTileContent::add;
+    private final Consumer<SimpleConnectionSkin> mHitTest = this::hitTest;
+    private double mHitX;
+    private double mHitY;
+    private double mHitDistance;
+    private SimpleConnectionSkin mHit;
+
+    private final InvalidationListener mVisibleBoundsListener = _ -> requestRedraw();
+    private final EventHandler<MouseEvent> mMouseMoved = e -> setHovered(skinAt(e.getX(), e.getY()));
+    private final EventHandler<MouseEvent> mMouseExited = _ -> setHovered(null);
+
+    /**
+     * Creates a new {@link CanvasConnectionLayout} instance. Only one instance should exist per
+     * {@link GraphEditorView}.
+     *
+     * @param pSkinLookup
+     *            the {@link SkinLookup} used to look up skins
+     * @param pView
+     *            the {@link GraphEditorView} to paint into
+     */
+    public CanvasConnectionLayout(final SkinLookup pSkinLookup, final GraphEditorView pView)
+    {
+        super(pSkinLookup);
+        mView = pView;
+
+        mTileGroup.setMouseTransparent(true);
+        mView.setConnectionUnderlay(mTileGroup);
+        mView.visibleBoundsProperty().addListener(mVisibleBoundsListener);
+        mView.addEventFilter(MouseEvent.MOUSE_MOVED, mMouseMoved);
+        mView.addEventFilter(MouseEvent.MOUSE_EXITED, mMouseExited);
+    }
+
+    @Override
+    public void draw()
+    {
+        super.draw();
+
+        forgetDetachedConnections();
+        updatePromotions();
+        updateTiles();
+        paintDirtyTiles();
+    }
+
+    /**
+     * Removes the tiles and all listeners from the view and shows the connections as regular paths again.
+     */
+    @Override
+    public void dispose()
+    {
+        mView.visibleBoundsProperty().removeListener(mVisibleBoundsListener);
+        mView.removeEventFilter(MouseEvent.MOUSE_MOVED, mMouseMoved);
+        mView.removeEventFilter(MouseEvent.MOUSE_EXITED, mMouseExited);
+        if (mView.getConnectionUnderlay() == mTileGroup)
+        {
+            mView.setConnectionUnderlay(null);
+        }
+
+        for (final var skin : List.copyOf(mObserved.keySet()))
+        {
+            forget(skin);
+        }
+        for (final var skin : List.copyOf(mBounds.keySet()))
+        {
+            forget(skin);
+        }
+        mDetached.clear();
+        mTiles.clear();
+        mUnusedTiles.clear();
+        mDirtyTiles.clear();
+        mTileGroup.getChildren().clear();
+
+        super.dispose();
+    }
+
+    @Override
+    public void translate(final GConnection pConnection, final double pX, final double pY)
+    {
+        // the painted connections can not be moved separately, so they are redrawn instead:
+        if (pConnection != null && getSkinLookup().lookupConnection(pConnection) instanceof SimpleConnectionSkin)
+        {
+            markDirty(pConnection);
+        }
+        else
+        {
+            super.translate(pConnection, pX, pY);
+        }
+    }
+
+    /**
+     * Finds the connection painted at the given position.
+     *
+     * @param pX
+     *            x coordinate in the view
+     * @param pY
+     *            y coordinate in the view
+     * @return the {@link GConnection} closest to the given position, within a small tolerance, or {@code null}
+     */
+    public GConnection getConnectionAt(final double pX, final double pY)
+    {
+        final var skin = skinAt(pX, pY);
+        return skin == null ? null : skin.getItem();
+    }
+
+    @Override
+    protected boolean drawConnection(final SimpleConnectionSkin pSkin, final PointBuffer pPoints,
+            final SegmentIntersections pIntersections)
+    {
+        if (pPoints == null)
+        {
+            forget(pSkin);
+            return super.drawConnection(pSkin, null, null);
+        }
+
+        observe(pSkin);
+
+        var bounds = mBounds.get(pSkin);
+        if (bounds == null)
+        {
+            pSkin.setPaintedExternally(!isPromoted(pSkin));
+        }
+
+        final boolean redrawn = super.drawConnection(pSkin, pPoints, pIntersections);
+        if (redrawn || bounds == null)
+        {
+            if (bounds == null)
+            {
+                bounds = new double[4];
+                mBounds.put(pSkin, bounds);
+            }
+            else if (pSkin.isPaintedExternally())
+            {
+                invalidate(bounds);
+            }
+
+            computeBounds(pPoints, bounds);
+            if (pSkin.isPaintedExternally())
+            {
+                invalidate(bounds);
+            }
+        }
+        return redrawn;
+    }
+
+    /**
+     * Listens to the selection and hover state of the given skin and whether it is still part of the view.
+     */
+    private void observe(final SimpleConnectionSkin pSkin)
+    {
+        if (!mObserved.containsKey(pSkin))
+        {
+            final InvalidationListener promotionListener = _ -> promotionChanged(pSkin);
+            final InvalidationListener parentListener = _ -> {
+                if (pSkin.getRoot().getParent() == null)
+                {
+                    mDetached.add(pSkin);
+                    requestRedraw();
+                }
+            };
+            pSkin.selectedProperty().addListener(promotionListener);
+            pSkin.getRoot().hoverProperty().addListener(promotionListener);
+            pSkin.getRoot().parentProperty().addListener(parentListener);
+            mObserved.put(pSkin, new Observation(promotionListener, parentListener));
+        }
+    }
+
+    /**
+     * Stops painting connections whose skin has been removed from the view.
+     */
+    private void forgetDetachedConnections()
+    {
+        for (final var skin : mDetached)
+        {
+            if (skin.getRoot().getParent() == null)
+            {
+                forget(skin);
+            }
+        }
+        mDetached.clear();
+    }
+
+    private void forget(final SimpleConnectionSkin pSkin)
+    {
+        final var observation = mObserved.remove(pSkin);
+        if (observation != null)
+        {
+            pSkin.selectedProperty().removeListener(observation.promotionListener());
+            pSkin.getRoot().hoverProperty().removeListener(observation.promotionListener());
+            pSkin.getRoot().parentProperty().removeListener(observation.parentListener());
+        }
+        invalidate(mBounds.remove(pSkin));
+        mPromotionCandidates.remove(pSkin);
+        pSkin.setPaintedExternally(false);
+        if (mHovered == pSkin)
+        {
+            mHovered = null;
+        }
+    }
+
+    private boolean isPromoted(final SimpleConnectionSkin pSkin)
+    {
+        return pSkin == mHovered || pSkin.isSelected() || pSkin.getRoot().isHover();
+    }
+
+    private void promotionChanged(final SimpleConnectionSkin pSkin)
+    {
+        mPromotionCandidates.add(pSkin);
+        requestRedraw();
+    }
+
+    private void setHovered(final SimpleConnectionSkin pSkin)
+    {
+        if (mHovered != pSkin)
+        {
+            if (mHovered != null)
+            {
+                promotionChanged(mHovered);
+            }
+            mHovered = pSkin;
+            if (pSkin != null)
+            {
+                promotionChanged(pSkin);
+            }
+        }
+    }
+
+    /**
+     * Swaps connections between the canvas and their regular paths.
+     */
+    private void updatePromotions()
+    {
+        for (final var skin : mPromotionCandidates)
+        {
+            final var bounds = mBounds.get(skin);
+            final boolean paintedExternally = !isPromoted(skin);
+            if (bounds != null && skin.isPaintedExternally() != paintedExternally)
+            {
+                skin.setPaintedExternally(paintedExternally);
+                invalidate(bounds);
+            }
+        }
+        mPromotionCandidates.clear();
+    }
+
+    /**
+     * Creates the tiles covering the visible area and releases the others.
+     */
+    private void updateTiles()
+    {
+        final Rectangle2D visible = mView.visibleBoundsProperty().get();
+        final double minX = visible == null ? 0 : visible.getMinX();
+        final double minY = visible == null ? 0 : visible.getMinY();
+        final double maxX = visible == null ? mView.getWidth() : visible.getMaxX();
+        final double maxY = visible == null ? mView.getHeight() : visible.getMaxY();
+
+        // the tiles are rendered in (about) screen resolution, unless this would require too many tiles:
+        double renderScale = getRenderScale();
+        while (renderScale > MIN_RENDER_SCALE && tileCount(minX, minY, maxX, maxY, TILE_SIZE / renderScale) > MAX_TILES)
+        {
+            renderScale /= 2;
+        }
+        if (renderScale != mRenderScale)
+        {
+            mRenderScale = renderScale;
+            mTileSize = TILE_SIZE / renderScale;
+            for (final var tile : mTiles.values())
+            {
+                release(tile);
+            }
+            mTiles.clear();
+        }
+
+        final int fromColumn = cell(minX);
+        final int toColumn = cell(maxX);
+        final int fromRow = cell(minY);
+        final int toRow = cell(maxY);
+
+        for (final var iterator = mTiles.entrySet().iterator(); iterator.hasNext();)
+        {
+            final var entry = iterator.next();
+            final int column = column(entry.getKey());
+            final int row = row(entry.getKey());
+            if (column < fromColumn || column > toColumn || row < fromRow || row > toRow)
+            {
+                release(entry.getValue());
+                iterator.remove();
+            }
+        }
+
+        for (int column = fromColumn; column <= toColumn; column++)
+        {
+            for (int row = fromRow; row <= toRow; row++)
+            {
+                final long key = key(column, row);
+                if (!mTiles.containsKey(key))
+                {
+                    mTiles.put(key, acquire(column, row));
+                    mDirtyTiles.add(key);
+                }
+            }
+        }
+    }
+
+    private double getRenderScale()
+    {
+        final double scale = mView.getLocalToSceneTransform().getMxx();
+        if (!(scale > 0))
+        {
+            return getOutputScale();
+        }
+        // powers of two, so that zooming does not repaint all tiles every time:
+        final double quantized = Math.pow(2, Math.round(Math.log(scale) / Math.log(2)));
+        return Math.max(MIN_RENDER_SCALE, Math.min(MAX_RENDER_SCALE, quantized)) * getOutputScale();
+    }
+
+    /**
+     * @return the number of device pixels per scene unit, e.g. {@code 2} on HiDPI screens
+     */
+    private double getOutputScale()
+    {
+        final var scene = mView.getScene();
+        final var window = scene == null ? null : scene.getWindow();
+        final double scale = window == null ? Screen.getPrimary().getOutputScaleX() : window.getOutputScaleX();
+        return scale > 0 ? scale : 1;
+    }
+
+    private static long tileCount(final double pMinX, final double pMinY, final double pMaxX, final double pMaxY,
+            final double pTileSize)
+    {
+        final long columns = (long) Math.floor(pMaxX / pTileSize) - (long) Math.floor(pMinX / pTileSize) + 1;
+        final long rows = (long) Math.floor(pMaxY / pTileSize) - (long) Math.floor(pMinY / pTileSize) + 1;
+        return columns * rows;
+    }
+
+    private Canvas acquire(final int pColumn, final int pRow)
+    {
+        var tile = mUnusedTiles.poll();
+        if (tile == null)
+        {
+            tile = new Canvas(TILE_SIZE, TILE_SIZE);
+        }
+        tile.getTransforms().setAll(new Scale(1 / mRenderScale, 1 / mRenderScale));
+        tile.setLayoutX(pColumn * mTileSize);
+        tile.setLayoutY(pRow * mTileSize);
+        mTileGroup.getChildren().add(tile);
+        return tile;
+    }
+
+    private void release(final Canvas pTile)
+    {
+        mTileGroup.getChildren().remove(pTile);
+        mUnusedTiles.push(pTile);
+    }
+
+    private void paintDirtyTiles()
+    {
+        for (final long key : mDirtyTiles)
+        {
+            final var tile = mTiles.get(key);
+            if (tile != null)
+            {
+                paint(tile, column(key), row(key));
+            }
+        }
+        mDirtyTiles.clear();
+    }
+
+    private void paint(final Canvas pTile, final int pColumn, final int pRow)
+    {
+        mPaintCount++;
+        final GraphicsContext gc = pTile.getGraphicsContext2D();
+        gc.setTransform(1, 0, 0, 1, 0, 0);
+        gc.clearRect(0, 0, TILE_SIZE, TILE_SIZE);
+
+        final double x = pColumn * mTileSize;
+        final double y = pRow * mTileSize;
+        gc.setTransform(mRenderScale, 0, 0, mRenderScale, -x * mRenderScale, -y * mRenderScale);
+
+        queryConnections(x - PAINT_MARGIN, y - PAINT_MARGIN, x + mTileSize + PAINT_MARGIN, y + mTileSize + PAINT_MARGIN,
+                mAddTileContent);
+        try
+        {
+            for (final var skin : mTileContent)
+            {
+                if (skin.isPaintedExternally())
+                {
+                    skin.paint(gc);
+                }
+            }
+        }
+        finally
+        {
+            mTileContent.clear();
+        }
+    }
+
+    /**
+     * @return the number of tiles painted so far
+     */
+    long getPaintCount()
+    {
+        return mPaintCount;
+    }
+
+    /**
+     * @return the tiles currently shown
+     */
+    List<Canvas> getTiles()
+    {
+        return List.copyOf(mTiles.values());
+    }
+
+    /**
+     * Marks all tiles intersecting the given bounds for repaint.
+     */
+    private void invalidate(final double[] pBounds)
+    {
+        if (pBounds == null || mTiles.isEmpty())
+        {
+            return;
+        }
+
+        final int toColumn = cell(pBounds[2] + PAINT_MARGIN);
+        final int toRow = cell(pBounds[3] + PAINT_MARGIN);
+        for (int column = cell(pBounds[0] - PAINT_MARGIN); column <= toColumn; column++)
+        {
+            for (int row = cell(pBounds[1] - PAINT_MARGIN); row <= toRow; row++)
+            {
+                final long key = key(column, row);
+                if (mTiles.containsKey(key))
+                {
+                    mDirtyTiles.add(key);
+                }
+            }
+        }
+    }
+
+    private static void computeBounds(final PointBuffer pPoints, final double[] pBounds)
+    {
+        pBounds[0] = Double.POSITIVE_INFINITY;
+        pBounds[1] = Double.POSITIVE_INFINITY;
+        pBounds[2] = Double.NEGATIVE_INFINITY;
+        pBounds[3] = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < pPoints.size(); i++)
+        {
+            pBounds[0] = Math.min(pBounds[0], pPoints.getX(i));
+            pBounds[1] = Math.min(pBounds[1], pPoints.getY(i));
+            pBounds[2] = Math.max(pBounds[2], pPoints.getX(i));
+            pBounds[3] = Math.max(pBounds[3], pPoints.getY(i));
+        }
+    }
+
+    private SimpleConnectionSkin skinAt(final double pX, final double pY)
+    {
+        mHitX = pX;
+        mHitY = pY;
+        mHitDistance = HIT_TOLERANCE;
+        mHit = null;
+        queryConnections(pX - HIT_TOLERANCE, pY - HIT_TOLERANCE, pX + HIT_TOLERANCE, pY + HIT_TOLERANCE, mHitTest);
+
+        final var hit = mHit;
+        mHit = null;
+        return hit;
+    }
+
+    private void hitTest(final SimpleConnectionSkin pSkin)
+    {
+        final var points = getPoints(pSkin);
+        if (points == null || !mBounds.containsKey(pSkin))
+        {
+            return;
+        }
+
+        for (int i = 0; i < points.size() - 1; i++)
+        {
+            final double distance = distanceToSegment(mHitX, mHitY, points.getX(i), points.getY(i),
+                    points.getX(i + 1), points.getY(i + 1));
+            if (distance <= mHitDistance)
+            {
+                mHitDistance = distance;
+                mHit = pSkin;
+            }
+        }
+    }
+
+    private static double distanceToSegment(final double pX, final double pY, final double pStartX,
+            final double pStartY, final double pEndX, final double pEndY)
+    {
+        final double dx = pEndX - pStartX;
+        final double dy = pEndY - pStartY;
+        final double lengthSq = dx * dx + dy * dy;
+        final double t = lengthSq == 0 ? 0
+                : Math.max(0, Math.min(1, ((pX - pStartX) * dx + (pY - pStartY) * dy) / lengthSq));
+        return Math.hypot(pX - (pStartX + t * dx), pY - (pStartY + t * dy));
+    }
+
+    private void requestRedraw()
+    {
+        mView.requestLayout();
+    }
+
+    private int cell(final double pCoordinate)
+    {
+        return (int) Math.floor(pCoordinate / mTileSize);
+    }
+
+    private static long key(final int pColumn, final int pRow)
+    {
+        return (long) pColumn << 32 | pRow & 0xFFFFFFFFL;
+    }
+
+    private static int column(final long pKey)
+    {
+        return (int) (pKey >> 32);
+    }
+
+    private static int row(final long pKey)
+    {
+        return (int) pKey;
+    }
+
+    /**
+     * The listeners added to an observed skin.
+     */
+    private record Observation(InvalidationListener promotionListener, InvalidationListener parentListener)
+    {
+    }
+}
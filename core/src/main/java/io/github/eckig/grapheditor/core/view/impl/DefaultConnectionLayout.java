@@ -1,32 +1,95 @@
 package io.github.eckig.grapheditor.core.view.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import io.github.eckig.grapheditor.SkinLookup;
 
+import io.github.eckig.grapheditor.core.skins.defaults.connection.PointBuffer;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.SegmentIntersections;
 import io.github.eckig.grapheditor.core.skins.defaults.connection.SimpleConnectionSkin;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.SweepLineIntersectionFinder;
+import io.github.eckig.grapheditor.core.utils.UniformGrid;
 import io.github.eckig.grapheditor.core.view.ConnectionLayout;
 
+import org.eclipse.emf.ecore.EObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.github.eckig.grapheditor.core.DefaultGraphEditor;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GJoint;
 import io.github.eckig.grapheditor.model.GModel;
-import javafx.geometry.Point2D;
+import io.github.eckig.grapheditor.model.GNode;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Node;
+import javafx.scene.layout.Region;
 
 
 /**
  * Default implementation of {@link ConnectionLayout} that can layout variants of {@link SimpleConnectionSkin}
+ *
+ * <p>
+ * Only connections that have been {@link #markDirty(GConnection) marked dirty} since the last {@link #draw()} are
+ * redrawn, together with the connections they intersect(ed). Connections are marked dirty automatically when the
+ * layout of the skins of their nodes or joints changes. Adding or removing connections should
+ * {@link #markAllDirty() mark all connections dirty}, as this changes which connections are behind others.
+ * </p>
+ *
+ * <p>
+ * The points and intersections of every connection are kept in primitive buffers that are reused across layout
+ * passes, so that redrawing an unchanged model creates (almost) no garbage.
+ * </p>
+ *
+ * <p>
+ * {@link #translate(GConnection, double, double) Translated} connections are moved as they are and not redrawn until
+ * they are translated back, even if they are marked dirty.
+ * </p>
  */
 public class DefaultConnectionLayout implements ConnectionLayout
 {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultConnectionLayout.class);
 
+    private static final double GRID_CELL_SIZE = 256;
+
     private final SkinLookup mSkinLookup;
     private GModel mModel;
 
+    private boolean mAllDirty = true;
+    private final Set<GConnection> mDirty = new HashSet<>();
+    private final List<GConnection> mDirtySnapshot = new ArrayList<>();
+    private final Set<GConnection> mTranslated = new HashSet<>();
+
+    // layout-owned copies of the points of all drawn connections:
+    private final Map<SimpleConnectionSkin, PointBuffer> mPoints = new HashMap<>();
+    private final Map<SimpleConnectionSkin, SegmentIntersections> mIntersections = new HashMap<>();
+    private final UniformGrid<SimpleConnectionSkin> mGrid = new UniformGrid<>(GRID_CELL_SIZE);
+    private final SweepLineIntersectionFinder mIntersectionFinder = new SweepLineIntersectionFinder();
+    private final Function<SimpleConnectionSkin, SegmentIntersections> mIntersectionsOf = s -> mIntersections
+            .computeIfAbsent(s, _ -> new SegmentIntersections());
+
+    // scratch collections of the incremental redraw:
+    private final Set<SimpleConnectionSkin> mAffected = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<SimpleConnectionSkin, PointBuffer> mInvolved = new IdentityHashMap<>();
+    private final Consumer<SimpleConnectionSkin> mAddAffected = mAffected::add;
+    private final Consumer<SimpleConnectionSkin> mAddInvolved = s -> mInvolved.put(s, mPoints.get(s));
+
+    private final Map<Node, EObject> mObservedRoots = new WeakHashMap<>();
+    private final ChangeListener<Number> mRootGeometryListener = (o, _, _) -> rootGeometryChanged(o);
+
     /**
      * Creates a new {@link DefaultConnectionLayout} instance. Only one
      * instance should exist per {@link DefaultGraphEditor} instance.
@@ -43,24 +106,102 @@ public class DefaultConnectionLayout implements ConnectionLayout
     public void initialize(final GModel pModel)
     {
         mModel = pModel;
+        mTranslated.clear();
+        markAllDirty();
+    }
+
+    @Override
+    public void dispose()
+    {
+        for (final Node root : mObservedRoots.keySet())
+        {
+            if (root instanceof Region r)
+            {
+                r.layoutXProperty().removeListener(mRootGeometryListener);
+                r.layoutYProperty().removeListener(mRootGeometryListener);
+                r.widthProperty().removeListener(mRootGeometryListener);
+                r.heightProperty().removeListener(mRootGeometryListener);
+                r.translateXProperty().removeListener(mRootGeometryListener);
+                r.translateYProperty().removeListener(mRootGeometryListener);
+            }
+        }
+        mObservedRoots.clear();
+        mModel = null;
     }
 
     @Override
     public void draw()
     {
-        if (mModel == null || mModel.getConnections().isEmpty())
+        if (mModel == null || mModel.getConnections().isEmpty() || !mAllDirty && mDirty.isEmpty())
         {
             return;
         }
 
         try
         {
-            redrawAllConnections(mModel);
+            if (mAllDirty)
+            {
+                redrawAllConnections(mModel);
+            }
+            else
+            {
+                // drawing may mark connections dirty again, so iterate over a snapshot:
+                mDirtySnapshot.addAll(mDirty);
+                redrawConnections(mModel, mDirtySnapshot);
+            }
         }
         catch (Exception e)
         {
             LOGGER.debug("Could not redraw Connections: ", e); //$NON-NLS-1$
         }
+        finally
+        {
+            // drawing itself may align joints and thus mark the drawn connections dirty again:
+            mAllDirty = false;
+            mDirty.clear();
+            mDirtySnapshot.clear();
+        }
+    }
+
+    @Override
+    public void markDirty(final GConnection pConnection)
+    {
+        if (pConnection != null && !mAllDirty)
+        {
+            mDirty.add(pConnection);
+        }
+    }
+
+    @Override
+    public void markAllDirty()
+    {
+        mAllDirty = true;
+        mDirty.clear();
+    }
+
+    @Override
+    public void translate(final GConnection pConnection, final double pX, final double pY)
+    {
+        final var skin = pConnection == null ? null : getSkinLookup().lookupConnection(pConnection);
+        final var root = skin == null ? null : skin.getRoot();
+        if (root == null)
+        {
+            return;
+        }
+
+        root.setTranslateX(pX);
+        root.setTranslateY(pY);
+        if (pX == 0 && pY == 0)
+        {
+            if (mTranslated.remove(pConnection))
+            {
+                markDirty(pConnection);
+            }
+        }
+        else
+        {
+            mTranslated.add(pConnection);
+        }
     }
 
     public SkinLookup getSkinLookup()
@@ -68,25 +209,288 @@ public class DefaultConnectionLayout implements ConnectionLayout
         return mSkinLookup;
     }
 
+    /**
+     * Redraws all connections of the given model.
+     *
+     * @param pModel
+     *            the {@link GModel} currently being edited
+     */
     protected void redrawAllConnections(final GModel pModel)
     {
-        final Map<SimpleConnectionSkin, Point2D[]> connectionPoints = new HashMap<>();
+        // forget connections that have been removed (or whose skin changed) since the last pass:
+        for (final var iterator = mPoints.keySet().iterator(); iterator.hasNext();)
+        {
+            final var skin = iterator.next();
+            final var connection = skin.getItem();
+            if (connection == null || connection.eContainer() != pModel
+                    || getSkinLookup().lookupConnection(connection) != skin)
+            {
+                iterator.remove();
+                mIntersections.remove(skin);
+                mGrid.remove(skin);
+                drawConnection(skin, null, null);
+            }
+        }
+
         for (final var connection : pModel.getConnections())
         {
+            observe(connection);
+            if (mTranslated.contains(connection))
+            {
+                continue;
+            }
+
             final var connectionSkin = getSkinLookup().lookupConnection(connection);
             if (connectionSkin instanceof SimpleConnectionSkin s)
             {
                 final var points = s.update();
                 if (points != null)
                 {
-                    connectionPoints.put(s, points);
+                    index(s, points);
+                    s.updateParentIndex();
+                }
+                else
+                {
+                    remove(s);
+                }
+            }
+        }
+
+        // If we are showing detours, get all intersections with connections *behind* this one. Otherwise in front.
+        mIntersectionFinder.find(mPoints, SimpleConnectionSkin::checkShowDetours, mIntersectionsOf);
+        for (final var skin : mPoints.keySet())
+        {
+            if (!mTranslated.contains(skin.getItem()))
+            {
+                drawConnection(skin, mPoints.get(skin), mIntersections.get(skin));
+            }
+        }
+    }
+
+    /**
+     * Redraws the given connections and all connections intersecting them
+     * before or after their geometry changed.
+     *
+     * @param pModel
+     *            the {@link GModel} currently being edited
+     * @param pDirty
+     *            the connections that have been marked dirty
+     * @since 17.10.2026
+     */
+    protected void redrawConnections(final GModel pModel, final Collection<GConnection> pDirty)
+    {
+        try
+        {
+            for (final var connection : pDirty)
+            {
+                if (mTranslated.contains(connection))
+                {
+                    continue;
+                }
+
+                final var connectionSkin = getSkinLookup().lookupConnection(connection);
+                if (connectionSkin instanceof SimpleConnectionSkin s)
+                {
+                    final var oldPoints = mPoints.get(s);
+                    if (oldPoints == null)
+                    {
+                        // unknown connection, we do not know where it is located in the connection layer:
+                        redrawAllConnections(pModel);
+                        return;
+                    }
+
+                    observe(connection);
+                    query(oldPoints, mAddAffected);
+
+                    final var points = s.update();
+                    if (points != null)
+                    {
+                        index(s, points);
+                        query(points, mAddAffected);
+                        mAffected.add(s);
+                    }
+                    else
+                    {
+                        remove(s);
+                    }
                 }
             }
+            mAffected.removeIf(s -> !mPoints.containsKey(s) || mTranslated.contains(s.getItem()));
+
+            // the intersections of every affected connection depend on all connections crossing it:
+            for (final var skin : mAffected)
+            {
+                mInvolved.put(skin, mPoints.get(skin));
+                query(mPoints.get(skin), mAddInvolved);
+            }
+
+            mIntersectionFinder.find(mInvolved, SimpleConnectionSkin::checkShowDetours, mIntersectionsOf);
+            for (final var skin : mAffected)
+            {
+                drawConnection(skin, mPoints.get(skin), mIntersections.get(skin));
+            }
+        }
+        finally
+        {
+            mAffected.clear();
+            mInvolved.clear();
+        }
+    }
+
+    /**
+     * Copies the given points of the given connection and updates the spatial
+     * index if they changed.
+     */
+    private void index(final SimpleConnectionSkin pSkin, final PointBuffer pPoints)
+    {
+        var copy = mPoints.get(pSkin);
+        if (copy == null)
+        {
+            copy = new PointBuffer();
+            mPoints.put(pSkin, copy);
+        }
+        else if (copy.contentEquals(pPoints))
+        {
+            return;
+        }
+        copy.copyFrom(pPoints);
+
+        mGrid.remove(pSkin);
+        for (int i = 0; i < copy.size() - 1; i++)
+        {
+            mGrid.add(pSkin, copy.getX(i), copy.getY(i), copy.getX(i + 1), copy.getY(i + 1));
+        }
+    }
+
+    private void remove(final SimpleConnectionSkin pSkin)
+    {
+        mPoints.remove(pSkin);
+        mIntersections.remove(pSkin);
+        mGrid.remove(pSkin);
+        drawConnection(pSkin, null, null);
+    }
+
+    /**
+     * Draws the given connection, see {@link SimpleConnectionSkin#draw(PointBuffer, SegmentIntersections)}. All
+     * connections are drawn through this method.
+     *
+     * @param pSkin
+     *            the {@link SimpleConnectionSkin} to draw
+     * @param pPoints
+     *            the points of the connection or {@code null} if it can not be drawn (anymore)
+     * @param pIntersections
+     *            the intersections of the connection or {@code null}
+     * @return {@code true} if the connection has been redrawn
+     * @since 17.10.2026
+     */
+    protected boolean drawConnection(final SimpleConnectionSkin pSkin, final PointBuffer pPoints,
+            final SegmentIntersections pIntersections)
+    {
+        return pSkin.draw(pPoints, pIntersections);
+    }
+
+    /**
+     * Finds all drawn connections with a segment intersecting the given area. Connections may be reported more than
+     * once and a few connections close to the area may be reported as well.
+     *
+     * @param pMinX
+     *            min x
+     * @param pMinY
+     *            min y
+     * @param pMaxX
+     *            max x
+     * @param pMaxY
+     *            max y
+     * @param pResult
+     *            {@link Consumer} receiving the found connections
+     * @since 17.10.2026
+     */
+    protected void queryConnections(final double pMinX, final double pMinY, final double pMaxX, final double pMaxY,
+            final Consumer<? super SimpleConnectionSkin> pResult)
+    {
+        mGrid.query(pMinX, pMinY, pMaxX, pMaxY, pResult);
+    }
+
+    /**
+     * @param pSkin
+     *            {@link SimpleConnectionSkin}
+     * @return the points the given connection was last drawn with or {@code null}, must not be modified
+     * @since 17.10.2026
+     */
+    protected PointBuffer getPoints(final SimpleConnectionSkin pSkin)
+    {
+        return mPoints.get(pSkin);
+    }
+
+    private void query(final PointBuffer pPoints, final Consumer<SimpleConnectionSkin> pResult)
+    {
+        for (int i = 0; i < pPoints.size() - 1; i++)
+        {
+            mGrid.query(pPoints.getX(i), pPoints.getY(i), pPoints.getX(i + 1), pPoints.getY(i + 1), pResult);
+        }
+    }
+
+    /**
+     * Listens to the layout of the skins of the nodes and joints of the given
+     * connection, so that the connection can be marked dirty when they move.
+     */
+    private void observe(final GConnection pConnection)
+    {
+        observe(pConnection.getSource());
+        observe(pConnection.getTarget());
+        for (final GJoint joint : pConnection.getJoints())
+        {
+            final var jointSkin = getSkinLookup().lookupJoint(joint);
+            if (jointSkin != null)
+            {
+                observe(jointSkin.getRoot(), joint);
+            }
+        }
+    }
+
+    private void observe(final GConnector pConnector)
+    {
+        final var node = pConnector == null ? null : pConnector.getParent();
+        final var nodeSkin = node == null ? null : getSkinLookup().lookupNode(node);
+        if (nodeSkin != null)
+        {
+            observe(nodeSkin.getRoot(), node);
         }
+    }
 
-        for (final var skin : connectionPoints.keySet())
+    private void observe(final Region pRoot, final EObject pItem)
+    {
+        // skins may be rebound to other items, so always update the item of the root:
+        if (pRoot != null && mObservedRoots.put(pRoot, pItem) == null)
         {
-            skin.draw(connectionPoints);
+            pRoot.layoutXProperty().addListener(mRootGeometryListener);
+            pRoot.layoutYProperty().addListener(mRootGeometryListener);
+            pRoot.widthProperty().addListener(mRootGeometryListener);
+            pRoot.heightProperty().addListener(mRootGeometryListener);
+            pRoot.translateXProperty().addListener(mRootGeometryListener);
+            pRoot.translateYProperty().addListener(mRootGeometryListener);
+        }
+    }
+
+    private void rootGeometryChanged(final Object pProperty)
+    {
+        if (pProperty instanceof ReadOnlyProperty<?> p && p.getBean() instanceof Node n)
+        {
+            final var item = mObservedRoots.get(n);
+            if (item instanceof GNode node)
+            {
+                for (final GConnector connector : node.getConnectors())
+                {
+                    for (final GConnection connection : connector.getConnections())
+                    {
+                        markDirty(connection);
+                    }
+                }
+            }
+            else if (item instanceof GJoint joint)
+            {
+                markDirty(joint.getConnection());
+            }
         }
     }
 }
@@ -0,0 +1,252 @@
+package io.github.eckig.grapheditor.core;
+
+import static io.github.eckig.grapheditor.core.utils.FXTestUtils.runOnFxThread;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.github.eckig.grapheditor.core.skins.defaults.DefaultNodeSkin;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.model.GraphFactory;
+import io.github.eckig.grapheditor.utils.GraphEditorProperties;
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+/**
+ * Checks {@link DefaultGraphEditor#setModelAsync(GModel)}. The editor is shown in a stage, as the elements of the
+ * model are added on pulses.
+ */
+public class AsyncModelLoadTest {
+
+    private static final int SIZE = 2000;
+
+    private DefaultGraphEditor graphEditor;
+    private GraphEditorProperties properties;
+    private Stage stage;
+
+    @Before
+    public void setUp() throws InterruptedException {
+        final CountDownLatch waitInit = new CountDownLatch(1);
+        try {
+            Platform.startup(waitInit::countDown);
+        } catch (final Exception e) {
+            waitInit.countDown();
+        }
+        waitInit.await();
+        // keep the platform running when the stage of a test is closed:
+        Platform.setImplicitExit(false);
+
+        properties = new GraphEditorProperties();
+        runOnFxThread(() -> {
+            graphEditor = new DefaultGraphEditor(properties);
+            graphEditor.setModel(chain(10));
+            stage = new Stage();
+            stage.setScene(new Scene(new Group(graphEditor.getView()), 800, 600));
+            stage.show();
+        });
+    }
+
+    @After
+    public void tearDown() {
+        runOnFxThread(() -> stage.close());
+    }
+
+    @Test
+    public void progressIncreasesUntilAllElementsAreAdded() throws Exception {
+
+        final GModel model = chain(SIZE);
+        final List<Double> progress = new ArrayList<>();
+        final List<CompletableFuture<Void>> loading = new ArrayList<>();
+
+        runOnFxThread(() -> {
+            graphEditor.modelLoadProgressProperty().addListener((_, _, n) -> progress.add(n.doubleValue()));
+            loading.add(graphEditor.setModelAsync(model));
+        });
+        loading.get(0).get(60, TimeUnit.SECONDS);
+
+        runOnFxThread(() -> {
+            assertSame(model, graphEditor.getModel());
+            assertAllSkins(model);
+
+            assertEquals(0, progress.get(0), 0);
+            assertEquals(1, progress.get(progress.size() - 1), 0);
+            for (int i = 1; i < progress.size(); i++) {
+                assertTrue(progress + " decreases", progress.get(i) >= progress.get(i - 1));
+            }
+            // the elements were added over several pulses:
+            assertTrue(progress.stream().anyMatch(p -> p > 0.5 && p < 1));
+        });
+    }
+
+    @Test
+    public void setModelWhilePreparingCancelsLoading() throws Exception {
+
+        final CountDownLatch preparing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger created = new AtomicInteger();
+        properties.setBackgroundSkinCreation(true);
+        runOnFxThread(() -> graphEditor.setNodeSkinFactory(node -> {
+            if (!Platform.isFxApplicationThread() && created.getAndIncrement() == 0) {
+                preparing.countDown();
+                await(release);
+            }
+            return new DefaultNodeSkin(node);
+        }));
+
+        final GModel model = chain(SIZE);
+        final GModel other = chain(10);
+        final List<CompletableFuture<Void>> loading = new ArrayList<>();
+
+        runOnFxThread(() -> loading.add(graphEditor.setModelAsync(model)));
+        assertTrue(preparing.await(10, TimeUnit.SECONDS));
+
+        runOnFxThread(() -> {
+            graphEditor.setModel(other);
+            assertTrue(loading.get(0).isCancelled());
+            assertEquals(1, graphEditor.modelLoadProgressProperty().get(), 0);
+        });
+        release.countDown();
+
+        // the preparation stops after the current node and its result is dropped:
+        Thread.sleep(200);
+        runOnFxThread(() -> {
+            assertSame(other, graphEditor.getModel());
+            assertAllSkins(other);
+            assertNull(graphEditor.getSkinLookup().lookupNode(model.getNodes().get(0)));
+        });
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void failingBackgroundCreationFallsBackToFxThread() throws Exception {
+
+        final AtomicInteger failed = new AtomicInteger();
+        properties.setBackgroundSkinCreation(true);
+        runOnFxThread(() -> graphEditor.setNodeSkinFactory(node -> {
+            if (!Platform.isFxApplicationThread()) {
+                failed.incrementAndGet();
+                throw new IllegalStateException("Not on FX application thread");
+            }
+            return new DefaultNodeSkin(node);
+        }));
+
+        final GModel model = chain(100);
+        final List<CompletableFuture<Void>> loading = new ArrayList<>();
+        runOnFxThread(() -> loading.add(graphEditor.setModelAsync(model)));
+        loading.get(0).get(60, TimeUnit.SECONDS);
+
+        assertEquals(1, failed.get());
+        runOnFxThread(() -> {
+            assertSame(model, graphEditor.getModel());
+            assertAllSkins(model);
+        });
+    }
+
+    @Test
+    public void elementsRemovedWhileAddingAreSkipped() throws Exception {
+
+        final GModel model = chain(SIZE);
+        final GNode last = model.getNodes().get(SIZE - 1);
+        final GConnection lastConnection = model.getConnections().get(SIZE - 2);
+        final List<CompletableFuture<Void>> loading = new ArrayList<>();
+
+        runOnFxThread(() -> loading.add(graphEditor.setModelAsync(model)));
+        waitUntilSwapped(model);
+
+        runOnFxThread(() -> {
+            assertFalse(loading.get(0).isDone());
+            lastConnection.getSource().getConnections().remove(lastConnection);
+            lastConnection.getTarget().getConnections().remove(lastConnection);
+            model.getConnections().remove(lastConnection);
+            model.getNodes().remove(last);
+            model.getNodes().get(0).setX(7);
+        });
+        loading.get(0).get(60, TimeUnit.SECONDS);
+
+        runOnFxThread(() -> {
+            assertAllSkins(model);
+            assertNull(graphEditor.getSkinLookup().lookupNode(last));
+            assertNull(graphEditor.getSkinLookup().lookupConnection(lastConnection));
+            assertEquals(7, graphEditor.getSkinLookup().lookupNode(model.getNodes().get(0)).getRoot().getLayoutX(), 0);
+        });
+    }
+
+    private void waitUntilSwapped(final GModel model) throws InterruptedException {
+        final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        final boolean[] swapped = new boolean[1];
+        while (!swapped[0] && System.nanoTime() < end) {
+            runOnFxThread(() -> swapped[0] = graphEditor.getModel() == model);
+        }
+        assertTrue(swapped[0]);
+    }
+
+    private void assertAllSkins(final GModel model) {
+        for (final GNode node : model.getNodes()) {
+            assertNotNull(graphEditor.getSkinLookup().lookupNode(node));
+        }
+        for (final GConnection connection : model.getConnections()) {
+            assertNotNull(graphEditor.getSkinLookup().lookupConnection(connection));
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Creates a model of nodes in a grid, each one connected to the next one.
+     */
+    private static GModel chain(final int size) {
+        final GModel model = GraphFactory.eINSTANCE.createGModel();
+        GConnector previous = null;
+        for (int i = 0; i < size; i++) {
+            final GNode node = GraphFactory.eINSTANCE.createGNode();
+            node.setX(i % 100 * 160);
+            node.setY(i / 100 * 120);
+            node.setWidth(100);
+            node.setHeight(60);
+
+            final GConnector input = GraphFactory.eINSTANCE.createGConnector();
+            input.setType("left-input");
+            final GConnector output = GraphFactory.eINSTANCE.createGConnector();
+            output.setType("right-output");
+            node.getConnectors().add(input);
+            node.getConnectors().add(output);
+            model.getNodes().add(node);
+
+            if (previous != null) {
+                final GConnection connection = GraphFactory.eINSTANCE.createGConnection();
+                connection.setSource(previous);
+                connection.setTarget(input);
+                previous.getConnections().add(connection);
+                input.getConnections().add(connection);
+                model.getConnections().add(connection);
+            }
+            previous = output;
+        }
+        return model;
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.eckig.grapheditor.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.impl.ENotificationImpl;
+import org.junit.Test;
+
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.model.GraphFactory;
+import io.github.eckig.grapheditor.model.GraphPackage;
+
+public class NotificationDispatcherTest {
+
+    @Test
+    public void everyFeatureIsDispatchedToItsOwnHandlers() {
+
+        final NotificationDispatcher dispatcher = new NotificationDispatcher();
+        final List<EStructuralFeature> received = new ArrayList<>();
+        final List<EStructuralFeature> features = new ArrayList<>();
+        for (final EClassifier classifier : GraphPackage.eINSTANCE.getEClassifiers()) {
+            if (classifier instanceof EClass eClass) {
+                for (final EStructuralFeature feature : eClass.getEAllStructuralFeatures()) {
+                    features.add(feature);
+                    dispatcher.register(feature, n -> received.add((EStructuralFeature) n.getFeature()));
+                }
+            }
+        }
+
+        final GNode node = GraphFactory.eINSTANCE.createGNode();
+        for (final EStructuralFeature feature : features) {
+            dispatcher.dispatch(new ENotificationImpl((InternalEObject) node, Notification.SET, feature, null, null));
+        }
+
+        assertEquals(features, received);
+    }
+
+    @Test
+    public void handlersAreCalledInOrderOfRegistration() {
+
+        final NotificationDispatcher dispatcher = new NotificationDispatcher();
+        final EStructuralFeature foreign = EcoreFactory.eINSTANCE.createEAttribute();
+        foreign.setEType(EcorePackage.Literals.EINT);
+        final List<String> calls = new ArrayList<>();
+
+        dispatcher.register(Notification.SET, _ -> calls.add("type"));
+        dispatcher.register(GraphPackage.Literals.GNODE__X, _ -> calls.add("x1"));
+        dispatcher.register(GraphPackage.Literals.GNODE__Y, _ -> calls.add("y"));
+        dispatcher.register(GraphPackage.Literals.GNODE__X, _ -> calls.add("x2"));
+        dispatcher.register(foreign, _ -> calls.add("foreign"));
+        dispatcher.register(1000, _ -> calls.add("custom"));
+
+        final InternalEObject node = (InternalEObject) GraphFactory.eINSTANCE.createGNode();
+        dispatcher.dispatch(new ENotificationImpl(node, Notification.SET, GraphPackage.Literals.GNODE__X, null, null));
+        dispatcher.dispatch(new ENotificationImpl(node, Notification.ADD, foreign, null, null));
+        dispatcher.dispatch(new ENotificationImpl(node, 1000, GraphPackage.Literals.GNODE__HEIGHT, null, null));
+
+        assertEquals(List.of("x1", "x2", "type", "foreign", "custom"), calls);
+    }
+
+    @Test
+    public void invocationsAreCountedWhenEnabled() {
+
+        final NotificationDispatcher dispatcher = new NotificationDispatcher();
+        dispatcher.register(GraphPackage.Literals.GNODE__X, _ -> {});
+        final InternalEObject node = (InternalEObject) GraphFactory.eINSTANCE.createGNode();
+        final Notification notification = new ENotificationImpl(node, Notification.SET, GraphPackage.Literals.GNODE__X,
+                null, null);
+
+        dispatcher.dispatch(notification);
+        dispatcher.setInstrumentationEnabled(true);
+        dispatcher.dispatch(notification);
+        dispatcher.dispatch(notification);
+
+        final HandlerStatistics statistics = dispatcher.getStatistics().get(0);
+        assertEquals(GraphPackage.Literals.GNODE__X, statistics.key());
+        assertEquals(2, statistics.invocationCount());
+
+        dispatcher.resetStatistics();
+        assertEquals(0, dispatcher.getStatistics().get(0).invocationCount());
+    }
+}
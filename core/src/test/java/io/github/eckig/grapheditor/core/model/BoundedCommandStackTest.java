@@ -0,0 +1,169 @@
+package io.github.eckig.grapheditor.core.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+
+import org.eclipse.emf.common.command.CommandStack;
+import org.eclipse.emf.common.command.CompoundCommand;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.junit.Test;
+
+import io.github.eckig.grapheditor.Commands.MoveResizeCommand;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.model.GraphFactory;
+import io.github.eckig.grapheditor.utils.GraphEditorProperties;
+
+public class BoundedCommandStackTest {
+
+    @Test
+    public void consecutiveMovesOfSameNodesAreCoalesced() {
+
+        final GNode first = createNode();
+        final GNode second = createNode();
+        final BoundedCommandStack stack = new BoundedCommandStack(0, 0, Duration.ofMinutes(1));
+
+        stack.execute(move(first, 10, second, 20));
+        stack.execute(move(second, 30, first, 40));
+
+        assertEquals(1, stack.getUndoDepth());
+        assertEquals(1, stack.getCoalescedCount());
+        assertEquals(40, first.getX(), 0);
+        assertEquals(30, second.getX(), 0);
+
+        stack.undo();
+        assertEquals(0, first.getX(), 0);
+        assertEquals(0, second.getX(), 0);
+
+        stack.redo();
+        assertEquals(40, first.getX(), 0);
+        assertEquals(30, second.getX(), 0);
+    }
+
+    @Test
+    public void movesOfOtherNodesAreNotCoalesced() {
+
+        final GNode first = createNode();
+        final GNode second = createNode();
+        final BoundedCommandStack stack = new BoundedCommandStack(0, 0, Duration.ofMinutes(1));
+
+        stack.execute(move(first, 10, null, 0));
+        stack.execute(move(second, 10, null, 0));
+        stack.undo();
+        stack.execute(move(first, 20, null, 0));
+
+        assertEquals(2, stack.getUndoDepth());
+        assertEquals(0, stack.getCoalescedCount());
+    }
+
+    @Test
+    public void oldestCommandsAreDiscarded() {
+
+        final GNode node = createNode();
+        final BoundedCommandStack stack = new BoundedCommandStack(0, 3, Duration.ZERO);
+
+        for (int i = 1; i <= 5; i++) {
+            stack.execute(move(node, i, null, 0));
+        }
+
+        assertEquals(3, stack.getUndoDepth());
+        assertEquals(2, stack.getDiscardedCount());
+
+        final long usage = stack.getMemoryUsage();
+        assertTrue(usage > 0);
+
+        stack.undo();
+        stack.undo();
+        stack.undo();
+        assertEquals(2, node.getX(), 0);
+        assertTrue(stack.isSaveNeeded());
+
+        stack.execute(move(node, 10, null, 0));
+        assertEquals(usage / 3, stack.getMemoryUsage());
+    }
+
+    @Test
+    public void memoryBudgetIsRespected() {
+
+        final GNode node = createNode();
+        final BoundedCommandStack unbounded = new BoundedCommandStack();
+        unbounded.execute(move(node, 1, null, 0));
+        final long size = unbounded.getMemoryUsage();
+
+        final BoundedCommandStack stack = new BoundedCommandStack(3 * size, 0, Duration.ZERO);
+        for (int i = 1; i <= 10; i++) {
+            stack.execute(move(node, i, null, 0));
+        }
+
+        assertEquals(3, stack.getUndoDepth());
+        assertEquals(3 * size, stack.getMemoryUsage());
+    }
+
+    @Test
+    public void commandsOfBatchAreUndoneAsOne() {
+
+        final GNode node = createNode();
+        final BoundedCommandStack stack = new BoundedCommandStack(0, 0, Duration.ofMinutes(1));
+        stack.execute(move(node, 1, null, 0));
+
+        stack.beginBatch();
+        stack.execute(move(node, 2, null, 0));
+        stack.beginBatch();
+        stack.execute(move(node, 3, null, 0));
+        stack.endBatch();
+        stack.execute(move(node, 4, null, 0));
+        stack.endBatch();
+
+        assertEquals(2, stack.getUndoDepth());
+        assertEquals(0, stack.getCoalescedCount());
+
+        stack.undo();
+        assertEquals(1, node.getX(), 0);
+        stack.redo();
+        assertEquals(4, node.getX(), 0);
+    }
+
+    @Test
+    public void defaultPropertiesKeepEveryMove() {
+
+        final GModel model = GraphFactory.eINSTANCE.createGModel();
+        final GNode node = createNode();
+        model.getNodes().add(node);
+        final DefaultModelEditingManager manager = new DefaultModelEditingManager(_ -> {}, new GraphEditorProperties());
+        manager.initialize(model);
+        final CommandStack stack = AdapterFactoryEditingDomain.getEditingDomainFor(model).getCommandStack();
+
+        stack.execute(move(node, 10, null, 0));
+        stack.execute(move(node, 20, null, 0));
+
+        assertEquals(2, manager.getUndoDepth());
+        assertTrue(manager.getUndoMemoryUsage() > 0);
+        stack.undo();
+        assertEquals(10, node.getX(), 0);
+        assertEquals(1, manager.getUndoDepth());
+    }
+
+    private static CompoundCommand move(final GNode pFirst, final double pFirstX, final GNode pSecond,
+            final double pSecondX) {
+
+        final MoveResizeCommand command = new MoveResizeCommand();
+        command.addNode(pFirst, pFirstX, 0, 100, 100);
+        if (pSecond != null) {
+            command.addNode(pSecond, pSecondX, 0, 100, 100);
+        }
+
+        final CompoundCommand compound = new CompoundCommand();
+        compound.append(command);
+        return compound;
+    }
+
+    private static GNode createNode() {
+
+        final GNode node = GraphFactory.eINSTANCE.createGNode();
+        node.setWidth(100);
+        node.setHeight(100);
+        return node;
+    }
+}
@@ -0,0 +1,284 @@
+package io.github.eckig.grapheditor.core.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.command.AbstractCommand;
+import org.eclipse.emf.common.command.CommandStack;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.edit.command.RemoveCommand;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.model.GraphFactory;
+import io.github.eckig.grapheditor.model.GraphPackage;
+
+public class BulkRemoveCommandTest {
+
+    private final List<Notification> received = new ArrayList<>();
+    private final List<GNode> nodes = new ArrayList<>();
+    private final List<GConnection> connections = new ArrayList<>();
+    private GModel model;
+
+    @Before
+    public void setUp() {
+        model = GraphFactory.eINSTANCE.createGModel();
+        for (int i = 0; i < 6; i++) {
+            final GNode node = GraphFactory.eINSTANCE.createGNode();
+            node.getConnectors().add(GraphFactory.eINSTANCE.createGConnector());
+            node.getConnectors().add(GraphFactory.eINSTANCE.createGConnector());
+            model.getNodes().add(node);
+            nodes.add(node);
+        }
+        // the first node is connected to all others, so that its output has a list of connections:
+        for (int i = 1; i < nodes.size(); i++) {
+            connect(nodes.get(0), nodes.get(i));
+        }
+        connect(nodes.get(2), nodes.get(3));
+
+        model.eAdapters().add(new EContentAdapter() {
+
+            @Override
+            public void notifyChanged(final Notification notification) {
+                super.notifyChanged(notification);
+                received.add(notification);
+            }
+        });
+    }
+
+    @Test
+    public void removalSendsOneRemoveManyWithPositions() {
+
+        final BulkRemoveCommand command = new BulkRemoveCommand(null, model, GraphPackage.Literals.GMODEL__NODES,
+                Set.of(nodes.get(1), nodes.get(3), nodes.get(4)));
+        assertTrue(command.canExecute());
+        command.execute();
+
+        final List<Notification> modelNotifications = ofNotifier(model);
+        assertEquals(1, modelNotifications.size());
+        final Notification notification = modelNotifications.get(0);
+        assertEquals(Notification.REMOVE_MANY, notification.getEventType());
+        assertSame(GraphPackage.Literals.GMODEL__NODES, notification.getFeature());
+        assertEquals(List.of(nodes.get(1), nodes.get(3), nodes.get(4)), notification.getOldValue());
+        assertArrayEquals(new int[] { 1, 3, 4 }, (int[]) notification.getNewValue());
+        assertEquals(1, notification.getPosition());
+
+        assertEquals(List.of(nodes.get(0), nodes.get(2), nodes.get(5)), model.getNodes());
+        assertEquals(3, command.size());
+    }
+
+    @Test
+    public void undoRestoresContainerAndOrder() {
+
+        final BulkRemoveCommand command = new BulkRemoveCommand(null, model, GraphPackage.Literals.GMODEL__NODES,
+                Set.of(nodes.get(1), nodes.get(3), nodes.get(4)));
+        command.execute();
+
+        assertNull(nodes.get(1).eContainer());
+        assertNull(nodes.get(3).eContainer());
+        assertNull(nodes.get(4).eContainer());
+
+        received.clear();
+        command.undo();
+
+        assertEquals(nodes, model.getNodes());
+        for (final GNode node : nodes) {
+            assertSame(model, node.eContainer());
+        }
+
+        // one ADD for the single node and one ADD_MANY for the adjacent ones:
+        final List<Notification> modelNotifications = ofNotifier(model);
+        assertEquals(2, modelNotifications.size());
+        assertEquals(Notification.ADD, modelNotifications.get(0).getEventType());
+        assertEquals(1, modelNotifications.get(0).getPosition());
+        assertEquals(Notification.ADD_MANY, modelNotifications.get(1).getEventType());
+        assertEquals(3, modelNotifications.get(1).getPosition());
+        assertEquals(List.of(nodes.get(3), nodes.get(4)), modelNotifications.get(1).getNewValue());
+
+        // the restored nodes are observed again:
+        received.clear();
+        nodes.get(3).setX(10);
+        assertEquals(1, ofNotifier(nodes.get(3)).size());
+    }
+
+    @Test
+    public void undoAndRedoRestoreConnectorConnections() {
+
+        final DefaultModelEditingManager manager = new DefaultModelEditingManager(_ -> {});
+        manager.initialize(model);
+        final CommandStack stack = AdapterFactoryEditingDomain.getEditingDomainFor(model).getCommandStack();
+
+        final Map<GConnector, List<GConnection>> before = snapshotConnectors();
+        final List<GConnection> connectionsBefore = List.copyOf(model.getConnections());
+
+        manager.remove(List.of(nodes.get(2)));
+
+        final Map<GConnector, List<GConnection>> removed = snapshotConnectors();
+        assertEquals(List.of(nodes.get(0), nodes.get(1), nodes.get(3), nodes.get(4), nodes.get(5)), model.getNodes());
+        assertNull(nodes.get(2).eContainer());
+        final List<GConnection> remaining = List.of(connections.get(0), connections.get(2), connections.get(3),
+                connections.get(4));
+        assertEquals(remaining, model.getConnections());
+        assertEquals(remaining, output(nodes.get(0)).getConnections());
+        assertEquals(List.of(connections.get(2)), input(nodes.get(3)).getConnections());
+        assertNull(connections.get(1).eContainer());
+        assertNull(connections.get(5).eContainer());
+
+        stack.undo();
+
+        assertEquals(nodes, model.getNodes());
+        assertEquals(connectionsBefore, model.getConnections());
+        assertEquals(before, snapshotConnectors());
+        assertSame(model, nodes.get(2).eContainer());
+        assertSame(model, connections.get(1).eContainer());
+
+        stack.redo();
+
+        assertEquals(removed, snapshotConnectors());
+        assertEquals(remaining, model.getConnections());
+        assertNull(nodes.get(2).eContainer());
+
+        stack.undo();
+
+        assertEquals(before, snapshotConnectors());
+        assertEquals(connectionsBefore, model.getConnections());
+    }
+
+    @Test
+    public void removalHooksRunInOrder() {
+
+        final DefaultModelEditingManager manager = new DefaultModelEditingManager(_ -> {});
+        manager.initialize(model);
+        final List<String> calls = new ArrayList<>();
+        final List<String> executed = new ArrayList<>();
+        manager.setOnNodeRemoved((_, node) -> {
+            final String name = "node" + nodes.indexOf(node);
+            calls.add(name);
+            return new RecordingCommand(name, node, executed);
+        });
+        manager.setOnConnectionRemoved((_, connection) -> {
+            final String name = "connection" + connections.indexOf(connection);
+            calls.add(name);
+            return new RecordingCommand(name, connection, executed);
+        });
+
+        manager.remove(List.of(nodes.get(4), nodes.get(2)));
+
+        // the hooks are called before, their commands after the removal:
+        assertEquals(List.of("node4", "connection3", "node2", "connection1", "connection5"), calls);
+        assertEquals(calls, executed);
+    }
+
+    @Test
+    public void elementsOfReadOnlyResourcesAreNotRemoved() {
+
+        final DefaultModelEditingManager manager = new DefaultModelEditingManager(_ -> {});
+        manager.initialize(model);
+        final AdapterFactoryEditingDomain domain = (AdapterFactoryEditingDomain) AdapterFactoryEditingDomain
+                .getEditingDomainFor(model);
+        final Map<Resource, Boolean> readOnly = new HashMap<>();
+        readOnly.put(model.eResource(), Boolean.TRUE);
+        domain.setResourceToReadOnlyMap(readOnly);
+
+        // like a remove command:
+        assertFalse(RemoveCommand.create(domain, model, GraphPackage.Literals.GMODEL__NODES, nodes.get(1)).canExecute());
+        assertFalse(new BulkRemoveCommand(domain, model, GraphPackage.Literals.GMODEL__NODES, Set.of(nodes.get(1)))
+                .canExecute());
+
+        final Map<GConnector, List<GConnection>> before = snapshotConnectors();
+        manager.remove(List.of(nodes.get(1), connections.get(5)));
+
+        assertEquals(nodes, model.getNodes());
+        assertEquals(connections, model.getConnections());
+        assertSame(model, nodes.get(1).eContainer());
+        assertEquals(before, snapshotConnectors());
+    }
+
+    private List<Notification> ofNotifier(final Object notifier) {
+        final List<Notification> result = new ArrayList<>();
+        for (final Notification notification : received) {
+            if (notification.getNotifier() == notifier) {
+                result.add(notification);
+            }
+        }
+        return result;
+    }
+
+    private Map<GConnector, List<GConnection>> snapshotConnectors() {
+        final Map<GConnector, List<GConnection>> snapshot = new LinkedHashMap<>();
+        for (final GNode node : nodes) {
+            for (final GConnector connector : node.getConnectors()) {
+                snapshot.put(connector, List.copyOf(connector.getConnections()));
+            }
+        }
+        return snapshot;
+    }
+
+    private void connect(final GNode source, final GNode target) {
+        final GConnection connection = GraphFactory.eINSTANCE.createGConnection();
+        connection.setSource(output(source));
+        connection.setTarget(input(target));
+        output(source).getConnections().add(connection);
+        input(target).getConnections().add(connection);
+        model.getConnections().add(connection);
+        connections.add(connection);
+    }
+
+    private static GConnector input(final GNode node) {
+        return node.getConnectors().get(0);
+    }
+
+    private static GConnector output(final GNode node) {
+        return node.getConnectors().get(1);
+    }
+
+    /**
+     * Records its execution and whether the element was removed before.
+     */
+    private static final class RecordingCommand extends AbstractCommand {
+
+        private final String name;
+        private final EObject element;
+        private final List<String> executed;
+
+        RecordingCommand(final String name, final EObject element, final List<String> executed) {
+            this.name = name;
+            this.element = element;
+            this.executed = executed;
+        }
+
+        @Override
+        protected boolean prepare() {
+            return true;
+        }
+
+        @Override
+        public void execute() {
+            executed.add(element.eContainer() == null ? name : name + " before removal");
+        }
+
+        @Override
+        public void redo() {
+            execute();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package io.github.eckig.grapheditor.core.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.model.GraphFactory;
+import io.github.eckig.grapheditor.model.GraphPackage;
+
+public class NotificationCoalescerTest {
+
+    private final List<Notification> received = new ArrayList<>();
+    private GModel model;
+
+    @Before
+    public void setUp() {
+        model = GraphFactory.eINSTANCE.createGModel();
+        model.eAdapters().add(new EContentAdapter() {
+
+            @Override
+            public void notifyChanged(final Notification notification) {
+                super.notifyChanged(notification);
+                received.add(notification);
+            }
+        });
+    }
+
+    @Test
+    public void setsOfOneFeatureAreMergedFromFirstOldToLastNewValue() {
+
+        final GNode node = addNode();
+        received.clear();
+
+        node.setX(1);
+        node.setY(5);
+        node.setX(2);
+        node.setX(3);
+
+        final List<Notification> coalesced = NotificationCoalescer.coalesce(received);
+
+        assertEquals(2, coalesced.size());
+        assertEquals(GraphPackage.Literals.GNODE__Y, coalesced.get(0).getFeature());
+        assertEquals(GraphPackage.Literals.GNODE__X, coalesced.get(1).getFeature());
+        assertEquals(Notification.SET, coalesced.get(1).getEventType());
+        assertSame(node, coalesced.get(1).getNotifier());
+        assertEquals(0, coalesced.get(1).getOldDoubleValue(), 0);
+        assertEquals(3, coalesced.get(1).getNewDoubleValue(), 0);
+    }
+
+    @Test
+    public void setsAreNotMergedAcrossOtherChanges() {
+
+        final GNode node = addNode();
+        received.clear();
+
+        node.setX(1);
+        addNode();
+        node.setX(2);
+
+        final List<Notification> coalesced = NotificationCoalescer.coalesce(received);
+
+        assertEquals(received, coalesced);
+        assertEquals(Notification.ADD, coalesced.get(1).getEventType());
+        assertEquals(1, coalesced.get(2).getOldDoubleValue(), 0);
+        assertEquals(2, coalesced.get(2).getNewDoubleValue(), 0);
+    }
+
+    @Test
+    public void addFollowedByRemoveCancelsWithChildNotifications() {
+
+        final GNode kept = GraphFactory.eINSTANCE.createGNode();
+        final GNode removed = GraphFactory.eINSTANCE.createGNode();
+        final GConnector connector = GraphFactory.eINSTANCE.createGConnector();
+
+        model.getNodes().add(removed);
+        removed.setX(10);
+        removed.getConnectors().add(connector);
+        connector.setType("input");
+        model.getNodes().add(kept);
+        model.getNodes().remove(removed);
+
+        final List<Notification> coalesced = NotificationCoalescer.coalesce(received);
+
+        assertEquals(1, coalesced.size());
+        assertEquals(Notification.ADD, coalesced.get(0).getEventType());
+        assertSame(kept, coalesced.get(0).getNewValue());
+    }
+
+    @Test
+    public void removeOfPreviouslyExistingElementIsKept() {
+
+        final GNode node = addNode();
+        received.clear();
+
+        node.setX(10);
+        model.getNodes().remove(node);
+
+        assertEquals(received, NotificationCoalescer.coalesce(received));
+    }
+
+    @Test
+    public void contiguousAddsAreGrouped() {
+
+        final GNode first = addNode();
+        final GNode second = addNode();
+        final GNode third = GraphFactory.eINSTANCE.createGNode();
+        model.getNodes().add(0, third);
+
+        final List<Notification> coalesced = NotificationCoalescer.coalesce(received);
+
+        assertEquals(2, coalesced.size());
+        assertEquals(Notification.ADD_MANY, coalesced.get(0).getEventType());
+        assertEquals(0, coalesced.get(0).getPosition());
+        assertEquals(List.of(first, second), coalesced.get(0).getNewValue());
+        assertEquals(Notification.ADD, coalesced.get(1).getEventType());
+        assertEquals(0, coalesced.get(1).getPosition());
+        assertSame(third, coalesced.get(1).getNewValue());
+    }
+
+    @Test
+    public void addsAtNonContiguousPositionsAreNotGrouped() {
+
+        addNode();
+        addNode();
+        received.clear();
+
+        model.getNodes().add(2, GraphFactory.eINSTANCE.createGNode());
+        model.getNodes().add(0, GraphFactory.eINSTANCE.createGNode());
+        model.getNodes().add(2, GraphFactory.eINSTANCE.createGNode());
+
+        assertEquals(received, NotificationCoalescer.coalesce(received));
+    }
+
+    @Test
+    public void notificationsOfOtherNotifiersArePassedThrough() {
+
+        final Resource resource = new ResourceImpl(URI.createURI("test"));
+        resource.eAdapters().add(new EContentAdapter() {
+
+            @Override
+            public void notifyChanged(final Notification notification) {
+                super.notifyChanged(notification);
+                received.add(notification);
+            }
+        });
+
+        resource.setModified(true);
+        resource.setModified(false);
+        resource.getContents().add(GraphFactory.eINSTANCE.createGNode());
+        resource.getContents().add(GraphFactory.eINSTANCE.createGNode());
+
+        final List<Notification> coalesced = NotificationCoalescer.coalesce(received);
+
+        assertEquals(received.size(), coalesced.size());
+        for (int i = 0; i < coalesced.size(); i++) {
+            assertSame(received.get(i), coalesced.get(i));
+        }
+    }
+
+    private GNode addNode() {
+        final GNode node = GraphFactory.eINSTANCE.createGNode();
+        model.getNodes().add(node);
+        return node;
+    }
+}
@@ -0,0 +1,237 @@
+package io.github.eckig.grapheditor.core.skins;
+
+import static io.github.eckig.grapheditor.core.utils.FXTestUtils.runOnFxThread;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.github.eckig.grapheditor.GConnectionSkin;
+import io.github.eckig.grapheditor.GConnectorSkin;
+import io.github.eckig.grapheditor.GJointSkin;
+import io.github.eckig.grapheditor.GNodeSkin;
+import io.github.eckig.grapheditor.GTailSkin;
+import io.github.eckig.grapheditor.SkinLookup;
+import io.github.eckig.grapheditor.core.selections.DefaultSelectionManager;
+import io.github.eckig.grapheditor.core.skins.defaults.DefaultNodeSkin;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.SimpleConnectionSkin;
+import io.github.eckig.grapheditor.core.view.GraphEditorView;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GJoint;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.model.GraphFactory;
+import io.github.eckig.grapheditor.utils.GraphEditorProperties;
+import javafx.application.Platform;
+
+/**
+ * Checks that a {@link SkinVirtualizer} only looks at the elements in the part of the area that was entered or left.
+ * Without a panning window the area is the top left corner of the view, with the minimum size of the view.
+ */
+public class SkinVirtualizerTest {
+
+    private static final int COLUMNS = 50;
+    private static final double SPACING = 100;
+    private static final double NODE_SIZE = 50;
+
+    private final Set<GNode> materializedNodes = new HashSet<>();
+    private final Set<GConnection> materializedConnections = new HashSet<>();
+    private int lookups;
+
+    private GraphEditorView view;
+    private DefaultSelectionManager selectionManager;
+    private SkinVirtualizer virtualizer;
+    private GModel model;
+
+    @Before
+    public void setUp() throws InterruptedException {
+        final CountDownLatch waitInit = new CountDownLatch(1);
+        try {
+            Platform.startup(waitInit::countDown);
+        } catch (final Exception e) {
+            waitInit.countDown();
+        }
+        waitInit.await();
+
+        runOnFxThread(() -> {
+            final GraphEditorProperties properties = new GraphEditorProperties();
+            properties.setVirtualized(true);
+            properties.setVirtualizationMargin(0);
+
+            view = new GraphEditorView(properties);
+            view.setMinSize(500, 500);
+
+            final CountingSkinLookup skinLookup = new CountingSkinLookup();
+            selectionManager = new DefaultSelectionManager(skinLookup, view);
+            virtualizer = new SkinVirtualizer(view, properties, skinLookup, selectionManager);
+            virtualizer.setOnMaterializeNode(materializedNodes::add);
+            virtualizer.setOnDematerializeNode(materializedNodes::remove);
+            virtualizer.setOnMaterializeConnection(materializedConnections::add);
+            virtualizer.setOnDematerializeConnection(materializedConnections::remove);
+
+            model = grid();
+            model.getNodes().forEach(virtualizer::updateBounds);
+            model.getConnections().forEach(virtualizer::updateBounds);
+            virtualizer.invalidate();
+            virtualizer.update(model);
+        });
+    }
+
+    @Test
+    public void initialUpdateScansTheModel() {
+        runOnFxThread(() -> {
+            assertEquals(25, materializedNodes.size());
+            assertEquals(COLUMNS * COLUMNS + model.getConnections().size(), lookups);
+        });
+    }
+
+    @Test
+    public void enteredAndLeftElementsAreChecked() {
+        runOnFxThread(() -> {
+            lookups = 0;
+            view.setMinSize(700, 500);
+            virtualizer.invalidate();
+            virtualizer.update(model);
+
+            assertEquals(35, materializedNodes.size());
+            assertMaterialized(650, 450);
+            assertTrue(lookups + " lookups", lookups < COLUMNS * COLUMNS / 10);
+
+            lookups = 0;
+            view.setMinSize(300, 500);
+            virtualizer.invalidate();
+            virtualizer.update(model);
+
+            assertEquals(15, materializedNodes.size());
+            assertFalse(materializedNodes.contains(node(400, 0)));
+            assertTrue(lookups + " lookups", lookups < COLUMNS * COLUMNS / 10);
+        });
+    }
+
+    @Test
+    public void movedNodeIsChecked() {
+        runOnFxThread(() -> {
+            final GNode node = node(0, 0);
+            final GConnection connection = node.getConnectors().get(0).getConnections().get(0);
+            assertTrue(materializedConnections.contains(connection));
+
+            node.setX(3000);
+            virtualizer.updateBounds(node);
+            virtualizer.invalidate();
+            virtualizer.update(model);
+            assertFalse(materializedNodes.contains(node));
+            // still partially inside the area:
+            assertTrue(materializedConnections.contains(connection));
+
+            node.setX(0);
+            virtualizer.updateBounds(node);
+            virtualizer.invalidate();
+            virtualizer.update(model);
+            assertTrue(materializedNodes.contains(node));
+        });
+    }
+
+    @Test
+    public void deselectedNodeIsChecked() {
+        runOnFxThread(() -> {
+            final GNode node = node(1000, 1000);
+            assertFalse(materializedNodes.contains(node));
+
+            selectionManager.select(node);
+            virtualizer.update(model);
+            assertTrue(materializedNodes.contains(node));
+
+            selectionManager.clearSelection(node);
+            virtualizer.update(model);
+            assertFalse(materializedNodes.contains(node));
+        });
+    }
+
+    @Test
+    public void resetScansTheModelAgain() {
+        runOnFxThread(() -> {
+            lookups = 0;
+            virtualizer.reset();
+            virtualizer.invalidate();
+            virtualizer.update(model);
+
+            assertEquals(COLUMNS * COLUMNS + model.getConnections().size(), lookups);
+            assertEquals(25, materializedNodes.size());
+        });
+    }
+
+    private void assertMaterialized(final double x, final double y) {
+        assertTrue(materializedNodes.contains(node(x, y)));
+    }
+
+    private GNode node(final double x, final double y) {
+        return model.getNodes().get((int) (y / SPACING) * COLUMNS + (int) (x / SPACING));
+    }
+
+    /**
+     * Creates a grid of nodes, each one connected to the node below it.
+     */
+    private static GModel grid() {
+        final GModel model = GraphFactory.eINSTANCE.createGModel();
+        for (int i = 0; i < COLUMNS * COLUMNS; i++) {
+            final GNode node = GraphFactory.eINSTANCE.createGNode();
+            node.setX(i % COLUMNS * SPACING);
+            node.setY(i / COLUMNS * SPACING);
+            node.setWidth(NODE_SIZE);
+            node.setHeight(NODE_SIZE);
+            node.getConnectors().add(GraphFactory.eINSTANCE.createGConnector());
+            node.getConnectors().add(GraphFactory.eINSTANCE.createGConnector());
+            model.getNodes().add(node);
+
+            if (i >= COLUMNS) {
+                final GConnection connection = GraphFactory.eINSTANCE.createGConnection();
+                connection.setSource(model.getNodes().get(i - COLUMNS).getConnectors().get(0));
+                connection.setTarget(node.getConnectors().get(1));
+                connection.getSource().getConnections().add(connection);
+                connection.getTarget().getConnections().add(connection);
+                model.getConnections().add(connection);
+            }
+        }
+        return model;
+    }
+
+    /**
+     * Looks up skins for the materialized elements and counts how often it was asked.
+     */
+    private final class CountingSkinLookup implements SkinLookup {
+
+        @Override
+        public GNodeSkin lookupNode(final GNode node) {
+            lookups++;
+            return materializedNodes.contains(node) ? new DefaultNodeSkin(node) : null;
+        }
+
+        @Override
+        public GConnectorSkin lookupConnector(final GConnector connector) {
+            return null;
+        }
+
+        @Override
+        public GConnectionSkin lookupConnection(final GConnection connection) {
+            lookups++;
+            return materializedConnections.contains(connection) ? new SimpleConnectionSkin(connection) : null;
+        }
+
+        @Override
+        public GJointSkin lookupJoint(final GJoint joint) {
+            return null;
+        }
+
+        @Override
+        public GTailSkin lookupTail(final GConnector connector) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package io.github.eckig.grapheditor.core.skins.defaults.connection;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import io.github.eckig.grapheditor.core.connectors.DefaultConnectorTypes;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.IntersectionFinder.IIntersectionConnection;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GraphFactory;
+import javafx.geometry.Point2D;
+
+public class SweepLineIntersectionFinderTest {
+
+    private static final String[] SOURCE_TYPES = { DefaultConnectorTypes.LEFT_OUTPUT, DefaultConnectorTypes.RIGHT_OUTPUT,
+            DefaultConnectorTypes.TOP_OUTPUT, DefaultConnectorTypes.BOTTOM_OUTPUT };
+
+    @Test
+    public void crossingConnections() {
+
+        final TestConnection horizontal = new TestConnection(DefaultConnectorTypes.RIGHT_OUTPUT, 1);
+        final TestConnection vertical = new TestConnection(DefaultConnectorTypes.TOP_OUTPUT, 0);
+
+        final Map<TestConnection, PointBuffer> allPoints = new HashMap<>();
+        allPoints.put(horizontal, points(0, 50, 100, 50));
+        allPoints.put(vertical, points(40, 0, 40, 100));
+
+        // gaps: the connection in front (higher index) is interrupted where it crosses the one behind:
+        final Map<TestConnection, double[][]> gaps = SweepLineIntersectionFinder.find(allPoints, _ -> false);
+        assertNull(gaps.get(horizontal));
+        assertArrayEquals(new double[] { 50 }, gaps.get(vertical)[0], 0);
+
+        // detours: the connection in front draws a detour over the one behind:
+        final Map<TestConnection, double[][]> detours = SweepLineIntersectionFinder.find(allPoints, _ -> true);
+        assertArrayEquals(new double[] { 40 }, detours.get(horizontal)[0], 0);
+        assertNull(detours.get(vertical));
+    }
+
+    @Test
+    public void sameResultsAsIntersectionFinder() {
+
+        final Random random = new Random(4711);
+        for (int run = 0; run < 50; run++) {
+
+            final Map<TestConnection, PointBuffer> allPoints = createConnections(random, 1 + random.nextInt(40));
+            for (final boolean behind : new boolean[] { true, false }) {
+
+                final Map<TestConnection, double[][]> all = SweepLineIntersectionFinder.find(allPoints, _ -> behind);
+                for (final TestConnection connection : allPoints.keySet()) {
+                    assertSameIntersections(IntersectionFinder.find(connection, allPoints, behind), all.get(connection));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void reusedInstanceGivesSameResults() {
+
+        final SweepLineIntersectionFinder finder = new SweepLineIntersectionFinder();
+        final Map<TestConnection, SegmentIntersections> intersections = new HashMap<>();
+
+        final Random random = new Random(815);
+        for (int run = 0; run < 50; run++) {
+
+            // alternate between small and large models, so that the buffers of the finder shrink and grow:
+            final Map<TestConnection, PointBuffer> allPoints = createConnections(random, 1 + random.nextInt(run % 2 == 0 ? 5 : 60));
+            final boolean behind = random.nextBoolean();
+
+            finder.find(allPoints, _ -> behind, c -> intersections.computeIfAbsent(c, _ -> new SegmentIntersections()));
+            for (final TestConnection connection : allPoints.keySet()) {
+                assertSameIntersections(IntersectionFinder.find(connection, allPoints, behind),
+                        intersections.get(connection).toArray());
+            }
+        }
+    }
+
+    /**
+     * {@link IntersectionFinder} pads its result arrays with zeros (which are ignored when drawing), so compare all
+     * non-zero values.
+     */
+    private static void assertSameIntersections(final double[][] pExpected, final double[][] pActual) {
+
+        if (pExpected == null) {
+            assertNull(pActual);
+            return;
+        }
+
+        assertEquals(pExpected.length, pActual.length);
+        for (int i = 0; i < pExpected.length; i++) {
+            if (pExpected[i] == null) {
+                assertNull(pActual[i]);
+            } else {
+                final double[] expected = Arrays.stream(pExpected[i]).filter(d -> d != 0).toArray();
+                final double[] actual = Arrays.stream(pActual[i]).filter(d -> d != 0).toArray();
+                assertTrue(pActual[i].length > 0);
+                assertArrayEquals(expected, actual, 0);
+            }
+        }
+    }
+
+    private static Map<TestConnection, PointBuffer> createConnections(final Random pRandom, final int pCount) {
+
+        final Map<TestConnection, PointBuffer> allPoints = new HashMap<>();
+        for (int c = 0; c < pCount; c++) {
+
+            final String sourceType = SOURCE_TYPES[pRandom.nextInt(SOURCE_TYPES.length)];
+            final int parentIndex = pRandom.nextInt(10) == 0 ? -1 : pRandom.nextInt(pCount);
+            final TestConnection connection = new TestConnection(sourceType, parentIndex);
+
+            final boolean firstHorizontal = DefaultConnectorTypes.isLeft(sourceType) || DefaultConnectorTypes.isRight(sourceType);
+            final Point2D[] points = new Point2D[2 + pRandom.nextInt(6)];
+            points[0] = randomPoint(pRandom);
+            for (int i = 1; i < points.length; i++) {
+                final Point2D previous = points[i - 1];
+                if (pRandom.nextInt(8) == 0) {
+                    // not all connections are perfectly rectangular:
+                    points[i] = randomPoint(pRandom);
+                } else if (firstHorizontal == ((i - 1 & 1) == 0)) {
+                    points[i] = new Point2D(randomCoordinate(pRandom), previous.getY());
+                } else {
+                    points[i] = new Point2D(previous.getX(), randomCoordinate(pRandom));
+                }
+            }
+            final PointBuffer buffer = PointBuffer.of(points);
+            assertArrayEquals(points, buffer.toArray());
+            allPoints.put(connection, buffer);
+        }
+        return allPoints;
+    }
+
+    private static PointBuffer points(final double... pCoordinates) {
+        final PointBuffer buffer = new PointBuffer();
+        for (int i = 0; i < pCoordinates.length; i += 2) {
+            buffer.add(pCoordinates[i], pCoordinates[i + 1]);
+        }
+        return buffer;
+    }
+
+    private static Point2D randomPoint(final Random pRandom) {
+        return new Point2D(randomCoordinate(pRandom), randomCoordinate(pRandom));
+    }
+
+    private static double randomCoordinate(final Random pRandom) {
+        // a coarse grid, so that many segments share coordinates:
+        return 10 * pRandom.nextInt(30);
+    }
+
+    private static class TestConnection implements IIntersectionConnection {
+
+        private final GConnection connection = GraphFactory.eINSTANCE.createGConnection();
+        private final int parentIndex;
+
+        TestConnection(final String pSourceType, final int pParentIndex) {
+            final GConnector source = GraphFactory.eINSTANCE.createGConnector();
+            source.setType(pSourceType);
+            connection.setSource(source);
+            parentIndex = pParentIndex;
+        }
+
+        @Override
+        public int getParentIndex() {
+            return parentIndex;
+        }
+
+        @Override
+        public GConnection getItem() {
+            return connection;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.eckig.grapheditor.core.skins.defaults.connection.segment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.geometry.Point2D;
+import javafx.scene.shape.HLineTo;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.PathElement;
+
+public class ConnectionSegmentTest {
+
+    @Test
+    public void elementsAddedToTheListAreKept() {
+
+        final ListSegment segment = new ListSegment(new double[] { 30, 60 });
+        segment.draw();
+        // the helper moves the last line off the pixel:
+        assertXs(segment.getPathElements(), 20, 40, 50, 70, 99.5);
+
+        // drawn again, the elements are added after the ones of the current draw:
+        segment.draw();
+        assertXs(segment.getPathElements(), 20, 40, 50, 70, 99.5);
+    }
+
+    @Test
+    public void elementsCreatedByTheHelpersAreReused() {
+
+        final ListSegment segment = new ListSegment(null);
+        segment.draw();
+        final PathElement straight = segment.getPathElements().get(0);
+
+        segment.draw();
+        assertEquals(1, segment.getPathElements().size());
+        assertSame(straight, segment.getPathElements().get(0));
+    }
+
+    @Test
+    public void listOnlyContainsTheElementsDrawnSoFar() {
+
+        final ListSegment segment = new ListSegment(new double[] { 30, 60 });
+        segment.draw();
+        segment.draw();
+        assertEquals(List.of(0, 1, 3), segment.sizes);
+    }
+
+    private static void assertXs(final List<PathElement> elements, final double... xs) {
+        assertEquals(xs.length, elements.size());
+        for (int i = 0; i < xs.length; i++) {
+            final PathElement element = elements.get(i);
+            assertTrue(element instanceof LineTo || element instanceof HLineTo);
+            assertEquals(xs[i], element instanceof LineTo line ? line.getX() : ((HLineTo) element).getX(), 0);
+        }
+    }
+
+    /**
+     * Draws the gaps around its intersections by adding {@link LineTo} elements to the list of path elements directly.
+     */
+    private static final class ListSegment extends ConnectionSegment {
+
+        private List<Integer> sizes;
+
+        ListSegment(final double[] intersections) {
+            super(new Point2D(0, 0), new Point2D(100, 0), intersections);
+        }
+
+        @Override
+        public void draw() {
+            sizes = new ArrayList<>();
+            super.draw();
+        }
+
+        @Override
+        protected void drawToFirstIntersection(final double intersection) {
+            sizes.add(getPathElements().size());
+            getPathElements().add(new LineTo(intersection - 10, 0));
+        }
+
+        @Override
+        protected void drawBetweenIntersections(final double intersection, final double lastIntersection) {
+            sizes.add(getPathElements().size());
+            getPathElements().add(new LineTo(lastIntersection + 10, 0));
+            getPathElements().add(new LineTo(intersection - 10, 0));
+        }
+
+        @Override
+        protected void drawFromLastIntersection(final double intersection) {
+            sizes.add(getPathElements().size());
+            getPathElements().add(new LineTo(intersection + 10, 0));
+            addHLineTo(getEndX());
+        }
+    }
+}
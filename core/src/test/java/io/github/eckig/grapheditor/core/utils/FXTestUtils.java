@@ -1,5 +1,9 @@
 package io.github.eckig.grapheditor.core.utils;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import javafx.application.Platform;
 import javafx.event.Event;
 import javafx.event.EventType;
 import javafx.scene.Node;
@@ -12,6 +16,38 @@ import javafx.scene.input.MouseEvent;
  */
 public class FXTestUtils {
 
+    /**
+     * Runs the given code on the JavaFX application thread and waits until it has finished. Anything thrown by the code
+     * is rethrown on the calling thread, so that failed assertions fail the test.
+     *
+     * @param runnable the code to run
+     */
+    public static void runOnFxThread(final Runnable runnable) {
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                runnable.run();
+                result.complete(null);
+            } catch (final Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+
+        try {
+            result.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted while waiting for the JavaFX thread", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            } else if (e.getCause() instanceof RuntimeException exception) {
+                throw exception;
+            }
+            throw new AssertionError(e.getCause());
+        }
+    }
+
     /**
      * Forces an update of the {@link Parent}'s layout.
      *
@@ -0,0 +1,252 @@
+package io.github.eckig.grapheditor.core.view.impl;
+
+import static io.github.eckig.grapheditor.core.utils.FXTestUtils.runOnFxThread;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.emf.common.command.Command;
+import org.eclipse.emf.common.command.CompoundCommand;
+import org.eclipse.emf.edit.command.RemoveCommand;
+import org.eclipse.emf.edit.command.SetCommand;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.github.eckig.grapheditor.core.DefaultGraphEditor;
+import io.github.eckig.grapheditor.core.skins.defaults.connection.SimpleConnectionSkin;
+import io.github.eckig.grapheditor.core.view.GraphEditorView;
+import io.github.eckig.grapheditor.model.GConnection;
+import io.github.eckig.grapheditor.model.GConnector;
+import io.github.eckig.grapheditor.model.GJoint;
+import io.github.eckig.grapheditor.model.GModel;
+import io.github.eckig.grapheditor.model.GNode;
+import io.github.eckig.grapheditor.model.GraphFactory;
+import io.github.eckig.grapheditor.model.GraphPackage;
+import io.github.eckig.grapheditor.utils.GraphEditorProperties;
+import javafx.application.Platform;
+
+/**
+ * Checks which tiles the {@link CanvasConnectionLayout} repaints and which connection it finds at a position.
+ *
+ * <p>
+ * The tiles are 512 x 512 large. The first connection lies in the upper left tile, the second one in the tile below
+ * and right of it.
+ * </p>
+ */
+public class CanvasConnectionLayoutTest {
+
+    private DefaultGraphEditor graphEditor;
+    private GModel model;
+    private GConnection first;
+    private GConnection second;
+    private CanvasConnectionLayout layout;
+
+    @Before
+    public void setUp() throws InterruptedException {
+        final CountDownLatch waitInit = new CountDownLatch(1);
+        try {
+            Platform.startup(waitInit::countDown);
+        } catch (final Exception e) {
+            waitInit.countDown();
+        }
+        waitInit.await();
+
+        model = GraphFactory.eINSTANCE.createGModel();
+        first = connect(createNode(20, 20), createNode(300, 300), 250, 70, 350);
+        second = connect(createNode(600, 600), createNode(850, 850), 780, 650, 900);
+
+        final GraphEditorProperties properties = new GraphEditorProperties();
+        properties.setCanvasConnectionRendering(true);
+
+        runOnFxThread(() -> {
+            graphEditor = new DefaultGraphEditor(properties);
+            graphEditor.setModel(model);
+            graphEditor.getView().autosize();
+            graphEditor.getView().layout();
+            layout = (CanvasConnectionLayout) view().getConnectionLayout();
+            layout.draw();
+        });
+    }
+
+    @Test
+    public void connectionsArePaintedIntoTiles() {
+        runOnFxThread(() -> {
+            final int columns = (int) Math.floor(view().getWidth() / 512) + 1;
+            final int rows = (int) Math.floor(view().getHeight() / 512) + 1;
+            assertEquals(columns * rows, layout.getTiles().size());
+            assertSame(view().getConnectionUnderlay(), layout.getTiles().get(0).getParent());
+            assertTrue(skin(first).isPaintedExternally());
+            assertTrue(skin(second).isPaintedExternally());
+        });
+    }
+
+    @Test
+    public void getConnectionAtFindsClosestConnection() {
+        runOnFxThread(() -> {
+            assertSame(first, layout.getConnectionAt(250, 200));
+            assertSame(first, layout.getConnectionAt(253, 200));
+            assertSame(second, layout.getConnectionAt(780, 700));
+            assertNull(layout.getConnectionAt(260, 200));
+            assertNull(layout.getConnectionAt(500, 500));
+        });
+    }
+
+    @Test
+    public void getConnectionAtFollowsChanges() {
+        runOnFxThread(() -> {
+            execute(moveJoints(first, 400));
+            layout.draw();
+
+            assertNull(layout.getConnectionAt(250, 200));
+            assertSame(first, layout.getConnectionAt(400, 200));
+
+            execute(RemoveCommand.create(domain(), model, GraphPackage.Literals.GMODEL__CONNECTIONS, first));
+            layout.draw();
+
+            assertNull(layout.getConnectionAt(400, 200));
+            assertSame(second, layout.getConnectionAt(780, 700));
+        });
+    }
+
+    @Test
+    public void unchangedConnectionsRepaintNothing() {
+        runOnFxThread(() -> {
+            final long painted = layout.getPaintCount();
+            layout.markAllDirty();
+            layout.draw();
+            assertEquals(painted, layout.getPaintCount());
+        });
+    }
+
+    @Test
+    public void changedConnectionRepaintsOnlyItsTiles() {
+        runOnFxThread(() -> {
+            final long painted = layout.getPaintCount();
+            execute(moveJoints(first, 260));
+            layout.draw();
+            assertEquals(painted + 1, layout.getPaintCount());
+
+            // moved into the tile right of it, so both the old and the new tile are repainted:
+            execute(moveJoints(first, 700));
+            layout.draw();
+            assertEquals(painted + 3, layout.getPaintCount());
+        });
+    }
+
+    @Test
+    public void promotedConnectionRepaintsItsTiles() {
+        runOnFxThread(() -> {
+            final long painted = layout.getPaintCount();
+            graphEditor.getSelectionManager().select(second);
+            layout.draw();
+
+            assertFalse(skin(second).isPaintedExternally());
+            assertTrue(skin(first).isPaintedExternally());
+            assertEquals(painted + 1, layout.getPaintCount());
+
+            graphEditor.getSelectionManager().clearSelection();
+            layout.draw();
+
+            assertTrue(skin(second).isPaintedExternally());
+            assertEquals(painted + 2, layout.getPaintCount());
+        });
+    }
+
+    @Test
+    public void removedConnectionRepaintsItsTiles() {
+        runOnFxThread(() -> {
+            final SimpleConnectionSkin removed = skin(first);
+            final long painted = layout.getPaintCount();
+            execute(RemoveCommand.create(domain(), model, GraphPackage.Literals.GMODEL__CONNECTIONS, first));
+            layout.draw();
+
+            assertEquals(painted + 1, layout.getPaintCount());
+            assertFalse(removed.isPaintedExternally());
+        });
+    }
+
+    @Test
+    public void layoutIsDisposedWhenModelChanges() {
+        runOnFxThread(() -> {
+            final SimpleConnectionSkin previous = skin(second);
+            graphEditor.getProperties().setCanvasConnectionRendering(false);
+            graphEditor.setModel(GraphFactory.eINSTANCE.createGModel());
+
+            assertNotSame(layout, view().getConnectionLayout());
+            assertNull(view().getConnectionUnderlay());
+            assertTrue(layout.getTiles().isEmpty());
+            assertFalse(previous.isPaintedExternally());
+        });
+    }
+
+    private GraphEditorView view() {
+        return (GraphEditorView) graphEditor.getView();
+    }
+
+    private SimpleConnectionSkin skin(final GConnection connection) {
+        return (SimpleConnectionSkin) graphEditor.getSkinLookup().lookupConnection(connection);
+    }
+
+    private EditingDomain domain() {
+        return AdapterFactoryEditingDomain.getEditingDomainFor(model);
+    }
+
+    private void execute(final Command command) {
+        domain().getCommandStack().execute(command);
+    }
+
+    private Command moveJoints(final GConnection connection, final double x) {
+        final CompoundCommand command = new CompoundCommand();
+        for (final GJoint joint : connection.getJoints()) {
+            command.append(SetCommand.create(domain(), joint, GraphPackage.Literals.GJOINT__X, x));
+        }
+        return command;
+    }
+
+    private GNode createNode(final double x, final double y) {
+        final GNode node = GraphFactory.eINSTANCE.createGNode();
+        node.setX(x);
+        node.setY(y);
+        node.setWidth(100);
+        node.setHeight(100);
+
+        final GConnector input = GraphFactory.eINSTANCE.createGConnector();
+        input.setType("left-input");
+        final GConnector output = GraphFactory.eINSTANCE.createGConnector();
+        output.setType("right-output");
+        node.getConnectors().add(input);
+        node.getConnectors().add(output);
+
+        model.getNodes().add(node);
+        return node;
+    }
+
+    /**
+     * Connects the output of the source to the input of the target, with a vertical segment at the given x.
+     */
+    private GConnection connect(final GNode source, final GNode target, final double x, final double startY,
+            final double endY) {
+        final GConnection connection = GraphFactory.eINSTANCE.createGConnection();
+        connection.setSource(source.getConnectors().get(1));
+        connection.setTarget(target.getConnectors().get(0));
+        source.getConnectors().get(1).getConnections().add(connection);
+        target.getConnectors().get(0).getConnections().add(connection);
+
+        for (final double y : new double[] { startY, endY }) {
+            final GJoint joint = GraphFactory.eINSTANCE.createGJoint();
+            joint.setX(x);
+            joint.setY(y);
+            connection.getJoints().add(joint);
+        }
+
+        model.getConnections().add(connection);
+        return connection;
+    }
+}
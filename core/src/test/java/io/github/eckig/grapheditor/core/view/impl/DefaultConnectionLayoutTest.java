@@ -0,0 +1,89 @@
+package io.github.eckig.grapheditor.core.view.impl;
+
+import static io.github.eckig.grapheditor.core.utils.FXTestUtils.runOnFxThread;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.github.eckig.grapheditor.GraphEditor;
+import io.github.eckig.grapheditor.core.DefaultGraphEditor;
+import io.github.eckig.grapheditor.core.data.DummyDataFactory;
+import io.github.eckig.grapheditor.model.GModel;
+import javafx.application.Platform;
+
+/**
+ * Checks that redrawing the connections of an unchanged model does not create garbage.
+ */
+public class DefaultConnectionLayoutTest {
+
+    private static final int WARM_UP = 200;
+    private static final int REDRAWS = 1000;
+
+    /**
+     * Some iterators and lambdas are unavoidable, but no points, intersections or path elements should be created.
+     */
+    private static final long MAX_BYTES_PER_REDRAW = 1024;
+
+    private GraphEditor graphEditor;
+    private GModel model;
+
+    @Before
+    public void setUp() throws InterruptedException
+    {
+        graphEditor = new DefaultGraphEditor();
+        model = DummyDataFactory.createModel();
+        graphEditor.setModel(model);
+
+        final CountDownLatch waitInit = new CountDownLatch(1);
+        try
+        {
+            Platform.startup(waitInit::countDown);
+        }
+        catch (Exception e)
+        {
+            waitInit.countDown();
+        }
+        waitInit.await();
+
+        runOnFxThread(() -> {
+            graphEditor.getView().autosize();
+            graphEditor.getView().layout();
+        });
+    }
+
+    @Test
+    public void redrawOfStaticModelCreatesNearlyNoGarbage()
+    {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        final var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+
+        final AtomicLong allocated = new AtomicLong();
+        runOnFxThread(() -> {
+            final DefaultConnectionLayout layout = new DefaultConnectionLayout(graphEditor.getSkinLookup());
+            layout.initialize(model);
+            for (int i = 0; i < WARM_UP; i++)
+            {
+                layout.markAllDirty();
+                layout.draw();
+            }
+
+            final long before = threadBean.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < REDRAWS; i++)
+            {
+                layout.markAllDirty();
+                layout.draw();
+            }
+            allocated.set(threadBean.getCurrentThreadAllocatedBytes() - before);
+        });
+
+        final long bytesPerRedraw = allocated.get() / REDRAWS;
+        assertTrue("Redraw allocated " + bytesPerRedraw + " bytes.", bytesPerRedraw <= MAX_BYTES_PER_REDRAW);
+    }
+}
@@ -1,8 +1,11 @@
 package io.github.eckig.grapheditor.demo.customskins;
 
+import java.util.Collection;
+
 import io.github.eckig.grapheditor.SkinLookup;
 import io.github.eckig.grapheditor.core.view.impl.DefaultConnectionLayout;
 import io.github.eckig.grapheditor.demo.customskins.tree.TreeConnectionSkin;
+import io.github.eckig.grapheditor.model.GConnection;
 import io.github.eckig.grapheditor.model.GModel;
 
 public class DemoConnectionLayout extends DefaultConnectionLayout
@@ -30,4 +33,23 @@ public class DemoConnectionLayout extends DefaultConnectionLayout
             }
         }
     }
+
+    @Override
+    protected void redrawConnections(GModel pModel, Collection<GConnection> pDirty)
+    {
+        super.redrawConnections(pModel, pDirty);
+
+        for (final var connection : pDirty)
+        {
+            final var connectionSkin = getSkinLookup().lookupConnection(connection);
+            if (connectionSkin instanceof TreeConnectionSkin t)
+            {
+                final var points = t.update();
+                if (points != null)
+                {
+                    t.draw(points);
+                }
+            }
+        }
+    }
 }
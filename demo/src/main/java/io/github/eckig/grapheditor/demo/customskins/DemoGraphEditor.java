@@ -25,12 +25,14 @@ import io.github.eckig.grapheditor.utils.GraphEditorProperties;
 import io.github.eckig.grapheditor.utils.RemoveContext;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.scene.layout.Region;
 import javafx.util.Callback;
 import org.eclipse.emf.common.command.Command;
 import org.eclipse.emf.ecore.EObject;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -129,12 +131,48 @@ public class DemoGraphEditor implements GraphEditor
         return mModelProperty.get();
     }
 
+    @Override
+    public CompletableFuture<Void> setModelAsync(final GModel pModel)
+    {
+        return mController.setModelAsync(pModel);
+    }
+
+    @Override
+    public ReadOnlyDoubleProperty modelLoadProgressProperty()
+    {
+        return mController.modelLoadProgressProperty();
+    }
+
     @Override
     public void flush()
     {
         mController.flush();
     }
 
+    @Override
+    public void beginBatch()
+    {
+        mController.beginBatch();
+    }
+
+    @Override
+    public void endBatch()
+    {
+        mController.endBatch();
+    }
+
+    @Override
+    public long getUndoMemoryUsage()
+    {
+        return getModelEditingManager().getUndoMemoryUsage();
+    }
+
+    @Override
+    public int getUndoDepth()
+    {
+        return getModelEditingManager().getUndoDepth();
+    }
+
     @Override
     public ObjectProperty<GModel> modelProperty()
     {